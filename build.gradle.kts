@@ -1,5 +1,6 @@
 import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar
 import org.cadixdev.gradle.licenser.LicenseExtension
+import org.graalvm.buildtools.gradle.dsl.GraalVMExtension
 
 plugins {
     id("java")
@@ -9,6 +10,7 @@ plugins {
 
     alias(libs.plugins.shadow)
     alias(libs.plugins.licenser)
+    alias(libs.plugins.graalvm.native) apply false
 
     eclipse
     idea
@@ -32,6 +34,78 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Java 21 implementations of the multi-release JAR, replacing classes of the same name in src/main/java
+val java21: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java21")
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(java21.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+    options.release.set(21)
+    options.encoding = Charsets.UTF_8.name()
+}
+
+// The regular test task runs the Java 17 classes; this one runs the same tests against the JAR on Java 21
+val testJava21 = tasks.register<Test>("testJava21") {
+    group = "verification"
+    description = "Runs the tests against the multi-release JAR on Java 21."
+    useJUnitPlatform()
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = files(tasks.jar) + sourceSets.test.get().runtimeClasspath - sourceSets.main.get().output
+}
+
+tasks.check {
+    dependsOn(testJava21)
+}
+
+// Startup probe comparing the JVM with a native image, see the "native" profile below
+val startup: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += output + compileClasspath
+}
+
+val precompiledResources = "lang/en.properties"
+
+tasks.register<JavaExec>("startupJvm") {
+    group = "verification"
+    description = "Measures the time until the first translated message on the JVM."
+    classpath = startup.runtimeClasspath
+    mainClass.set("com.izanagicraft.messages.startup.StartupProbe")
+    systemProperty("message-format.precompiled", precompiledResources)
+}
+
+// Native image profile, enabled with -Pnative
+if (providers.gradleProperty("native").isPresent) {
+    apply(plugin = "org.graalvm.buildtools.native")
+
+    configure<GraalVMExtension> {
+        binaries {
+            named("main") {
+                imageName.set("message-format-startup")
+                mainClass.set("com.izanagicraft.messages.startup.StartupProbe")
+                classpath(startup.runtimeClasspath)
+                // Parsed and compiled at build time, see PrecompiledTranslations
+                buildArgs.add("-Dmessage-format.precompiled=$precompiledResources")
+            }
+        }
+    }
+
+    val startupNative = tasks.register<Exec>("startupNative") {
+        group = "verification"
+        description = "Measures the time until the first translated message in a native image."
+        dependsOn("nativeCompile")
+        executable = layout.buildDirectory.file("native/nativeCompile/message-format-startup").get().asFile.path
+    }
+
+    tasks.register("startupComparison") {
+        group = "verification"
+        description = "Compares the startup time of the JVM with a native image."
+        dependsOn("startupJvm", startupNative)
+    }
+}
+
 tasks.compileJava.configure {
     options.encoding = Charsets.UTF_8.name()
     options.release.set(17)
@@ -119,6 +193,12 @@ tasks {
     }
 
     jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
         this.archiveClassifier.set(null as String?)
         this.archiveFileName.set("${project.name}-${project.version}-unshaded.${this.archiveExtension.getOrElse("jar")}")
         this.destinationDirectory.set(file("$projectDir/out/unshaded"))
@@ -142,6 +222,12 @@ tasks.named<ShadowJar>("shadowJar") {
     this.archiveFileName.set("${project.name}-${project.version}.${this.archiveExtension.getOrElse("jar")}")
     this.destinationDirectory.set(file("$projectDir/out"))
     // Get rid of all the libs which are 100% unused.
+    into("META-INF/versions/21") {
+        from(java21.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
     minimize()
     mergeServiceFiles()
 }
@@ -0,0 +1,38 @@
+plugins {
+    id("java")
+    application
+}
+
+group = "com.izanagicraft.messages"
+version = rootProject.version
+description = "Concurrency stress tests verifying the publication guarantees of the translation handlers."
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":"))
+    implementation(libs.jcstress)
+    // Generates the test harnesses and the test list
+    annotationProcessor(libs.jcstress)
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(17))
+}
+
+tasks.compileJava.configure {
+    options.encoding = Charsets.UTF_8.name()
+    options.release.set(17)
+}
+
+application {
+    mainClass.set("org.openjdk.jcstress.Main")
+}
+
+tasks.named<JavaExec>("run") {
+    // Pass arguments with: ./gradlew :jcstress:run --args="-m quick -t LanguageReload"
+    workingDir = layout.buildDirectory.dir("jcstress").get().asFile
+    doFirst { workingDir.mkdirs() }
+}
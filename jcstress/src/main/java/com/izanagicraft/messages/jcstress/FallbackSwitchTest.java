@@ -0,0 +1,112 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.jcstress;
+
+import com.izanagicraft.messages.translations.RenderCache;
+import com.izanagicraft.messages.translations.TieredTranslationStore;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.LLL_Result;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * message-format; com.izanagicraft.messages.jcstress:FallbackSwitchTest
+ * <p>
+ * Moving the fallback to a language kept in the tiered store: German stays
+ * resolvable while it moves out of the store, and a translation without a
+ * locale sees the previous or the new fallback. Once the switch has returned,
+ * the render cache no longer serves the previous fallback.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+@JCStressTest
+@Outcome(id = "Hallo, Hello, Hallo", expect = ACCEPTABLE, desc = "Translated before the fallback switched.")
+@Outcome(id = "Hallo, Hallo, Hallo", expect = ACCEPTABLE, desc = "Translated after the fallback switched.")
+@Outcome(expect = FORBIDDEN, desc = "Observed German in neither the translations nor the store, or a stale cached fallback.")
+@State
+public class FallbackSwitchTest {
+
+    private final TranslationHandler handler = new TranslationHandler();
+
+    public FallbackSwitchTest() {
+        handler.setTranslations(Languages.germanAndEnglish("Hello"));
+        handler.setFallbackLanguage("en");
+        handler.setTieredStore(new TieredTranslationStore(16, 2));
+        RenderCache cache = new RenderCache(16, Duration.ofMinutes(1));
+        cache.markCacheable("greeting");
+        handler.setRenderCache(cache);
+        handler.translate("greeting");
+    }
+
+    @Actor
+    public void switchFallback() {
+        handler.setFallbackLanguage("de");
+    }
+
+    @Actor
+    public void translate(LLL_Result result) {
+        result.r1 = handler.translate(Locale.GERMAN, "greeting");
+        result.r2 = handler.translate("greeting");
+    }
+
+    @Arbiter
+    public void after(LLL_Result result) {
+        result.r3 = handler.translate("greeting");
+    }
+
+}
@@ -0,0 +1,36 @@
+plugins {
+    id("java")
+    application
+}
+
+group = "com.izanagicraft.messages"
+version = rootProject.version
+description = "Load generator measuring translation throughput and latency percentiles."
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":"))
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(17))
+}
+
+tasks.compileJava.configure {
+    options.encoding = Charsets.UTF_8.name()
+    options.release.set(17)
+}
+
+application {
+    mainClass.set("com.izanagicraft.messages.loadtest.LoadTest")
+    // Allocation per message is read from the thread MXBean
+    applicationDefaultJvmArgs = listOf("-Xms1g", "-Xmx1g", "-XX:+UseG1GC")
+}
+
+tasks.named<JavaExec>("run") {
+    // Pass arguments with: ./gradlew :load-test:run --args="--players=500 --duration=60"
+    workingDir = rootProject.projectDir
+}
@@ -0,0 +1,254 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.loadtest;
+
+import com.izanagicraft.messages.translations.GlobalTranslations;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * message-format; com.izanagicraft.messages.loadtest:LoadTest
+ * <p>
+ * Replays a traffic profile against {@link GlobalTranslations#translate(Locale, String, Object...)}
+ * with many concurrent simulated players, on platform and virtual threads, while
+ * the translations are reloaded in the background. Reports throughput, latency
+ * percentiles and allocated bytes per message.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ./gradlew :load-test:run --args="--players=500 --locales=40 --duration=60 --max-p99=500"
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class LoadTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final LoadTestConfig config;
+    private final TrafficProfile profile;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private LoadTest(LoadTestConfig config, TrafficProfile profile) {
+        this.config = config;
+        this.profile = profile;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.usage());
+            System.exit(2);
+            return;
+        }
+
+        TrafficProfile profile = config.profile != null
+                ? TrafficProfile.recorded(config.profile)
+                : TrafficProfile.synthetic(config.locales, config.keys, config.skew);
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        GlobalTranslations.getPlaceholderScope().put("prefix", "[Server]");
+        GlobalTranslations.getPlaceholderScope().put("server", "Lobby-1");
+        GlobalTranslations.getTranslationHandler().setTranslations(profile.bundles(0));
+
+        System.out.printf("%d languages, %d keys, %d players%n", profile.languageCount(), profile.keyCount(), config.players);
+        LoadTest test = new LoadTest(config, profile);
+        boolean passed = true;
+        if (!config.threads.equals("virtual")) passed &= test.run("platform", Executors.newFixedThreadPool(config.players));
+        if (!config.threads.equals("platform")) {
+            ExecutorService virtual = newVirtualThreadExecutor();
+            if (virtual == null) {
+                System.out.println("virtual: skipped, virtual threads need Java 21");
+            } else {
+                passed &= test.run("virtual", virtual);
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Create a virtual thread per task executor if the runtime supports it.
+     * Looked up reflectively, so the load test still builds and runs on Java 17.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Run the warmup and the measured phase on the given executor.
+     *
+     * @return True if the latency stayed within the configured limit.
+     */
+    private boolean run(String mode, ExecutorService executor) throws Exception {
+        ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor();
+        long reloadMillis = config.reloadInterval.toMillis();
+        if (reloadMillis > 0) {
+            reloader.scheduleAtFixedRate(() -> GlobalTranslations.getTranslationHandler().setTranslations(profile.bundles(generation.incrementAndGet())),
+                    reloadMillis, reloadMillis, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            phase(executor, config.warmup.toNanos());
+            int reloadsBefore = generation.get();
+            long allocatedBefore = totalAllocatedBytes();
+            long start = System.nanoTime();
+            List<Worker> workers = phase(executor, config.duration.toNanos());
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = totalAllocatedBytes();
+
+            LatencyHistogram histogram = new LatencyHistogram();
+            long workerAllocated = 0;
+            boolean perThreadAllocation = true;
+            for (Worker worker : workers) {
+                histogram.merge(worker.histogram);
+                if (worker.allocated < 0) perThreadAllocation = false;
+                workerAllocated += worker.allocated;
+            }
+            // Virtual threads do not report their own allocations, fall back to all live threads
+            long allocated = perThreadAllocation ? workerAllocated : allocatedAfter - allocatedBefore;
+
+            report(mode, histogram, elapsed, allocated, generation.get() - reloadsBefore);
+            return config.maxP99Micros < 0 || histogram.percentile(99) <= config.maxP99Micros * 1000;
+        } finally {
+            reloader.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Worker> phase(ExecutorService executor, long durationNanos) throws Exception {
+        long deadline = System.nanoTime() + durationNanos;
+        List<Worker> workers = new ArrayList<>(config.players);
+        List<Future<?>> futures = new ArrayList<>(config.players);
+        for (int i = 0; i < config.players; i++) {
+            Worker worker = new Worker("Player" + i, deadline);
+            workers.add(worker);
+            futures.add(executor.submit(worker));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return workers;
+    }
+
+    private void report(String mode, LatencyHistogram histogram, long elapsedNanos, long allocated, int reloads) {
+        long messages = histogram.count();
+        System.out.printf("%s: %,d messages in %.1f s, %,.0f msg/s, %d reloads%n",
+                mode, messages, elapsedNanos / 1e9, messages / (elapsedNanos / 1e9), reloads);
+        System.out.printf("  latency  p50 %,.2f us  p99 %,.2f us  p999 %,.2f us  max %,.2f us%n",
+                histogram.percentile(50) / 1e3, histogram.percentile(99) / 1e3,
+                histogram.percentile(99.9) / 1e3, histogram.max() / 1e3);
+        System.out.printf("  allocation %,.0f bytes/message%n", messages == 0 ? 0.0 : (double) allocated / messages);
+    }
+
+    private static long totalAllocatedBytes() {
+        long total = 0;
+        for (long allocated : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (allocated > 0) total += allocated;
+        }
+        return total;
+    }
+
+    /**
+     * A simulated player sending messages until the deadline.
+     */
+    private final class Worker implements Runnable {
+
+        private final String name;
+        private final long deadline;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long allocated;
+
+        private Worker(String name, long deadline) {
+            this.name = name;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long thinkNanos = config.thinkTime.toNanos();
+            int sequence = 0;
+            while (System.nanoTime() < deadline) {
+                int message = profile.next();
+                Locale locale = profile.locale(message);
+                String key = profile.key(message);
+
+                long start = System.nanoTime();
+                GlobalTranslations.translate(locale, key, name, sequence, "Diamond Sword", "spawn");
+                histogram.record(System.nanoTime() - start);
+
+                sequence++;
+                if (thinkNanos > 0) LockSupport.parkNanos(thinkNanos);
+            }
+            long allocatedAfter = THREADS.getCurrentThreadAllocatedBytes();
+            allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        }
+    }
+
+}
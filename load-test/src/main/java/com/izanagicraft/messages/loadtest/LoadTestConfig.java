@@ -0,0 +1,130 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * message-format; com.izanagicraft.messages.loadtest:LoadTestConfig
+ * <p>
+ * Settings of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+final class LoadTestConfig {
+
+    int players = 500;
+    int locales = 40;
+    int keys = 2000;
+    double skew = 1.1;
+    Duration warmup = Duration.ofSeconds(5);
+    Duration duration = Duration.ofSeconds(30);
+    Duration reloadInterval = Duration.ofSeconds(5);
+    Duration thinkTime = Duration.ZERO;
+    String threads = "both";
+    Path profile;
+    long maxP99Micros = -1;
+
+    /**
+     * Parse the command line arguments.
+     *
+     * @param args The arguments.
+     * @return The configuration.
+     * @throws IllegalArgumentException If an argument is unknown or malformed.
+     */
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator == -1) throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "players" -> config.players = Integer.parseInt(value);
+                case "locales" -> config.locales = Integer.parseInt(value);
+                case "keys" -> config.keys = Integer.parseInt(value);
+                case "skew" -> config.skew = Double.parseDouble(value);
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "reload-interval" -> config.reloadInterval = Duration.ofMillis(Long.parseLong(value));
+                case "think-time" -> config.thinkTime = Duration.ofNanos(Long.parseLong(value) * 1000);
+                case "threads" -> config.threads = value;
+                case "profile" -> config.profile = Path.of(value);
+                case "max-p99" -> config.maxP99Micros = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (!config.threads.equals("platform") && !config.threads.equals("virtual") && !config.threads.equals("both")) {
+            throw new IllegalArgumentException("--threads must be platform, virtual or both");
+        }
+        return config;
+    }
+
+    /**
+     * Gets the usage text.
+     *
+     * @return The usage text.
+     */
+    static String usage() {
+        return String.join(System.lineSeparator(),
+                "Options (all optional):",
+                "  --players=500          concurrent simulated players",
+                "  --locales=40           number of languages",
+                "  --keys=2000            number of keys per language",
+                "  --skew=1.1             Zipf exponent of the key popularity",
+                "  --warmup=5             warmup seconds, not measured",
+                "  --duration=30          measured seconds per thread mode",
+                "  --reload-interval=5000 milliseconds between reloads, 0 disables reloads",
+                "  --think-time=0         microseconds each player waits between messages",
+                "  --threads=both         platform, virtual or both",
+                "  --profile=<file>       recorded usage profile (UsageProfile.save) to replay",
+                "  --max-p99=<micros>     fail if the p99 latency exceeds this value");
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * message-format; com.izanagicraft.messages.loadtest:TrafficProfile
+ * <p>
+ * A weighted mix of (language, key) messages and the bundles serving them,
+ * either generated with Zipf-distributed key popularity or replayed from a
+ * recorded {@code UsageProfile} file.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+final class TrafficProfile {
+
+    private static final String[] FORMATS = {
+            "${prefix} Hello, ${0}!",
+            "${0} bought ${1} items for ${2} coins.",
+            "Welcome back to ${server}, ${0}. You have ${1} unread messages.",
+            "Quest completed: ${0}",
+            "This message has no placeholders at all.",
+            "${0} was slain by ${1} using ${2} at ${3}."
+    };
+
+    private final Locale[] locales;
+    private final String[] keys;
+    private final double[] cumulative;
+    private final List<String> languageNames;
+    private final List<String> keyNames;
+
+    private TrafficProfile(Locale[] locales, String[] keys, double[] cumulative, List<String> languageNames, List<String> keyNames) {
+        this.locales = locales;
+        this.keys = keys;
+        this.cumulative = cumulative;
+        this.languageNames = languageNames;
+        this.keyNames = keyNames;
+    }
+
+    /**
+     * Generate a profile with uniformly used languages and Zipf-distributed keys.
+     */
+    static TrafficProfile synthetic(int localeCount, int keyCount, double skew) {
+        List<String> languageNames = languageNames(localeCount);
+        List<String> keyNames = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keyNames.add("ns" + (i % 16) + ".key" + i);
+        }
+
+        int size = languageNames.size() * keyCount;
+        Locale[] locales = new Locale[size];
+        String[] keys = new String[size];
+        double[] cumulative = new double[size];
+        double total = 0;
+        int index = 0;
+        for (int k = 0; k < keyCount; k++) {
+            double weight = 1 / Math.pow(k + 1, skew);
+            for (String languageName : languageNames) {
+                total += weight;
+                locales[index] = Locale.forLanguageTag(languageName);
+                keys[index] = keyNames.get(k);
+                cumulative[index++] = total;
+            }
+        }
+        return new TrafficProfile(locales, keys, cumulative, languageNames, keyNames);
+    }
+
+    /**
+     * Replay a recorded usage profile, one {@code count<TAB>language<TAB>key} line per key.
+     */
+    static TrafficProfile recorded(Path file) throws IOException {
+        List<Locale> locales = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        Map<String, Boolean> languageNames = new LinkedHashMap<>();
+        Map<String, Boolean> keyNames = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", 3);
+                if (parts.length < 3) continue;
+                String languageName = parts[1].isEmpty() ? "en" : parts[1];
+                locales.add(Locale.forLanguageTag(languageName));
+                keys.add(parts[2]);
+                weights.add(Double.parseDouble(parts[0]));
+                languageNames.put(languageName, true);
+                keyNames.put(parts[2], true);
+            }
+        }
+        if (keys.isEmpty()) throw new IOException("Empty usage profile: " + file);
+
+        double[] cumulative = new double[weights.size()];
+        double total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += weights.get(i);
+            cumulative[i] = total;
+        }
+        return new TrafficProfile(locales.toArray(new Locale[0]), keys.toArray(new String[0]), cumulative,
+                new ArrayList<>(languageNames.keySet()), new ArrayList<>(keyNames.keySet()));
+    }
+
+    /**
+     * Pick the first languages of the available locales, so realistic language codes are used.
+     */
+    private static List<String> languageNames(int count) {
+        Map<String, Boolean> names = new LinkedHashMap<>();
+        names.put("en", true);
+        for (Locale locale : Locale.getAvailableLocales()) {
+            if (names.size() >= count) break;
+            String language = locale.getLanguage();
+            if (language.length() == 2) names.put(language, true);
+        }
+        return new ArrayList<>(names.keySet());
+    }
+
+    /**
+     * Generate the bundles for all languages and keys of this profile.
+     *
+     * @param generation Changes the texts, so reloads replace every value.
+     * @return The bundles by language name.
+     */
+    Map<String, Properties> bundles(int generation) {
+        Map<String, Properties> bundles = new LinkedHashMap<>();
+        for (String languageName : languageNames) {
+            Properties properties = new Properties();
+            for (int i = 0; i < keyNames.size(); i++) {
+                properties.setProperty(keyNames.get(i), "[" + languageName + "#" + generation + "] " + FORMATS[i % FORMATS.length]);
+            }
+            bundles.put(languageName, properties);
+        }
+        return bundles;
+    }
+
+    /**
+     * Pick a message index according to the weights.
+     */
+    int next() {
+        double target = ThreadLocalRandom.current().nextDouble(cumulative[cumulative.length - 1]);
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] <= target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    Locale locale(int index) {
+        return locales[index];
+    }
+
+    String key(int index) {
+        return keys[index];
+    }
+
+    int languageCount() {
+        return languageNames.size();
+    }
+
+    int keyCount() {
+        return keyNames.size();
+    }
+
+}
@@ -0,0 +1,32 @@
+plugins {
+    id("java")
+    id("java-library")
+}
+
+group = "com.izanagicraft.messages"
+version = rootProject.version
+description = "Annotation processor generating implementations of @Messages interfaces."
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":"))
+
+    testImplementation(platform("org.junit:junit-bom:5.9.1"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(17))
+}
+
+tasks.compileJava.configure {
+    options.encoding = Charsets.UTF_8.name()
+    options.release.set(17)
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
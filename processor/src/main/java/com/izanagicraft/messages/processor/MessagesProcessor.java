@@ -0,0 +1,347 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.processor;
+
+import com.izanagicraft.messages.translations.Message;
+import com.izanagicraft.messages.translations.Messages;
+import com.izanagicraft.messages.translations.TranslationLoader;
+import com.izanagicraft.messages.translations.TypedMessages;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * message-format; com.izanagicraft.messages.processor:MessagesProcessor
+ * <p>
+ * Generates the implementations of {@link Messages} interfaces.
+ * <p>
+ * Every abstract method is bound to a {@code MessageSlot} of its key, and its
+ * arguments are added to {@code MessageArguments.local()} in order, so calls
+ * neither box primitives nor allocate an argument array. Array and varargs
+ * parameters would bind as a single object and are rejected. If the
+ * {@value #BUNDLES_OPTION} option lists language files or directories, every
+ * key has to exist in at least one of them, keys missing in some languages are
+ * warned about, and placeholders referring to arguments a method does not have
+ * fail the build.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * dependencies {
+ *     annotationProcessor("com.izanagicraft.messages:processor:1.0-SNAPSHOT")
+ * }
+ * tasks.compileJava {
+ *     options.compilerArgs.add("-Amessages.bundles=src/main/resources/lang")
+ * }
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+@SupportedAnnotationTypes("com.izanagicraft.messages.translations.Messages")
+@SupportedOptions(MessagesProcessor.BUNDLES_OPTION)
+public class MessagesProcessor extends AbstractProcessor {
+
+    /**
+     * The option listing the language files or directories to validate against, separated by commas.
+     */
+    public static final String BUNDLES_OPTION = "messages.bundles";
+
+    private static final String SLOT = "com.izanagicraft.messages.translations.MessageSlot";
+    private static final String HANDLER = "com.izanagicraft.messages.translations.TranslationHandler";
+    private static final String ARGUMENTS = "com.izanagicraft.messages.placeholders.MessageArguments";
+
+    /**
+     * Argument placeholders, canonical numbers only like {@code MessageTemplate}.
+     */
+    private static final Pattern ARGUMENT = Pattern.compile("\\$\\{(0|[1-9][0-9]{0,8})}");
+
+    /**
+     * The bundles by language name, read on first use, or null if no bundles are configured.
+     */
+    private Map<String, Properties> bundles;
+    private boolean bundlesRead;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Messages.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@Messages is only supported on interfaces");
+            } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+                error(element, "@Messages interfaces must not be generic");
+            } else {
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate the methods of an interface and write its implementation.
+     */
+    private void generate(TypeElement type) {
+        String prefix = type.getAnnotation(Messages.class).value();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + TypedMessages.SUFFIX;
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder slots = new StringBuilder();
+        StringBuilder methods = new StringBuilder();
+        boolean valid = true;
+        int slot = 0;
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT) || isObjectMethod(method)) continue;
+            String key = key(prefix, method);
+            if (!validate(method, key)) {
+                valid = false;
+                continue;
+            }
+
+            List<? extends VariableElement> parameters = method.getParameters();
+            boolean language = !parameters.isEmpty() && isLanguage(parameters.get(0).asType());
+            String field = "slot" + slot++;
+            fields.append("    private final ").append(SLOT).append(' ').append(field).append(";\n");
+            slots.append("        this.").append(field).append(" = new ").append(SLOT).append("(handler, ")
+                    .append(processingEnv.getElementUtils().getConstantExpression(key)).append(");\n");
+
+            methods.append("\n    @Override\n    public java.lang.String ").append(method.getSimpleName()).append('(');
+            for (int i = 0; i < parameters.size(); i++) {
+                if (i > 0) methods.append(", ");
+                VariableElement parameter = parameters.get(i);
+                methods.append(parameter.asType().toString()).append(' ').append(parameter.getSimpleName());
+            }
+            methods.append(") {\n        return this.").append(field).append(".render(");
+            if (language) methods.append(parameters.get(0).getSimpleName()).append(", ");
+            methods.append(ARGUMENTS).append(".local()");
+            for (int i = language ? 1 : 0; i < parameters.size(); i++) {
+                methods.append(".add(").append(parameters.get(i).getSimpleName()).append(')');
+            }
+            methods.append(");\n    }\n");
+        }
+        if (!valid) return;
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(MessagesProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(type.getQualifiedName()).append(" {\n\n")
+                .append(fields)
+                .append("\n    public ").append(simpleName).append('(').append(HANDLER).append(" handler) {\n")
+                .append(slots)
+                .append("    }\n")
+                .append(methods)
+                .append("\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Could not write " + qualifiedName + ": " + e);
+        }
+    }
+
+    /**
+     * Check the signature of a method and its key and placeholders in the bundles.
+     *
+     * @return True if the method can be implemented.
+     */
+    private boolean validate(ExecutableElement method, String key) {
+        if (!method.getReturnType().toString().equals("java.lang.String")) {
+            error(method, "Messages must return String");
+            return false;
+        }
+        if (!method.getTypeParameters().isEmpty()) {
+            error(method, "Messages must not be generic");
+            return false;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            if (parameter.asType().getKind() == TypeKind.ARRAY) {
+                error(parameter, "Message arguments must not be arrays or varargs, declare a parameter per placeholder instead of "
+                        + parameter.getSimpleName());
+                return false;
+            }
+        }
+
+        Map<String, Properties> bundles = bundles();
+        if (bundles == null || bundles.isEmpty()) return true;
+
+        List<? extends VariableElement> parameters = method.getParameters();
+        int arguments = parameters.size() - (!parameters.isEmpty() && isLanguage(parameters.get(0).asType()) ? 1 : 0);
+        Set<String> missing = new TreeSet<>();
+        BitSet used = new BitSet();
+        boolean valid = true;
+        for (Map.Entry<String, Properties> bundle : bundles.entrySet()) {
+            String format = bundle.getValue().getProperty(key);
+            if (format == null) {
+                missing.add(bundle.getKey());
+                continue;
+            }
+            Matcher matcher = ARGUMENT.matcher(format);
+            while (matcher.find()) {
+                int index = Integer.parseInt(matcher.group(1));
+                used.set(index);
+                if (index >= arguments) {
+                    error(method, key + " in " + bundle.getKey() + " uses ${" + index + "}, but " + method.getSimpleName()
+                            + " has " + arguments + " argument" + (arguments == 1 ? "" : "s"));
+                    valid = false;
+                }
+            }
+        }
+
+        if (missing.size() == bundles.size()) {
+            error(method, "Missing translation " + key + " in all bundles");
+            return false;
+        }
+        if (!missing.isEmpty()) warning(method, "Missing translation " + key + " in " + String.join(", ", missing));
+        for (int i = 0; i < arguments; i++) {
+            if (!used.get(i)) warning(method, "Argument " + i + " of " + method.getSimpleName() + " is not used by " + key);
+        }
+        return valid;
+    }
+
+    private static String key(String prefix, ExecutableElement method) {
+        Message message = method.getAnnotation(Message.class);
+        if (message != null) return message.value();
+        return prefix.isEmpty() ? method.getSimpleName().toString() : prefix + "." + method.getSimpleName();
+    }
+
+    private static boolean isLanguage(TypeMirror type) {
+        String name = type.toString();
+        return name.equals("java.util.Locale") || name.equals("com.izanagicraft.messages.strings.WrappedString");
+    }
+
+    /**
+     * Check whether an interface method redeclares a method of {@code Object}, which the implementation inherits.
+     */
+    private static boolean isObjectMethod(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameters = method.getParameters().size();
+        return (parameters == 0 && (name.equals("toString") || name.equals("hashCode")))
+                || (parameters == 1 && name.equals("equals"));
+    }
+
+    /**
+     * Read the bundles listed in the option once.
+     *
+     * @return The bundles by language name, or null if the option is not set.
+     */
+    private Map<String, Properties> bundles() {
+        if (bundlesRead) return bundles;
+        bundlesRead = true;
+        String option = processingEnv.getOptions().get(BUNDLES_OPTION);
+        if (option == null || option.isBlank()) return null;
+
+        TranslationLoader loader = new TranslationLoader();
+        bundles = new LinkedHashMap<>();
+        for (String entry : option.split(",")) {
+            if (entry.isBlank()) continue;
+            Path path = Path.of(entry.trim());
+            List<Path> files = new ArrayList<>();
+            try {
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> listed = Files.list(path)) {
+                        listed.sorted().forEach(files::add);
+                    }
+                } else {
+                    files.add(path);
+                }
+                for (Path file : files) {
+                    Path fileName = file.getFileName();
+                    String langName = fileName == null ? null : TranslationLoader.languageName(fileName.toString());
+                    if (langName != null) bundles.put(langName, loader.read(file));
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not read bundle " + path + ": " + e);
+            }
+        }
+        return bundles;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warning(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+}
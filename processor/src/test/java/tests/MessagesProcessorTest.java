@@ -0,0 +1,231 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package tests;
+
+import com.izanagicraft.messages.processor.MessagesProcessor;
+import com.izanagicraft.messages.strings.WrappedString;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TypedMessages;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:MessagesProcessorTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class MessagesProcessorTest {
+
+    private static final String SHOP = "package shop;\n"
+            + "import com.izanagicraft.messages.translations.Message;\n"
+            + "import com.izanagicraft.messages.translations.Messages;\n"
+            + "import com.izanagicraft.messages.strings.WrappedString;\n"
+            + "import java.util.Locale;\n"
+            + "@Messages(\"shop\")\n"
+            + "public interface Shop {\n"
+            + "    String bought(Locale locale, String item, int count, double price);\n"
+            + "    String bought(WrappedString language, String item, int count, double price);\n"
+            + "    @Message(\"shop.error.funds\")\n"
+            + "    String insufficientFunds(long missing, char currency);\n"
+            + "    default String boughtOne(Locale locale, String item) {\n"
+            + "        return bought(locale, item, 1, 0.5);\n"
+            + "    }\n"
+            + "}\n";
+
+    /**
+     * The result of compiling sources with the processor.
+     */
+    private static final class Compilation {
+
+        private final boolean success;
+        private final Path output;
+        private final List<String> errors = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+
+        private Compilation(boolean success, Path output, DiagnosticCollector<JavaFileObject> diagnostics) {
+            this.success = success;
+            this.output = output;
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                String message = diagnostic.getMessage(Locale.ROOT);
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) errors.add(message);
+                if (diagnostic.getKind() == Diagnostic.Kind.WARNING || diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING) warnings.add(message);
+            }
+        }
+    }
+
+    private static Path bundles(String en, String de) throws IOException {
+        Path directory = Files.createTempDirectory("bundles");
+        Files.writeString(directory.resolve("en.properties"), en, StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("de.properties"), de, StandardCharsets.UTF_8);
+        return directory;
+    }
+
+    private static Compilation compile(String source, Path bundles) throws IOException {
+        Path sources = Files.createTempDirectory("sources");
+        Path output = Files.createTempDirectory("classes");
+        Path file = sources.resolve("shop").resolve("Shop.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(), "-s", output.toString()));
+        if (bundles != null) options.add("-A" + MessagesProcessor.BUNDLES_OPTION + "=" + bundles);
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null, files.getJavaFileObjects(file));
+            task.setProcessors(List.of(new MessagesProcessor()));
+            return new Compilation(task.call(), output, diagnostics);
+        }
+    }
+
+    @Test
+    void testGeneratedImplementation() throws Exception {
+        Path bundles = bundles("shop.bought=${0} x${1} for ${2}\nshop.error.funds=Missing ${0}${1}\n",
+                "shop.bought=${0} x${1} f\\u00fcr ${2}\nshop.error.funds=Es fehlen ${0}${1}\n");
+        Compilation compilation = compile(SHOP, bundles);
+        assertTrue(compilation.success, String.join("\n", compilation.errors));
+        assertEquals(List.of(), compilation.warnings);
+
+        String generated = Files.readString(compilation.output.resolve("shop").resolve("Shop_Messages.java"));
+        assertTrue(generated.contains(".add(item).add(count).add(price)"), generated);
+        assertFalse(generated.contains("Object[]"), generated);
+
+        TranslationHandler handler = new TranslationHandler();
+        handler.load(bundles);
+        handler.setFallbackLanguage("en");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{compilation.output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("shop.Shop");
+            Object shop = TypedMessages.create(type, handler);
+
+            assertEquals("Diamant x3 für 29.97", type.getMethod("bought", Locale.class, String.class, int.class, double.class)
+                    .invoke(shop, Locale.GERMAN, "Diamant", 3, 29.97));
+            assertEquals("Diamond x3 for 29.97", type.getMethod("bought", WrappedString.class, String.class, int.class, double.class)
+                    .invoke(shop, WrappedString.of("en"), "Diamond", 3, 29.97));
+            assertEquals("Missing 12$", type.getMethod("insufficientFunds", long.class, char.class).invoke(shop, 12L, '$'));
+            assertEquals("Stick x1 für 0.5", type.getMethod("boughtOne", Locale.class, String.class).invoke(shop, Locale.GERMAN, "Stick"));
+
+            // Slots resolve their templates again once the languages change
+            Files.writeString(bundles.resolve("en.properties"), "shop.bought=Bought ${1} ${0}\nshop.error.funds=${0}${1} short\n", StandardCharsets.UTF_8);
+            handler.load(bundles.resolve("en.properties"));
+            assertEquals("12$ short", type.getMethod("insufficientFunds", long.class, char.class).invoke(shop, 12L, '$'));
+        }
+    }
+
+    @Test
+    void testValidationAgainstBundles() throws IOException {
+        Compilation compilation = compile(SHOP, bundles("shop.bought=${0} x${1} for ${2} (${3})\n",
+                "shop.bought=${0} x${1}\n"));
+
+        assertFalse(compilation.success);
+        String errors = String.join("\n", compilation.errors);
+        assertTrue(errors.contains("shop.bought in en uses ${3}, but bought has 3 arguments"), errors);
+        assertTrue(errors.contains("Missing translation shop.error.funds in all bundles"), errors);
+    }
+
+    @Test
+    void testWarningsAndUnvalidatedBuilds() throws IOException {
+        Compilation compilation = compile(SHOP, bundles("shop.bought=${0} x${1} for ${2}\nshop.error.funds=Missing ${0}\n",
+                "shop.bought=${0} x${1} for ${2}\n"));
+        assertTrue(compilation.success, String.join("\n", compilation.errors));
+        String warnings = compilation.warnings.stream().collect(Collectors.joining("\n"));
+        assertTrue(warnings.contains("Missing translation shop.error.funds in de"), warnings);
+        assertTrue(warnings.contains("Argument 1 of insufficientFunds is not used by shop.error.funds"), warnings);
+
+        // Without bundles, only signatures are checked
+        assertTrue(compile(SHOP, null).success);
+        Compilation invalid = compile(SHOP.replace("String insufficientFunds", "int insufficientFunds"), null);
+        assertFalse(invalid.success);
+        assertTrue(String.join("\n", invalid.errors).contains("Messages must return String"));
+    }
+
+    @Test
+    void testFloatsAndArrays() throws Exception {
+        String source = "package shop;\n"
+                + "import com.izanagicraft.messages.translations.Messages;\n"
+                + "@Messages(\"shop\")\n"
+                + "public interface Shop {\n"
+                + "    String discount(float factor);\n"
+                + "}\n";
+        Compilation compilation = compile(source, null);
+        assertTrue(compilation.success, String.join("\n", compilation.errors));
+
+        TranslationHandler handler = new TranslationHandler();
+        Path bundles = bundles("shop.discount=x${0}\n", "shop.discount=x${0}\n");
+        handler.load(bundles);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{compilation.output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("shop.Shop");
+            assertEquals("x1.1", type.getMethod("discount", float.class).invoke(TypedMessages.create(type, handler), 1.1f));
+        }
+
+        Compilation varargs = compile(source.replace("float factor", "Object... items"), null);
+        assertFalse(varargs.success);
+        assertTrue(String.join("\n", varargs.errors).contains("must not be arrays or varargs"), String.join("\n", varargs.errors));
+        assertFalse(compile(source.replace("float factor", "int[] counts"), null).success);
+    }
+
+}
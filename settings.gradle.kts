@@ -1,2 +1,5 @@
 rootProject.name = "message-format"
 
+include("load-test")
+include("jcstress")
+include("processor")
@@ -0,0 +1,357 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.client;
+
+import com.izanagicraft.messages.placeholders.EscapeMode;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * message-format; com.izanagicraft.messages.client:ClientLanguageExporter
+ * <p>
+ * Exports the languages of a {@link TranslationHandler} as client resource-pack
+ * language files ({@code assets/<namespace>/lang/<language>.json}) and turns
+ * translations into lightweight "translatable key + arguments" payloads.
+ * <p>
+ * Numeric placeholders ({@code ${0}}) are mapped to positional client arguments
+ * ({@code %1$s}); named placeholders are inlined from the handler's default
+ * replacements at export time. Keys whose placeholders cannot be mapped are not
+ * exported and are always rendered on the server. If the default replacements
+ * or the translations change after an export, all messages are rendered on the
+ * server until the languages are exported again.
+ * <p>
+ * Languages are exported under their lower-cased name unless they are mapped
+ * to client languages, e.g. {@code en} to {@code en_us} and {@code en_gb}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ClientLanguageExporter exporter = new ClientLanguageExporter(translations, "myplugin.");
+ * exporter.mapLanguage("en", "en_us", "en_gb");
+ * exporter.export(resourcePackRoot, "myplugin");
+ *
+ * ClientMessage message = exporter.message(player.getLocale(), "greeting", player.getName());
+ * if (message.isTranslatable()) sendTranslatable(message.getKey(), message.getArgs());
+ * else sendText(message.getText());
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class ClientLanguageExporter {
+
+    private final TranslationHandler handler;
+    private final String keyPrefix;
+
+    /**
+     * The client languages of server languages that are not exported under their own name.
+     */
+    private final Map<String, List<String>> clientLanguages = new ConcurrentHashMap<>();
+
+    /**
+     * The keys exported in every language they exist in, with the number of
+     * positional arguments the client formats need.
+     */
+    private volatile Map<String, Integer> renderableKeys = Map.of();
+
+    /**
+     * The version of the default replacements inlined by the last export.
+     */
+    private volatile long exportedScopeVersion = -1;
+
+    /**
+     * Counts the translation changes reported by the handler.
+     */
+    private final AtomicLong translationsVersion = new AtomicLong();
+
+    /**
+     * The translation changes seen before the last export.
+     */
+    private volatile long exportedTranslationsVersion = -1;
+
+    /**
+     * Creates an exporter without key prefix.
+     *
+     * @param handler The handler to export.
+     */
+    public ClientLanguageExporter(TranslationHandler handler) {
+        this(handler, "");
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param handler   The handler to export.
+     * @param keyPrefix The prefix for client keys, avoiding clashes with other resource packs.
+     */
+    public ClientLanguageExporter(TranslationHandler handler, String keyPrefix) {
+        this.handler = handler;
+        this.keyPrefix = keyPrefix;
+        handler.addChangeListener(deltas -> translationsVersion.incrementAndGet());
+    }
+
+    /**
+     * Convert a server format string into the client format.
+     *
+     * @param template The compiled server format.
+     * @param defaults The default replacements to inline.
+     * @return The client format, or null if a placeholder cannot be mapped.
+     */
+    static String toClientFormat(MessageTemplate template, Map<String, Object> defaults) {
+        StringBuilder builder = new StringBuilder(template.getSource().length() + 8);
+        for (int i = 0; i < template.getSlotCount(); i++) {
+            appendEscaped(builder, template.getLiteral(i));
+            int argIndex = template.getArgIndex(i);
+            if (argIndex >= 0) {
+                builder.append('%').append(argIndex + 1).append("$s");
+            } else if (defaults.containsKey(template.getSlot(i))) {
+                appendEscaped(builder, String.valueOf(defaults.get(template.getSlot(i))));
+            } else {
+                return null;
+            }
+        }
+        appendEscaped(builder, template.getLiteral(template.getSlotCount()));
+        return builder.toString();
+    }
+
+    /**
+     * Gets the number of positional arguments a template needs, so missing
+     * arguments can still be filled from the default replacements on the server.
+     */
+    private static int requiredArgs(MessageTemplate template) {
+        int required = 0;
+        for (int i = 0; i < template.getSlotCount(); i++) {
+            required = Math.max(required, template.getArgIndex(i) + 1);
+        }
+        return required;
+    }
+
+    private static void appendEscaped(StringBuilder builder, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '%') builder.append('%');
+            builder.append(c);
+        }
+    }
+
+    /**
+     * Gets the client language file name of a language, e.g. {@code en_us} for {@code en_US}.
+     *
+     * @param langName The language name.
+     * @return The client language name.
+     */
+    public static String clientLanguageName(String langName) {
+        return langName.replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Export a language as the given client languages instead of under its own name.
+     *
+     * @param langName    The language name.
+     * @param clientNames The client language names, e.g. {@code en_us}.
+     */
+    public void mapLanguage(String langName, String... clientNames) {
+        clientLanguages.put(langName, List.of(clientNames));
+    }
+
+    /**
+     * Gets the client languages a language is exported as.
+     *
+     * @param langName The language name.
+     * @return The client language names.
+     */
+    public List<String> getClientLanguages(String langName) {
+        return clientLanguages.getOrDefault(langName, List.of(clientLanguageName(langName)));
+    }
+
+    /**
+     * Convert a language into client translations.
+     *
+     * @param langName The language name.
+     * @return The client translations by client key, sorted by key; empty if the language is not loaded.
+     */
+    public Map<String, String> convert(String langName) {
+        return convert(handler.getLanguage(langName), handler.getPlaceholderScope().getReplacements());
+    }
+
+    private Map<String, String> convert(Properties properties, Map<String, Object> defaults) {
+        Map<String, String> converted = new TreeMap<>();
+        if (properties == null) return converted;
+        for (String key : properties.stringPropertyNames()) {
+            String format = toClientFormat(handler.getPlaceholderHandler().compile(properties.getProperty(key)), defaults);
+            if (format != null) converted.put(keyPrefix + key, format);
+        }
+        return converted;
+    }
+
+    /**
+     * Export all languages into a resource pack.
+     *
+     * @param resourcePackRoot The root directory of the resource pack.
+     * @param namespace        The resource pack namespace.
+     * @return The written language files.
+     * @throws IOException If a file could not be written.
+     */
+    public Set<Path> export(Path resourcePackRoot, String namespace) throws IOException {
+        long translations = translationsVersion.get();
+        PlaceholderScope.Snapshot defaults = handler.getPlaceholderScope().snapshot();
+        Path directory = resourcePackRoot.resolve("assets").resolve(namespace).resolve("lang");
+        Files.createDirectories(directory);
+
+        Set<Path> written = new HashSet<>();
+        Map<String, Integer> renderable = new HashMap<>();
+        for (String langName : handler.getLanguageNames()) {
+            Properties properties = handler.getLanguage(langName);
+            Map<String, String> converted = convert(properties, defaults.getValues());
+            if (properties != null) {
+                for (String key : properties.stringPropertyNames()) {
+                    int arity = converted.containsKey(keyPrefix + key)
+                            ? requiredArgs(handler.getPlaceholderHandler().compile(properties.getProperty(key)))
+                            : -1;
+                    renderable.merge(key, arity, (a, b) -> a < 0 || b < 0 ? -1 : Math.max(a, b));
+                }
+            }
+
+            for (String clientName : getClientLanguages(langName)) {
+                Path file = directory.resolve(clientName + ".json");
+                try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    writeJson(writer, converted);
+                }
+                written.add(file);
+            }
+        }
+
+        renderable.values().removeIf(arity -> arity < 0);
+        renderableKeys = Collections.unmodifiableMap(renderable);
+        exportedScopeVersion = defaults.getVersion();
+        exportedTranslationsVersion = translations;
+        return written;
+    }
+
+    /**
+     * Write client translations as JSON object.
+     *
+     * @param writer       The writer to write to.
+     * @param translations The client translations.
+     * @throws IOException If writing fails.
+     */
+    public static void writeJson(Writer writer, Map<String, String> translations) throws IOException {
+        writer.write("{");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            writer.write(first ? "\n  " : ",\n  ");
+            first = false;
+            writeJsonString(writer, entry.getKey());
+            writer.write(": ");
+            writeJsonString(writer, entry.getValue());
+        }
+        writer.write(first ? "}\n" : "\n}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        EscapeMode.JSON.escapeTo(builder, value);
+        writer.append(builder.append('"'));
+    }
+
+    /**
+     * Check whether a key is currently rendered by the client.
+     *
+     * @param key The translation key.
+     * @return True if the key was exported and neither the default replacements nor the translations changed since.
+     */
+    public boolean isClientRenderable(String key) {
+        return requiredArgs(key) >= 0;
+    }
+
+    private int requiredArgs(String key) {
+        if (exportedScopeVersion != handler.getPlaceholderScope().getVersion()) return -1;
+        if (exportedTranslationsVersion != translationsVersion.get()) return -1;
+        Integer required = renderableKeys.get(key);
+        return required == null ? -1 : required;
+    }
+
+    /**
+     * Create the payload for a message: a translatable key with arguments if the
+     * client can render it with the given arguments, otherwise the text rendered
+     * on the server.
+     *
+     * @param locale The locale of the client, used for server-side rendering.
+     * @param key    The translation key.
+     * @param args   Arguments for placeholders.
+     * @return The client message.
+     */
+    public ClientMessage message(Locale locale, String key, Object... args) {
+        int required = requiredArgs(key);
+        if (required < 0 || args.length < required) return ClientMessage.text(handler.translate(locale, key, args));
+        String[] clientArgs = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            clientArgs[i] = String.valueOf(args[i]);
+        }
+        return ClientMessage.translatable(keyPrefix + key, clientArgs);
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.client;
+
+import java.util.Arrays;
+
+/**
+ * message-format; com.izanagicraft.messages.client:ClientMessage
+ * <p>
+ * A message to send to a client, either as translatable key with positional
+ * arguments that the client translates itself, or as text rendered on the server.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class ClientMessage {
+
+    private static final String[] NO_ARGS = new String[0];
+
+    private final String key;
+    private final String[] args;
+    private final String text;
+
+    private ClientMessage(String key, String[] args, String text) {
+        this.key = key;
+        this.args = args;
+        this.text = text;
+    }
+
+    /**
+     * Creates a message translated by the client.
+     *
+     * @param key  The client translation key.
+     * @param args The positional arguments.
+     * @return The translatable message.
+     */
+    public static ClientMessage translatable(String key, String... args) {
+        return new ClientMessage(key, args.length == 0 ? NO_ARGS : args.clone(), null);
+    }
+
+    /**
+     * Creates a message rendered on the server.
+     *
+     * @param text The rendered text.
+     * @return The text message.
+     */
+    public static ClientMessage text(String text) {
+        return new ClientMessage(null, NO_ARGS, text);
+    }
+
+    /**
+     * Check whether the client translates this message.
+     *
+     * @return True for translatable messages, false for rendered text.
+     */
+    public boolean isTranslatable() {
+        return key != null;
+    }
+
+    /**
+     * Gets the client translation key.
+     *
+     * @return The key, or null for rendered text.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the positional arguments of a translatable message.
+     *
+     * @return A copy of the arguments; empty for rendered text.
+     */
+    public String[] getArgs() {
+        return args.clone();
+    }
+
+    /**
+     * Gets the number of positional arguments.
+     *
+     * @return The argument count.
+     */
+    public int getArgCount() {
+        return args.length;
+    }
+
+    /**
+     * Gets a positional argument.
+     *
+     * @param index The argument index.
+     * @return The argument.
+     */
+    public String getArg(int index) {
+        return args[index];
+    }
+
+    /**
+     * Gets the server-rendered text.
+     *
+     * @return The text, or null for translatable messages.
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return isTranslatable() ? "ClientMessage{key=" + key + ", args=" + Arrays.toString(args) + "}" : "ClientMessage{text=" + text + "}";
+    }
+
+}
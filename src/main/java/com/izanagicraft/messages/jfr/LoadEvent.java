@@ -0,0 +1,116 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * message-format; com.izanagicraft.messages.jfr:LoadEvent
+ * <p>
+ * JFR event for loading or reloading languages.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+@Name("com.izanagicraft.messages.Load")
+@Label("Translations Load")
+@Description("Languages loaded or reloaded into a translation handler")
+@Category({"IzanagiCraft", "Message Format"})
+@StackTrace(false)
+public final class LoadEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("Where the languages came from, e.g. files, paths, resources or stream")
+    String source;
+
+    @Label("Files")
+    @Description("The number of files or resources given")
+    int files;
+
+    @Label("Languages")
+    @Description("The number of languages loaded; unchanged sources are skipped")
+    int languages;
+
+    @Label("Keys")
+    @Description("The number of keys of all loaded languages")
+    int keys;
+
+    @Label("Reload")
+    @Description("Whether a loaded language replaced an already loaded one")
+    boolean reload;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param source    Where the languages came from.
+     * @param files     The number of files or resources given.
+     * @param languages The loaded languages.
+     * @param reload    Whether a loaded language replaced an already loaded one.
+     */
+    public void finish(String source, int files, Map<String, Properties> languages, boolean reload) {
+        end();
+        if (!shouldCommit()) return;
+        this.source = source;
+        this.files = files;
+        this.languages = languages.size();
+        int keyCount = 0;
+        for (Properties properties : languages.values()) {
+            keyCount += properties.size();
+        }
+        this.keys = keyCount;
+        this.reload = reload;
+        commit();
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:EscapeMode
+ * <p>
+ * The output contexts a message can be rendered for.
+ * <p>
+ * Rendering with an escape mode escapes the literal text of a template once per
+ * mode and caches it on the template; only placeholder values are escaped while
+ * they are appended. The result is the same as escaping the whole rendered text,
+ * without scanning the static text again on every render.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * String json = "{\"content\":\"" + template.render(args, defaults, EscapeMode.JSON) + "\"}";
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public enum EscapeMode {
+
+    /**
+     * No escaping.
+     */
+    NONE {
+        @Override
+        String replacement(char c) {
+            return null;
+        }
+    },
+
+    /**
+     * The content of a JSON string: quotes, backslashes and control characters are escaped.
+     */
+    JSON {
+        @Override
+        String replacement(char c) {
+            switch (c) {
+                case '"':
+                    return "\\\"";
+                case '\\':
+                    return "\\\\";
+                case '\n':
+                    return "\\n";
+                case '\r':
+                    return "\\r";
+                case '\t':
+                    return "\\t";
+                case '\b':
+                    return "\\b";
+                case '\f':
+                    return "\\f";
+                case '\u2028':
+                    return "\\u2028";
+                case '\u2029':
+                    return "\\u2029";
+                default:
+                    return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+            }
+        }
+    },
+
+    /**
+     * HTML text and attribute values: {@code & < > " '} are replaced with character references.
+     */
+    HTML {
+        @Override
+        String replacement(char c) {
+            switch (c) {
+                case '&':
+                    return "&amp;";
+                case '<':
+                    return "&lt;";
+                case '>':
+                    return "&gt;";
+                case '"':
+                    return "&quot;";
+                case '\'':
+                    return "&#39;";
+                default:
+                    return null;
+            }
+        }
+    },
+
+    /**
+     * Tag-based chat markup such as MiniMessage: tag openings and backslashes are escaped with a backslash,
+     * so values cannot open tags of their own.
+     */
+    MARKUP {
+        @Override
+        String replacement(char c) {
+            switch (c) {
+                case '<':
+                    return "\\<";
+                case '\\':
+                    return "\\\\";
+                default:
+                    return null;
+            }
+        }
+    };
+
+    /**
+     * Gets the replacement of a character.
+     *
+     * @param c The character.
+     * @return The escaped form, or null if the character is kept as is.
+     */
+    abstract String replacement(char c);
+
+    /**
+     * Escape a text.
+     *
+     * @param text The text to escape.
+     * @return The escaped text, or the text itself if nothing had to be escaped.
+     */
+    public String escape(String text) {
+        int first = firstEscaped(text);
+        if (first == -1) return text;
+        StringBuilder builder = new StringBuilder(text.length() + 16);
+        escapeTo(builder, text, first);
+        return builder.toString();
+    }
+
+    /**
+     * Append an escaped text to a builder.
+     *
+     * @param builder The builder to append to.
+     * @param text    The text to escape.
+     */
+    public void escapeTo(StringBuilder builder, String text) {
+        int first = firstEscaped(text);
+        if (first == -1) {
+            builder.append(text);
+        } else {
+            escapeTo(builder, text, first);
+        }
+    }
+
+    /**
+     * Append an escaped range of a text to a builder.
+     *
+     * @param builder The builder to append to.
+     * @param text    The text to escape.
+     * @param start   The index of the first character to append.
+     * @param end     The index after the last character to append.
+     */
+    void escapeTo(StringBuilder builder, String text, int start, int end) {
+        if (this == NONE) {
+            builder.append(text, start, end);
+            return;
+        }
+        int literalStart = start;
+        for (int i = start; i < end; i++) {
+            String replacement = replacement(text.charAt(i));
+            if (replacement == null) continue;
+            builder.append(text, literalStart, i).append(replacement);
+            literalStart = i + 1;
+        }
+        builder.append(text, literalStart, end);
+    }
+
+    private void escapeTo(StringBuilder builder, String text, int first) {
+        builder.append(text, 0, first);
+        int start = first;
+        for (int i = first, length = text.length(); i < length; i++) {
+            String replacement = replacement(text.charAt(i));
+            if (replacement == null) continue;
+            builder.append(text, start, i).append(replacement);
+            start = i + 1;
+        }
+        builder.append(text, start, text.length());
+    }
+
+    /**
+     * Find the first character that has to be escaped.
+     *
+     * @return Its index, or -1 if the text can be kept as is.
+     */
+    private int firstEscaped(String text) {
+        if (this == NONE) return -1;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            if (replacement(text.charAt(i)) != null) return i;
+        }
+        return -1;
+    }
+
+}
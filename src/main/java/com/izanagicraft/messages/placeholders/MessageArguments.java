@@ -0,0 +1,400 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+import java.util.Arrays;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:MessageArguments
+ * <p>
+ * A reusable set of positional arguments that keeps {@code int}, {@code long},
+ * {@code float}, {@code double}, {@code boolean} and {@code char} values unboxed.
+ * <p>
+ * Numeric values are written into the output buffer with the primitive
+ * {@code StringBuilder.append} overloads, so binding and rendering them neither
+ * boxes the values nor allocates a varargs array or an intermediate string.
+ * An instance is meant to be reused, e.g. the one of the current thread from
+ * {@link #local()}; it is not thread-safe. A set handed out by {@link #local()} stays
+ * taken until it was rendered or {@link #clear() cleared}; meanwhile {@link #local()}
+ * hands out another set of the thread, so nested messages bound while the outer
+ * arguments are bound, or rendered from an argument's {@code toString}, do not
+ * clear the arguments of the outer message.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * String text = translations.translate(locale, "bank.balance", MessageArguments.local().add(balance).add(interest));
+ * String position = translations.translate(locale, "debug.position", MessageArguments.local().add(x).add(y).add(z));
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class MessageArguments {
+
+    private static final ThreadLocal<MessageArguments> LOCAL = ThreadLocal.withInitial(MessageArguments::new);
+
+    /**
+     * The maximum number of nested argument sets kept per thread; deeper nesting gets unpooled sets.
+     */
+    private static final int MAX_POOLED = 8;
+
+    private static final byte OBJECT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte CHAR = 4;
+    private static final byte FLOAT = 5;
+
+    private byte[] kinds;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+
+    /**
+     * The number of arguments; all arguments below it are bound, unset ones as null.
+     */
+    private int size;
+
+    /**
+     * Whether the set was handed out by {@link #local()} and not rendered yet, or is being rendered.
+     */
+    boolean inUse;
+
+    /**
+     * The next set of the thread, handed out by {@link #local()} while this one is in use.
+     */
+    private MessageArguments next;
+
+    /**
+     * Creates an empty argument set.
+     */
+    public MessageArguments() {
+        this(4);
+    }
+
+    /**
+     * Creates an empty argument set sized for the given number of arguments.
+     *
+     * @param capacity The initial capacity.
+     */
+    public MessageArguments(int capacity) {
+        int initial = Math.max(1, capacity);
+        kinds = new byte[initial];
+        longs = new long[initial];
+        doubles = new double[initial];
+        objects = new Object[initial];
+    }
+
+    /**
+     * Gets a cleared argument set of the current thread, taken until it is rendered.
+     * Calls made while the set of the thread is taken get another set, so nested
+     * messages keep the outer arguments.
+     *
+     * @return The cleared argument set.
+     */
+    public static MessageArguments local() {
+        MessageArguments arguments = LOCAL.get();
+        for (int depth = 1; arguments.inUse; depth++) {
+            if (arguments.next == null) {
+                if (depth >= MAX_POOLED) return new MessageArguments();
+                arguments.next = new MessageArguments();
+            }
+            arguments = arguments.next;
+        }
+        arguments.clear();
+        arguments.inUse = true;
+        return arguments;
+    }
+
+    /**
+     * Bind an {@code int} or {@code long} argument.
+     *
+     * @param index The argument index.
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, long value) {
+        slot(index, LONG);
+        longs[index] = value;
+        return this;
+    }
+
+    /**
+     * Bind a {@code float} argument, rendered like {@link Float#toString(float)}.
+     *
+     * @param index The argument index.
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, float value) {
+        slot(index, FLOAT);
+        doubles[index] = value;
+        return this;
+    }
+
+    /**
+     * Bind a {@code double} argument.
+     *
+     * @param index The argument index.
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, double value) {
+        slot(index, DOUBLE);
+        doubles[index] = value;
+        return this;
+    }
+
+    /**
+     * Bind a {@code boolean} argument.
+     *
+     * @param index The argument index.
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, boolean value) {
+        slot(index, BOOLEAN);
+        longs[index] = value ? 1 : 0;
+        return this;
+    }
+
+    /**
+     * Bind a {@code char} argument.
+     *
+     * @param index The argument index.
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, char value) {
+        slot(index, CHAR);
+        longs[index] = value;
+        return this;
+    }
+
+    /**
+     * Bind an object argument.
+     *
+     * @param index The argument index.
+     * @param value The value, may be null.
+     * @return This argument set.
+     */
+    public MessageArguments set(int index, Object value) {
+        slot(index, OBJECT);
+        objects[index] = value;
+        return this;
+    }
+
+    /**
+     * Bind an {@code int} or {@code long} argument at the next index.
+     *
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments add(long value) {
+        return set(size, value);
+    }
+
+    /**
+     * Bind a {@code float} argument at the next index, rendered like {@link Float#toString(float)}.
+     *
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments add(float value) {
+        return set(size, value);
+    }
+
+    /**
+     * Bind a {@code double} argument at the next index.
+     *
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments add(double value) {
+        return set(size, value);
+    }
+
+    /**
+     * Bind a {@code boolean} argument at the next index.
+     *
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments add(boolean value) {
+        return set(size, value);
+    }
+
+    /**
+     * Bind a {@code char} argument at the next index.
+     *
+     * @param value The value.
+     * @return This argument set.
+     */
+    public MessageArguments add(char value) {
+        return set(size, value);
+    }
+
+    /**
+     * Bind an object argument at the next index.
+     *
+     * @param value The value, may be null.
+     * @return This argument set.
+     */
+    public MessageArguments add(Object value) {
+        return set(size, value);
+    }
+
+    /**
+     * Gets the number of arguments.
+     *
+     * @return One more than the highest bound index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove all arguments, releasing bound objects. A set of {@link #local()} that
+     * will not be rendered is handed back to the thread this way.
+     */
+    public void clear() {
+        Arrays.fill(objects, 0, size, null);
+        Arrays.fill(kinds, 0, size, OBJECT);
+        size = 0;
+        inUse = false;
+    }
+
+    /**
+     * Gets an argument, boxing primitive values.
+     *
+     * @param index The argument index.
+     * @return The argument, or null if it is not bound.
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= size) return null;
+        switch (kinds[index]) {
+            case LONG:
+                return longs[index];
+            case DOUBLE:
+                return doubles[index];
+            case FLOAT:
+                return (float) doubles[index];
+            case BOOLEAN:
+                return longs[index] != 0;
+            case CHAR:
+                return (char) longs[index];
+            default:
+                return objects[index];
+        }
+    }
+
+    /**
+     * Copy the arguments into an array, boxing primitive values.
+     *
+     * @return The arguments.
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Append an argument to a builder without boxing it.
+     *
+     * @param builder The builder to append to.
+     * @param index   The argument index, below {@link #size()}.
+     */
+    void appendTo(StringBuilder builder, int index) {
+        switch (kinds[index]) {
+            case LONG:
+                builder.append(longs[index]);
+                break;
+            case DOUBLE:
+                builder.append(doubles[index]);
+                break;
+            case FLOAT:
+                builder.append((float) doubles[index]);
+                break;
+            case BOOLEAN:
+                builder.append(longs[index] != 0);
+                break;
+            case CHAR:
+                builder.append((char) longs[index]);
+                break;
+            default:
+                builder.append(objects[index]);
+        }
+    }
+
+    /**
+     * Prepare a slot for a value of the given kind, growing the arrays if necessary.
+     */
+    private void slot(int index, byte kind) {
+        if (index < 0) throw new IndexOutOfBoundsException("Negative argument index: " + index);
+        if (index >= kinds.length) {
+            int capacity = Math.max(index + 1, kinds.length * 2);
+            kinds = Arrays.copyOf(kinds, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        if (kinds[index] == OBJECT) objects[index] = null;
+        kinds[index] = kind;
+        if (index >= size) size = index + 1;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
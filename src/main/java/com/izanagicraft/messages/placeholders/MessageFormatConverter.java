@@ -0,0 +1,140 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:MessageFormatConverter
+ * <p>
+ * Converts {@link java.text.MessageFormat} patterns into the {@code ${0}} syntax
+ * of {@link MessageTemplate}.
+ * <p>
+ * Plain arguments ({@code {0}}) become numeric placeholders, and the quoting
+ * rules of {@code MessageFormat} are resolved: {@code ''} becomes a single quote
+ * and quoted sections ({@code '{literal}'}) become literal text. Arguments with
+ * a format type ({@code {0,number,integer}}, {@code {0,choice,...}}) have no
+ * equivalent and are not converted; neither are patterns whose literal text
+ * would read as a placeholder of their own.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * String format = MessageFormatConverter.convert("Player {0} doesn''t exist"); // "Player ${0} doesn't exist"
+ * MessageTemplate template = MessageTemplate.compile(format);
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class MessageFormatConverter {
+
+    // instantiation prevention
+    private MessageFormatConverter() {
+    }
+
+    /**
+     * Convert a {@code MessageFormat} pattern into a template format string.
+     *
+     * @param pattern The {@code MessageFormat} pattern.
+     * @return The format string, or null if the pattern uses features that cannot be converted.
+     */
+    public static String convert(String pattern) {
+        int length = pattern.length();
+        StringBuilder builder = new StringBuilder(length + 8);
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    builder.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int close = pattern.indexOf('}', i + 1);
+                if (close == -1) return null;
+                int index = parseIndex(pattern, i + 1, close);
+                if (index == -1) return null;
+                builder.append("${").append(index).append('}');
+                i = close;
+            } else {
+                // A literal brace after a dollar sign would be read as a placeholder
+                if (c == '{' && builder.length() > 0 && builder.charAt(builder.length() - 1) == '$') return null;
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Check whether a pattern can be converted.
+     *
+     * @param pattern The {@code MessageFormat} pattern.
+     * @return True if {@link #convert(String)} succeeds.
+     */
+    public static boolean isConvertible(String pattern) {
+        return convert(pattern) != null;
+    }
+
+    /**
+     * Parse the argument index between the braces of a plain argument.
+     *
+     * @return The index, or -1 if the argument is not a plain index.
+     */
+    private static int parseIndex(String pattern, int start, int end) {
+        if (start == end || end - start > 9) return -1;
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+}
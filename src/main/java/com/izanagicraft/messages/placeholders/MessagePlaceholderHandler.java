@@ -46,13 +46,11 @@
 
 package com.izanagicraft.messages.placeholders;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import com.izanagicraft.messages.jfr.CacheEvictionEvent;
+import com.izanagicraft.messages.jfr.RenderEvent;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * message-format; com.izanagicraft.messages.placeholders:MessagePlaceholderHandler
@@ -65,13 +63,35 @@ import java.util.regex.Pattern;
  */
 public class MessagePlaceholderHandler {
 
-    private Map<String, Object> defaultReplacements;
+    /**
+     * The maximum number of compiled templates kept in the template cache.
+     */
+    private static final int TEMPLATE_CACHE_LIMIT = 16384;
+
+    /**
+     * The scope holding the default replacements of this handler.
+     */
+    private final PlaceholderScope scope;
+
+    /**
+     * Cache of compiled templates keyed by their format string.
+     */
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new MessagePlaceholderHandler with an empty set of default replacements.
      */
     public MessagePlaceholderHandler() {
-        this.defaultReplacements = new ConcurrentHashMap<>();
+        this(new PlaceholderScope());
+    }
+
+    /**
+     * Constructs a new MessagePlaceholderHandler using the given scope for default replacements.
+     *
+     * @param scope The scope holding the default replacements.
+     */
+    public MessagePlaceholderHandler(PlaceholderScope scope) {
+        this.scope = scope;
     }
 
     /**
@@ -86,51 +106,127 @@ public class MessagePlaceholderHandler {
 
     /**
      * Fast format a string with given values for placeholders.
+     * <p>
+     * The format string is scanned once from left to right without compiling it,
+     * which suits strings that are only formatted once. Placeholders without a
+     * value are replaced with {@code null}; everything else, including {@code %},
+     * is kept as is. A string without {@code $} is returned unchanged.
      *
      * @param format The format string with placeholders.
      * @param values Values to replace placeholders.
      * @return Formatted string.
      */
     public String fastFormat(String format, Map<String, Object> values) {
-        // Create a copy of the default replacements to avoid modifying the original map
-        Map<String, Object> replacements = new HashMap<>(getDefaultReplacements());
-        replacements.putAll(StaticMessagePlaceholders.getDefaultReplacements());
-
-        // Add values to the replacements map, but only for keys that do not already exist
-        values.forEach((key, value) -> replacements.putIfAbsent(key, value));
+        return scan(format, values, EscapeMode.NONE);
+    }
 
-        // Create a StringBuilder to modify the format string
-        StringBuilder formatter = new StringBuilder(format);
+    /**
+     * Format a string with given values for placeholders for an output context.
+     * <p>
+     * Like {@link #fastFormat(String, Map)}, the format string is scanned once without
+     * compiling or caching it, so one-shot strings do not fill the template cache; the
+     * literal text and the values are escaped while they are appended. Messages formatted
+     * repeatedly should be {@link #compile(String) compiled} instead, whose templates
+     * escape their literal text only once per mode.
+     *
+     * @param format The format string with placeholders.
+     * @param values Values to replace placeholders.
+     * @param mode   The escape mode applied to the literal text and the values.
+     * @return Formatted and escaped string.
+     */
+    public String fastFormat(String format, Map<String, Object> values, EscapeMode mode) {
+        return scan(format, values, mode);
+    }
 
-        // Create a list to store the replacement values
-        List<Object> valueList = new ArrayList<>();
+    /**
+     * Format a string in a single pass from left to right, escaping it for a mode.
+     */
+    private static String scan(String format, Map<String, Object> values, EscapeMode mode) {
+        // String.indexOf(char) is a vectorized intrinsic, so even long texts are skipped quickly
+        int index = format.indexOf('$');
+        if (index == -1) return mode.escape(format);
 
-        // Create a matcher to find placeholders in the format string
-        Matcher matcher = Pattern.compile("\\$\\{(\\w+)}").matcher(format);
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        int length = format.length();
+        StringBuilder builder = null;
+        int literalStart = 0;
+        // The shortest placeholder "${x}" needs three more characters after the '$'
+        while (index != -1 && index + 3 < length) {
+            if (format.charAt(index + 1) == '{') {
+                // Read the placeholder name up to the closing brace
+                int nameEnd = index + 2;
+                while (nameEnd < length && MessageTemplate.isWordChar(format.charAt(nameEnd))) nameEnd++;
 
-        // Iterate through the format string and find placeholders
-        while (matcher.find()) {
-            // Extract the placeholder key from the match
-            String key = matcher.group(1);
+                if (nameEnd > index + 2 && nameEnd < length && format.charAt(nameEnd) == '}') {
+                    if (builder == null) builder = new StringBuilder(length + 16);
+                    mode.escapeTo(builder, format, literalStart, index);
+                    Object value = values.get(format.substring(index + 2, nameEnd));
+                    if (mode == EscapeMode.NONE) {
+                        builder.append(value);
+                    } else {
+                        mode.escapeTo(builder, String.valueOf(value));
+                    }
+                    literalStart = nameEnd + 1;
+                    index = format.indexOf('$', literalStart);
+                    continue;
+                }
+            }
+            index = format.indexOf('$', index + 1);
+        }
 
-            // Create the format key in the format "${key}"
-            String formatKey = String.format("${%s}", key);
+        String text;
+        if (builder == null) {
+            text = mode.escape(format);
+        } else {
+            mode.escapeTo(builder, format, literalStart, length);
+            text = builder.toString();
+        }
+        event.finish(null, null, text.length());
+        return text;
+    }
 
-            // Find the index of the format key in the formatter
-            int index = formatter.indexOf(formatKey);
+    /**
+     * Compile a format string into a template, reusing previously compiled templates.
+     * <p>
+     * Templates are cached by their format string. Once the cache is full,
+     * further format strings are compiled without being cached.
+     *
+     * @param format The format string with placeholders.
+     * @return The compiled template.
+     */
+    public MessageTemplate compile(String format) {
+        MessageTemplate template = templates.get(format);
+        if (template != null) return template;
 
-            // If the format key is found
-            if (index != -1) {
-                // Replace the format key with "%s" for formatting
-                formatter.replace(index, index + formatKey.length(), "%s");
+        template = MessageTemplate.compile(format);
+        if (templates.size() < TEMPLATE_CACHE_LIMIT) {
+            MessageTemplate existing = templates.putIfAbsent(format, template);
+            if (existing != null) return existing;
+        }
+        return template;
+    }
 
-                // Add the corresponding value to the value list
-                valueList.add(values.get(key));
-            }
+    /**
+     * Add templates compiled ahead of time to the cache, e.g. before their translations were published.
+     * Templates of format strings that are already cached are kept, and nothing is added once the cache is full.
+     *
+     * @param compiled The compiled templates by format string.
+     */
+    public void addTemplates(Map<String, MessageTemplate> compiled) {
+        for (Map.Entry<String, MessageTemplate> entry : compiled.entrySet()) {
+            if (templates.size() >= TEMPLATE_CACHE_LIMIT) return;
+            templates.putIfAbsent(entry.getKey(), entry.getValue());
         }
+    }
 
-        // Use String.format to replace placeholders with values and return the formatted string
-        return String.format(formatter.toString(), valueList.toArray());
+    /**
+     * Remove all cached templates.
+     */
+    public void clearTemplates() {
+        int count = templates.size();
+        templates.clear();
+        if (count > 0) CacheEvictionEvent.emit(CacheEvictionEvent.TEMPLATES, null, count);
     }
 
     /**
@@ -139,32 +235,35 @@ public class MessagePlaceholderHandler {
      * @param additionalReplacements The additional replacements to add or update.
      */
     public void addDefaultReplacements(Map<String, Object> additionalReplacements) {
-        if (additionalReplacements != null) {
-            // Update the default replacements with the additional replacements
-            this.defaultReplacements.putAll(additionalReplacements);
-        }
+        // Update the default replacements with the additional replacements
+        this.scope.putAll(additionalReplacements);
     }
 
     /**
      * Get the default replacements for placeholders.
      *
-     * @return The default replacements.
+     * @return An immutable snapshot of the default replacements.
      */
     public Map<String, Object> getDefaultReplacements() {
-        return this.defaultReplacements;
+        return this.scope.getReplacements();
     }
 
     /**
      * Set the default replacements for placeholders.
      *
-     * @param defaultReplacements The default replacements to set.
+     * @param defaultReplacements The default replacements to set, or null to clear them.
      */
     public void setDefaultReplacements(Map<String, Object> defaultReplacements) {
-        if (defaultReplacements != null) {
-            // Set the default replacements for placeholders
-            this.defaultReplacements = new ConcurrentHashMap<>(defaultReplacements);
-        } else {
-            this.defaultReplacements = new ConcurrentHashMap<>();
-        }
+        // Atomically replace the default replacements for placeholders
+        this.scope.set(defaultReplacements);
+    }
+
+    /**
+     * Gets the scope holding the default replacements of this handler.
+     *
+     * @return The placeholder scope.
+     */
+    public PlaceholderScope getScope() {
+        return this.scope;
     }
 }
@@ -0,0 +1,487 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:MessageTemplate
+ * <p>
+ * A precompiled message format.
+ * <p>
+ * The format string is split once into literal segments and placeholder slots
+ * ({@code ${name}}), so rendering only appends segments and slot values
+ * instead of searching the format string again on every call.
+ * <p>
+ * Templates rendered often are promoted to a generated renderer by the
+ * {@link TemplateCompiler}; see there for details.
+ * <p>
+ * Rendering for an {@link EscapeMode} escapes the literal segments once per mode
+ * and keeps them on the template; only the slot values are escaped per render.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * MessageTemplate template = MessageTemplate.compile("${prefix} Hello, ${0}!");
+ * String text = template.render(new Object[]{"John"}, Map.of("prefix", "[PREFIX]"));
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class MessageTemplate {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The original format string.
+     */
+    private final String source;
+
+    /**
+     * The literal segments; there is always one more literal than slots.
+     */
+    private final String[] literals;
+
+    /**
+     * The placeholder names in order of appearance.
+     */
+    private final String[] slots;
+
+    /**
+     * The argument index of each slot, or -1 if the slot is not a numeric placeholder.
+     */
+    private final int[] argIndices;
+
+    /**
+     * The summed length of all literal segments, used to presize output buffers.
+     */
+    private final int literalLength;
+
+    /**
+     * The number of interpreted renders. Updated without synchronization, lost
+     * increments only delay the promotion slightly.
+     */
+    private int invocations;
+
+    /**
+     * The generated renderer once this template is hot.
+     */
+    private volatile TemplateRenderer renderer;
+
+    /**
+     * The escaped literal segments per escape mode. Replaced, never modified, when a mode is added.
+     */
+    private volatile Map<EscapeMode, String[]> escapedLiterals = Map.of();
+
+    private MessageTemplate(String source, String[] literals, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.argIndices = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            argIndices[i] = parseIndex(slots[i]);
+        }
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a format string into a template.
+     * <p>
+     * Placeholders have the form {@code ${name}} where the name consists of word
+     * characters ({@code [a-zA-Z0-9_]}). Anything else is kept as literal text.
+     *
+     * @param format The format string to compile.
+     * @return The compiled template.
+     */
+    public static MessageTemplate compile(String format) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int length = format.length();
+        int literalStart = 0;
+        int index = format.indexOf("${");
+        while (index != -1) {
+            // Read the placeholder name up to the closing brace
+            int nameEnd = index + 2;
+            while (nameEnd < length && isWordChar(format.charAt(nameEnd))) nameEnd++;
+
+            if (nameEnd > index + 2 && nameEnd < length && format.charAt(nameEnd) == '}') {
+                literals.add(format.substring(literalStart, index));
+                slots.add(format.substring(index + 2, nameEnd));
+                literalStart = nameEnd + 1;
+                index = format.indexOf("${", literalStart);
+            } else {
+                // Not a valid placeholder, keep it as literal text
+                index = format.indexOf("${", index + 1);
+            }
+        }
+        literals.add(format.substring(literalStart));
+
+        return new MessageTemplate(format, literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * Check whether a character is allowed in a placeholder name.
+     *
+     * @param c The character to check.
+     * @return True if the character is a word character.
+     */
+    static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Parse a placeholder name as argument index.
+     * Only canonical numbers (as produced by {@code "" + i}) are treated as indices.
+     *
+     * @param name The placeholder name.
+     * @return The argument index, or -1 if the name is no canonical number.
+     */
+    private static int parseIndex(String name) {
+        if (name.isEmpty() || name.length() > 9) return -1;
+        if (name.length() > 1 && name.charAt(0) == '0') return -1;
+        int value = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Render the template with named values.
+     *
+     * @param values Values to replace placeholders.
+     * @return Rendered text.
+     */
+    public String render(Map<String, ?> values) {
+        if (slots.length == 0) return source;
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        renderTo(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * Render the template with named values into a builder.
+     *
+     * @param builder The builder to append to.
+     * @param values  Values to replace placeholders.
+     */
+    public void renderTo(StringBuilder builder, Map<String, ?> values) {
+        // Without arguments every slot, numeric or not, is taken from the values
+        renderTo(builder, NO_ARGS, values);
+    }
+
+    /**
+     * Render the template with positional arguments and default replacements.
+     * <p>
+     * Numeric placeholders ({@code ${0}}, {@code ${1}}, ...) are taken from the
+     * arguments if present, every other placeholder from the default replacements.
+     *
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     * @return Rendered text.
+     */
+    public String render(Object[] args, Map<String, ?> defaults) {
+        if (slots.length == 0) return source;
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        renderTo(builder, args, defaults);
+        return builder.toString();
+    }
+
+    /**
+     * Render the template with positional arguments and default replacements into a builder.
+     *
+     * @param builder  The builder to append to.
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     */
+    public void renderTo(StringBuilder builder, Object[] args, Map<String, ?> defaults) {
+        TemplateRenderer compiled = renderer;
+        if (compiled != null) {
+            compiled.renderTo(builder, args, defaults);
+            return;
+        }
+        if (slots.length > 0) countInvocation();
+
+        for (int i = 0; i < slots.length; i++) {
+            int argIndex = argIndices[i];
+            Object value = argIndex >= 0 ? slotValue(args, argIndex, defaults, slots[i]) : defaults.get(slots[i]);
+            builder.append(literals[i]).append(value);
+        }
+        builder.append(literals[slots.length]);
+    }
+
+    /**
+     * Render the template with unboxed positional arguments and default replacements.
+     *
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     * @return Rendered text.
+     */
+    public String render(MessageArguments args, Map<String, ?> defaults) {
+        if (slots.length == 0) {
+            // Rendered all the same, a set of MessageArguments.local() is free again
+            args.inUse = false;
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        renderTo(builder, args, defaults);
+        return builder.toString();
+    }
+
+    /**
+     * Render the template with unboxed positional arguments and default replacements into a builder.
+     * Primitive arguments are written into the builder directly.
+     *
+     * @param builder  The builder to append to.
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     */
+    public void renderTo(StringBuilder builder, MessageArguments args, Map<String, ?> defaults) {
+        // Nested renders from the arguments' toString get another local set, and a set of local() is free afterwards
+        args.inUse = true;
+        try {
+            int size = args.size();
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(literals[i]);
+                int argIndex = argIndices[i];
+                if (argIndex >= 0 && argIndex < size) {
+                    args.appendTo(builder, argIndex);
+                } else {
+                    builder.append(defaults.get(slots[i]));
+                }
+            }
+            builder.append(literals[slots.length]);
+        } finally {
+            args.inUse = false;
+        }
+    }
+
+    /**
+     * Render the template with named values for an output context.
+     *
+     * @param values Values to replace placeholders.
+     * @param mode   The escape mode applied to the literal text and the values.
+     * @return Rendered and escaped text.
+     */
+    public String render(Map<String, ?> values, EscapeMode mode) {
+        return render(NO_ARGS, values, mode);
+    }
+
+    /**
+     * Render the template with positional arguments and default replacements for an output context.
+     *
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     * @param mode     The escape mode applied to the literal text and the values.
+     * @return Rendered and escaped text.
+     */
+    public String render(Object[] args, Map<String, ?> defaults, EscapeMode mode) {
+        if (mode == EscapeMode.NONE) return render(args, defaults);
+        if (slots.length == 0) return escapedLiterals(mode)[0];
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * 16);
+        renderTo(builder, args, defaults, mode);
+        return builder.toString();
+    }
+
+    /**
+     * Render the template with positional arguments and default replacements for an output context into a builder.
+     *
+     * @param builder  The builder to append to.
+     * @param args     Arguments for numeric placeholders.
+     * @param defaults Default replacements for all other placeholders.
+     * @param mode     The escape mode applied to the literal text and the values.
+     */
+    public void renderTo(StringBuilder builder, Object[] args, Map<String, ?> defaults, EscapeMode mode) {
+        if (mode == EscapeMode.NONE) {
+            renderTo(builder, args, defaults);
+            return;
+        }
+        String[] escaped = escapedLiterals(mode);
+        for (int i = 0; i < slots.length; i++) {
+            int argIndex = argIndices[i];
+            Object value = argIndex >= 0 ? slotValue(args, argIndex, defaults, slots[i]) : defaults.get(slots[i]);
+            builder.append(escaped[i]);
+            mode.escapeTo(builder, String.valueOf(value));
+        }
+        builder.append(escaped[slots.length]);
+    }
+
+    /**
+     * Gets the literal segments escaped for a mode, escaping them on first use.
+     */
+    private String[] escapedLiterals(EscapeMode mode) {
+        String[] escaped = escapedLiterals.get(mode);
+        if (escaped != null) return escaped;
+        escaped = new String[literals.length];
+        for (int i = 0; i < literals.length; i++) {
+            escaped[i] = mode.escape(literals[i]);
+        }
+        synchronized (this) {
+            Map<EscapeMode, String[]> updated = new EnumMap<>(EscapeMode.class);
+            updated.putAll(escapedLiterals);
+            updated.put(mode, escaped);
+            escapedLiterals = updated;
+        }
+        return escaped;
+    }
+
+    /**
+     * Resolve the value of a numeric slot. Also called by generated renderers.
+     *
+     * @param args     Arguments for numeric placeholders.
+     * @param index    The argument index of the slot.
+     * @param defaults Default replacements for missing arguments.
+     * @param name     The placeholder name of the slot.
+     * @return The argument, or the default replacement if there are not enough arguments.
+     */
+    static Object slotValue(Object[] args, int index, Map<String, ?> defaults, String name) {
+        return index < args.length ? args[index] : defaults.get(name);
+    }
+
+    /**
+     * Count an interpreted render and promote this template once it is hot.
+     */
+    private void countInvocation() {
+        int threshold = TemplateCompiler.getThreshold();
+        if (threshold <= 0 || ++invocations < threshold) return;
+        synchronized (this) {
+            if (renderer != null || invocations < threshold) return;
+            TemplateRenderer compiled = TemplateCompiler.compile(this);
+            if (compiled == null) {
+                // Not compilable, keep interpreting without trying again
+                invocations = Integer.MIN_VALUE;
+            } else {
+                renderer = compiled;
+            }
+        }
+    }
+
+    /**
+     * Gets the original format string.
+     *
+     * @return The format string this template was compiled from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the number of placeholder slots.
+     *
+     * @return The slot count.
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the placeholder name of a slot.
+     *
+     * @param slot The slot index.
+     * @return The placeholder name.
+     */
+    public String getSlot(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Gets the argument index of a slot.
+     *
+     * @param slot The slot index.
+     * @return The argument index, or -1 if the slot is not a numeric placeholder.
+     */
+    public int getArgIndex(int slot) {
+        return argIndices[slot];
+    }
+
+    /**
+     * Gets a literal segment. Literal {@code i} precedes slot {@code i};
+     * the last literal follows the last slot.
+     *
+     * @param index The literal index, from 0 to {@link #getSlotCount()} inclusive.
+     * @return The literal segment.
+     */
+    public String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * Check whether the template has been promoted to a generated renderer.
+     *
+     * @return True if rendering runs generated code.
+     */
+    public boolean isCompiled() {
+        return renderer != null;
+    }
+
+    /**
+     * Check whether the template has no placeholders.
+     *
+     * @return True if rendering always returns the source string.
+     */
+    public boolean isConstant() {
+        return slots.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:PlaceholderScope
+ * <p>
+ * A scope of default replacements for placeholders.
+ * <p>
+ * Every scope publishes its replacements as an immutable, versioned {@link Snapshot}.
+ * Changes never modify a published snapshot but replace it (copy-on-write), so
+ * renderers only read a single volatile reference and never block writers or
+ * each other. A scope may have a parent scope; its snapshot then contains the
+ * replacements of the parent, overridden by the scope's own replacements, and is
+ * rebuilt whenever the parent changes.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * PlaceholderScope network = new PlaceholderScope();
+ * network.put("network", "IzanagiCraft");
+ *
+ * PlaceholderScope server = new PlaceholderScope(network);
+ * server.put("server", "Lobby-1");
+ *
+ * Map<String, Object> replacements = server.getReplacements(); // network and server
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class PlaceholderScope {
+
+    private final PlaceholderScope parent;
+
+    /**
+     * Child scopes that have to be rebuilt when this scope changes.
+     */
+    private final List<WeakReference<PlaceholderScope>> children = new ArrayList<>();
+
+    /**
+     * The replacements set on this scope only. Guarded by {@code this}, never modified after publication.
+     */
+    private Map<String, Object> own = Map.of();
+
+    /**
+     * The effective replacements including the parent's.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a scope without parent.
+     */
+    public PlaceholderScope() {
+        this(null);
+    }
+
+    /**
+     * Creates a scope inheriting the replacements of a parent scope.
+     *
+     * @param parent The parent scope, or null for none.
+     */
+    public PlaceholderScope(PlaceholderScope parent) {
+        this.parent = parent;
+        if (parent != null) {
+            synchronized (parent) {
+                parent.children.add(new WeakReference<>(this));
+                this.snapshot = new Snapshot(0, parent.snapshot.values);
+            }
+        } else {
+            this.snapshot = new Snapshot(0, Map.of());
+        }
+    }
+
+    /**
+     * Gets the current snapshot of the effective replacements.
+     *
+     * @return The current snapshot.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the effective replacements, including the ones inherited from the parent scope.
+     *
+     * @return An immutable map of the current replacements.
+     */
+    public Map<String, Object> getReplacements() {
+        return snapshot.values;
+    }
+
+    /**
+     * Gets the replacements set on this scope, excluding inherited ones.
+     *
+     * @return An immutable map of this scope's replacements.
+     */
+    public synchronized Map<String, Object> getOwnReplacements() {
+        return own;
+    }
+
+    /**
+     * Gets the version of the current snapshot. The version increases with every change.
+     *
+     * @return The snapshot version.
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Gets the parent scope.
+     *
+     * @return The parent scope, or null if this scope has none.
+     */
+    public PlaceholderScope getParent() {
+        return parent;
+    }
+
+    /**
+     * Creates a new scope with this scope as parent.
+     *
+     * @return The new child scope.
+     */
+    public PlaceholderScope createChild() {
+        return new PlaceholderScope(this);
+    }
+
+    /**
+     * Add or update a replacement.
+     *
+     * @param key   The placeholder name.
+     * @param value The replacement value.
+     */
+    public void put(String key, Object value) {
+        putAll(Collections.singletonMap(key, value));
+    }
+
+    /**
+     * Add or update replacements.
+     *
+     * @param replacements The replacements to add or update, may be null.
+     */
+    public void putAll(Map<String, ?> replacements) {
+        if (replacements == null || replacements.isEmpty()) return;
+        synchronized (this) {
+            Map<String, Object> updated = new HashMap<>(own);
+            updated.putAll(replacements);
+            publish(updated);
+        }
+    }
+
+    /**
+     * Remove a replacement from this scope. Inherited replacements are not affected.
+     *
+     * @param key The placeholder name.
+     */
+    public synchronized void remove(String key) {
+        if (!own.containsKey(key)) return;
+        Map<String, Object> updated = new HashMap<>(own);
+        updated.remove(key);
+        publish(updated);
+    }
+
+    /**
+     * Replace all replacements of this scope.
+     *
+     * @param replacements The new replacements, or null to clear this scope.
+     */
+    public synchronized void set(Map<String, ?> replacements) {
+        publish(replacements == null ? new HashMap<>() : new HashMap<>(replacements));
+    }
+
+    /**
+     * Remove all replacements of this scope. Inherited replacements are not affected.
+     */
+    public void clear() {
+        set(null);
+    }
+
+    /**
+     * Publish new own replacements and rebuild the snapshots of this scope and its children.
+     *
+     * @param updated The new own replacements, not shared with anyone else.
+     */
+    private void publish(Map<String, Object> updated) {
+        own = Collections.unmodifiableMap(updated);
+        rebuild();
+    }
+
+    /**
+     * Rebuild the effective snapshot. Locks are always taken from parent to child.
+     */
+    private synchronized void rebuild() {
+        Map<String, Object> values;
+        if (parent == null) {
+            values = own;
+        } else {
+            Map<String, Object> inherited = parent.snapshot.values;
+            if (own.isEmpty()) {
+                values = inherited;
+            } else {
+                Map<String, Object> merged = new HashMap<>(inherited);
+                merged.putAll(own);
+                values = Collections.unmodifiableMap(merged);
+            }
+        }
+        snapshot = new Snapshot(snapshot.version + 1, values);
+
+        children.removeIf(reference -> {
+            PlaceholderScope child = reference.get();
+            if (child == null) return true;
+            child.rebuild();
+            return false;
+        });
+    }
+
+    /**
+     * An immutable, versioned view of the effective replacements of a scope.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final Map<String, Object> values;
+
+        private Snapshot(long version, Map<String, Object> values) {
+            this.version = version;
+            this.values = values;
+        }
+
+        /**
+         * Gets the version of this snapshot.
+         *
+         * @return The snapshot version.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the replacements of this snapshot.
+         *
+         * @return An immutable map of replacements.
+         */
+        public Map<String, Object> getValues() {
+            return values;
+        }
+    }
+
+}
@@ -85,6 +85,18 @@ public class StaticMessagePlaceholders {
         return placeholderHandler.fastFormat(format, values);
     }
 
+    /**
+     * Format a string with given values for placeholders for an output context.
+     *
+     * @param format The format string with placeholders.
+     * @param values Values to replace placeholders.
+     * @param mode   The escape mode applied to the literal text and the values.
+     * @return Formatted and escaped string.
+     */
+    public static String fastFormat(String format, Map<String, Object> values, EscapeMode mode) {
+        return placeholderHandler.fastFormat(format, values, mode);
+    }
+
     /**
      * Add or update default replacements for placeholders.
      *
@@ -112,4 +124,15 @@ public class StaticMessagePlaceholders {
         placeholderHandler.setDefaultReplacements(defaultReplacements);
     }
 
+    /**
+     * Gets the global placeholder scope.
+     * <p>
+     * Translation handlers created without an explicit scope inherit from this scope.
+     *
+     * @return The global placeholder scope.
+     */
+    public static PlaceholderScope getScope() {
+        return placeholderHandler.getScope();
+    }
+
 }
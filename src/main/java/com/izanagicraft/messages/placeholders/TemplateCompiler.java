@@ -0,0 +1,417 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.placeholders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * message-format; com.izanagicraft.messages.placeholders:TemplateCompiler
+ * <p>
+ * The second tier of template rendering.
+ * <p>
+ * Every {@link MessageTemplate} counts how often it is rendered. Once a template
+ * reaches the compile threshold, a renderer class is generated for it at runtime
+ * and defined as hidden class: literals become string constants and the slots are
+ * unrolled into straight-line appends, so no loop or per-slot dispatch is left.
+ * Cold templates keep being interpreted, and so do templates whose renderer
+ * could not be generated; such failures are counted instead of printed, see
+ * {@link #getFailedCount()}.
+ * <p>
+ * Generated classes are only referenced by their template. Once a template is
+ * dropped, e.g. when translations are reloaded, its class can be unloaded.
+ * <p>
+ * Native images cannot define classes at runtime, so compilation is disabled
+ * there and all templates are interpreted.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * TemplateCompiler.setThreshold(500);  // compile templates after 500 renders
+ * TemplateCompiler.setThreshold(0);    // disable compilation
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class TemplateCompiler {
+
+    /**
+     * The default number of renders after which a template is compiled.
+     */
+    public static final int DEFAULT_THRESHOLD = 2000;
+
+    private static final String CLASS_NAME = "com/izanagicraft/messages/placeholders/GeneratedTemplateRenderer";
+    private static final String RENDERER_NAME = "com/izanagicraft/messages/placeholders/TemplateRenderer";
+    private static final String TEMPLATE_NAME = "com/izanagicraft/messages/placeholders/MessageTemplate";
+    private static final String RENDER_DESCRIPTOR = "(Ljava/lang/StringBuilder;[Ljava/lang/Object;Ljava/util/Map;)V";
+    private static final String SLOT_VALUE_DESCRIPTOR = "([Ljava/lang/Object;ILjava/util/Map;Ljava/lang/String;)Ljava/lang/Object;";
+
+    /**
+     * The maximum bytecode length of a method.
+     */
+    private static final int MAX_CODE_LENGTH = 65535;
+
+    /**
+     * Whether this code runs in, or is being built into, a GraalVM native image.
+     */
+    private static final boolean NATIVE_IMAGE = System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+
+    private static volatile int threshold = NATIVE_IMAGE ? 0 : DEFAULT_THRESHOLD;
+
+    private static final AtomicLong generated = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static volatile Throwable lastFailure;
+
+    // instantiation prevention
+    private TemplateCompiler() {
+    }
+
+    /**
+     * Gets the number of renders after which a template is compiled.
+     *
+     * @return The compile threshold; 0 if compilation is disabled.
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Set the number of renders after which a template is compiled.
+     * Templates that are already compiled stay compiled.
+     *
+     * Ignored in native images, where compilation is always disabled.
+     *
+     * @param renders The compile threshold, or 0 to disable compilation.
+     */
+    public static void setThreshold(int renders) {
+        if (renders < 0) throw new IllegalArgumentException("threshold must not be negative");
+        if (NATIVE_IMAGE) return;
+        threshold = renders;
+    }
+
+    /**
+     * Gets the number of renderer classes generated so far.
+     *
+     * @return The number of generated classes.
+     */
+    public static long getGeneratedCount() {
+        return generated.get();
+    }
+
+    /**
+     * Gets the number of templates whose renderer could not be generated or defined.
+     *
+     * @return The number of failed compilations.
+     */
+    public static long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the error of the last failed compilation.
+     *
+     * @return The last error, or null if no compilation failed.
+     */
+    public static Throwable getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Generate a renderer for a template.
+     *
+     * @param template The template to compile.
+     * @return The renderer, or null if the template cannot be compiled.
+     */
+    static TemplateRenderer compile(MessageTemplate template) {
+        byte[] bytes;
+        try {
+            bytes = generate(template);
+        } catch (UTFDataFormatException e) {
+            // A literal exceeds the constant pool limit, keep interpreting
+            return null;
+        } catch (IOException e) {
+            fail(e);
+            return null;
+        }
+        if (bytes == null) return null;
+
+        try {
+            // Not defined with ClassOption.STRONG, so the class is unloaded together with its template
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            TemplateRenderer renderer = (TemplateRenderer) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            generated.incrementAndGet();
+            return renderer;
+        } catch (Throwable e) {
+            fail(e);
+            return null;
+        }
+    }
+
+    /**
+     * Record a failed compilation; the template keeps being interpreted.
+     */
+    private static void fail(Throwable error) {
+        lastFailure = error;
+        failed.incrementAndGet();
+    }
+
+    /**
+     * Generate the class file of a renderer.
+     *
+     * @param template The template to compile.
+     * @return The class file, or null if the generated method would be too large.
+     * @throws IOException If a constant exceeds the class file limits.
+     */
+    static byte[] generate(MessageTemplate template) throws IOException {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(CLASS_NAME);
+        int superClass = pool.classRef("java/lang/Object");
+        int rendererInterface = pool.classRef(RENDERER_NAME);
+        int objectInit = pool.methodRef("java/lang/Object", "<init>", "()V");
+        int appendString = pool.methodRef("java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;");
+        int appendObject = pool.methodRef("java/lang/StringBuilder", "append", "(Ljava/lang/Object;)Ljava/lang/StringBuilder;");
+        int mapGet = pool.interfaceMethodRef("java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;");
+        int slotValue = pool.methodRef(TEMPLATE_NAME, "slotValue", SLOT_VALUE_DESCRIPTOR);
+        int initName = pool.utf8("<init>");
+        int initDescriptor = pool.utf8("()V");
+        int renderName = pool.utf8("renderTo");
+        int renderDescriptor = pool.utf8(RENDER_DESCRIPTOR);
+        int codeName = pool.utf8("Code");
+
+        ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+        DataOutputStream code = new DataOutputStream(codeBytes);
+        for (int i = 0; i < template.getSlotCount(); i++) {
+            appendLiteral(code, pool, appendString, template.getLiteral(i));
+
+            code.writeByte(0x2b);                           // aload_1 (builder)
+            int argIndex = template.getArgIndex(i);
+            if (argIndex >= 0) {
+                code.writeByte(0x2c);                       // aload_2 (args)
+                pushInt(code, pool, argIndex);
+                code.writeByte(0x2d);                       // aload_3 (defaults)
+                loadConstant(code, pool.string(template.getSlot(i)));
+                code.writeByte(0xb8);                       // invokestatic MessageTemplate.slotValue
+                code.writeShort(slotValue);
+            } else {
+                code.writeByte(0x2d);                       // aload_3 (defaults)
+                loadConstant(code, pool.string(template.getSlot(i)));
+                code.writeByte(0xb9);                       // invokeinterface Map.get
+                code.writeShort(mapGet);
+                code.writeByte(2);
+                code.writeByte(0);
+            }
+            code.writeByte(0xb6);                           // invokevirtual StringBuilder.append(Object)
+            code.writeShort(appendObject);
+            code.writeByte(0x57);                           // pop
+        }
+        appendLiteral(code, pool, appendString, template.getLiteral(template.getSlotCount()));
+        code.writeByte(0xb1);                               // return
+        if (codeBytes.size() > MAX_CODE_LENGTH || pool.size() > 0xffff) return null;
+
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream(256 + codeBytes.size());
+        DataOutputStream out = new DataOutputStream(classBytes);
+        out.writeInt(0xcafebabe);
+        out.writeShort(0);                                  // minor version
+        out.writeShort(61);                                 // major version (Java 17)
+        pool.writeTo(out);
+        out.writeShort(0x0010 | 0x0020);                    // ACC_FINAL | ACC_SUPER
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(rendererInterface);
+        out.writeShort(0);                                  // fields
+
+        out.writeShort(2);                                  // methods
+        // public <init>() { super(); }
+        out.writeShort(0x0001);
+        out.writeShort(initName);
+        out.writeShort(initDescriptor);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + 5);
+        out.writeShort(1);                                  // max stack
+        out.writeShort(1);                                  // max locals
+        out.writeInt(5);
+        out.writeByte(0x2a);                                // aload_0
+        out.writeByte(0xb7);                                // invokespecial Object.<init>
+        out.writeShort(objectInit);
+        out.writeByte(0xb1);                                // return
+        out.writeShort(0);                                  // exception table
+        out.writeShort(0);                                  // attributes
+
+        // public void renderTo(StringBuilder builder, Object[] args, Map defaults)
+        out.writeShort(0x0001);
+        out.writeShort(renderName);
+        out.writeShort(renderDescriptor);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + codeBytes.size());
+        out.writeShort(5);                                  // max stack
+        out.writeShort(4);                                  // max locals
+        out.writeInt(codeBytes.size());
+        codeBytes.writeTo(out);
+        out.writeShort(0);                                  // exception table
+        out.writeShort(0);                                  // attributes
+
+        out.writeShort(0);                                  // class attributes
+        return classBytes.toByteArray();
+    }
+
+    private static void appendLiteral(DataOutputStream code, ConstantPool pool, int appendString, String literal) throws IOException {
+        if (literal.isEmpty()) return;
+        code.writeByte(0x2b);                               // aload_1 (builder)
+        loadConstant(code, pool.string(literal));
+        code.writeByte(0xb6);                               // invokevirtual StringBuilder.append(String)
+        code.writeShort(appendString);
+        code.writeByte(0x57);                               // pop
+    }
+
+    private static void loadConstant(DataOutputStream code, int index) throws IOException {
+        if (index <= 0xff) {
+            code.writeByte(0x12);                           // ldc
+            code.writeByte(index);
+        } else {
+            code.writeByte(0x13);                           // ldc_w
+            code.writeShort(index);
+        }
+    }
+
+    private static void pushInt(DataOutputStream code, ConstantPool pool, int value) throws IOException {
+        if (value <= 5) {
+            code.writeByte(0x03 + value);                   // iconst_<n>
+        } else if (value <= Byte.MAX_VALUE) {
+            code.writeByte(0x10);                           // bipush
+            code.writeByte(value);
+        } else if (value <= Short.MAX_VALUE) {
+            code.writeByte(0x11);                           // sipush
+            code.writeShort(value);
+        } else {
+            loadConstant(code, pool.integer(value));
+        }
+    }
+
+    /**
+     * A deduplicating class file constant pool.
+     */
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int next = 1;
+
+        int size() {
+            return next;
+        }
+
+        int utf8(String value) throws IOException {
+            Integer index = entries.get("U" + value);
+            if (index != null) return index;
+            out.writeByte(1);
+            out.writeUTF(value);
+            return add("U" + value);
+        }
+
+        int classRef(String name) throws IOException {
+            return reference("C" + name, 7, utf8(name));
+        }
+
+        int string(String value) throws IOException {
+            return reference("S" + value, 8, utf8(value));
+        }
+
+        int integer(int value) throws IOException {
+            Integer index = entries.get("I" + value);
+            if (index != null) return index;
+            out.writeByte(3);
+            out.writeInt(value);
+            return add("I" + value);
+        }
+
+        int methodRef(String owner, String name, String descriptor) throws IOException {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) throws IOException {
+            return memberRef(11, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+            int ownerIndex = classRef(owner);
+            int nameAndType = reference("N" + name + ' ' + descriptor, 12, utf8(name), utf8(descriptor));
+            return reference("M" + tag + owner + '.' + name + descriptor, tag, ownerIndex, nameAndType);
+        }
+
+        private int reference(String key, int tag, int... indices) throws IOException {
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            out.writeByte(tag);
+            for (int i : indices) out.writeShort(i);
+            return add(key);
+        }
+
+        private int add(String key) {
+            entries.put(key, next);
+            return next++;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(next);
+            bytes.writeTo(target);
+        }
+    }
+
+}
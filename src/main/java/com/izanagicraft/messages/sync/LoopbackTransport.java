@@ -0,0 +1,155 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.sync;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * message-format; com.izanagicraft.messages.sync:LoopbackTransport
+ * <p>
+ * In-process {@link SyncTransport} delivering updates synchronously to all subscribers
+ * of the same instance. Intended for tests and for several handlers inside one JVM.
+ * <p>
+ * The transport keeps a bounded history of deltas. Deltas falling out of the history
+ * are folded into a compacted snapshot, so nodes that fall too far behind receive
+ * that snapshot followed by the retained deltas.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class LoopbackTransport implements SyncTransport {
+
+    /**
+     * The default number of retained deltas.
+     */
+    public static final int DEFAULT_HISTORY_LIMIT = 64;
+
+    private final int historyLimit;
+    private final List<Consumer<TranslationUpdate>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Retained deltas, oldest first. Guarded by {@code this}.
+     */
+    private final Deque<TranslationUpdate> history = new ArrayDeque<>();
+
+    /**
+     * The state at {@link #compactedVersion}. Guarded by {@code this}.
+     */
+    private final Map<String, Map<String, String>> compacted = new HashMap<>();
+    private long compactedEpoch;
+    private long compactedVersion;
+
+    /**
+     * Creates a transport with the default history limit.
+     */
+    public LoopbackTransport() {
+        this(DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a transport.
+     *
+     * @param historyLimit The number of deltas retained before they are compacted into a snapshot.
+     */
+    public LoopbackTransport(int historyLimit) {
+        if (historyLimit < 0) throw new IllegalArgumentException("historyLimit must not be negative");
+        this.historyLimit = historyLimit;
+    }
+
+    @Override
+    public void publish(TranslationUpdate update) {
+        synchronized (this) {
+            if (update.isSnapshot()) {
+                history.clear();
+                compacted.clear();
+                update.applyTo(compacted);
+                compactedEpoch = update.getEpoch();
+                compactedVersion = update.getVersion();
+            } else {
+                history.addLast(update);
+                while (history.size() > historyLimit) {
+                    TranslationUpdate oldest = history.removeFirst();
+                    oldest.applyTo(compacted);
+                    compactedVersion = oldest.getVersion();
+                }
+            }
+        }
+        for (Consumer<TranslationUpdate> subscriber : subscribers) {
+            subscriber.accept(update);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TranslationUpdate> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<TranslationUpdate> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public synchronized List<TranslationUpdate> fetchSince(long version) {
+        List<TranslationUpdate> updates = new ArrayList<>();
+        if (version < compactedVersion) {
+            updates.add(TranslationUpdate.snapshot(compactedEpoch, compactedVersion, compacted));
+        }
+        for (TranslationUpdate update : history) {
+            if (update.getVersion() > version) updates.add(update);
+        }
+        return updates;
+    }
+
+}
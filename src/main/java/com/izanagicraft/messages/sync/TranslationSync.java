@@ -0,0 +1,309 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.sync;
+
+import com.izanagicraft.messages.translations.TranslationChangeListener;
+import com.izanagicraft.messages.translations.TranslationDelta;
+import com.izanagicraft.messages.translations.TranslationHandler;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * message-format; com.izanagicraft.messages.sync:TranslationSync
+ * <p>
+ * Keeps the translations of {@link TranslationHandler}s on several nodes in sync
+ * through a {@link SyncTransport}.
+ * <p>
+ * The publishing node publishes a snapshot when it starts and afterwards a compact
+ * delta for every change of its handler. Replica nodes apply updates in version
+ * order; if a replica misses a version, it catches up from the last version it has
+ * via {@link SyncTransport#fetchSince(long)} instead of downloading everything again.
+ * Each update is applied with a single {@link TranslationHandler#setTranslations(Map)},
+ * so a replica never serves a half-applied update of a language.
+ * <p>
+ * Every start of a publisher begins a new epoch; replicas accept the snapshot of a
+ * new epoch even though its versions start at 1 again.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * // on the node that owns the language files
+ * TranslationSync publisher = new TranslationSync(translations, transport);
+ * publisher.startPublishing();
+ *
+ * // on every other node
+ * TranslationSync replica = new TranslationSync(translations, transport);
+ * replica.startReplica();
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationSync {
+
+    private final TranslationHandler handler;
+    private final SyncTransport transport;
+
+    /**
+     * The epoch of the publisher whose version this node has, 0 if none. Guarded by {@code this}.
+     */
+    private long epoch;
+
+    /**
+     * The current version of this node. Guarded by {@code this}.
+     */
+    private long version;
+
+    /**
+     * Whether a delta failed to publish, so the next change is published as a snapshot. Guarded by {@code this}.
+     */
+    private boolean resnapshot;
+
+    /**
+     * The replicated languages of a replica node. Guarded by {@code this}.
+     */
+    private final Map<String, Map<String, String>> state = new HashMap<>();
+
+    private final TranslationChangeListener changeListener = this::publishChanges;
+    private final Consumer<TranslationUpdate> subscriber = this::receive;
+
+    /**
+     * Creates a sync for a handler.
+     *
+     * @param handler   The handler to publish from or to apply updates to.
+     * @param transport The transport exchanging updates.
+     */
+    public TranslationSync(TranslationHandler handler, SyncTransport transport) {
+        this.handler = handler;
+        this.transport = transport;
+    }
+
+    /**
+     * Gets the version of this node.
+     *
+     * @return The last published or applied version, 0 if none.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the epoch of the publisher this node's version belongs to.
+     *
+     * @return The epoch, 0 if nothing was published or applied yet.
+     */
+    public synchronized long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Start publishing in a new epoch: publish a snapshot of the handler's current
+     * translations and a delta for every later change.
+     */
+    public synchronized void startPublishing() {
+        long next;
+        do {
+            next = ThreadLocalRandom.current().nextLong();
+        } while (next == 0 || next == epoch);
+        epoch = next;
+        version = 0;
+
+        Map<String, Map<String, String>> languages;
+        // The snapshot and the registration see the same publication, so no change falls in between
+        synchronized (handler) {
+            languages = currentLanguages();
+            handler.addChangeListener(changeListener);
+        }
+        // Changes are delivered after the handler lock was released and wait for this lock
+        publish(TranslationUpdate.snapshot(epoch, version + 1, languages));
+    }
+
+    /**
+     * Start replicating: catch up to the latest version and apply every later update.
+     * <p>
+     * Languages loaded only on this node are kept; the replicated languages replace
+     * the local ones of the same name.
+     */
+    public void startReplica() {
+        transport.subscribe(subscriber);
+        catchUp();
+    }
+
+    /**
+     * Stop publishing or replicating.
+     */
+    public void stop() {
+        handler.removeChangeListener(changeListener);
+        transport.unsubscribe(subscriber);
+    }
+
+    /**
+     * Fetch and apply all updates after the current version.
+     */
+    public synchronized void catchUp() {
+        catchUp(version);
+    }
+
+    private void catchUp(long since) {
+        List<TranslationUpdate> updates = transport.fetchSince(since);
+        for (TranslationUpdate update : updates) {
+            if (update.isSnapshot() || (update.getEpoch() == epoch && update.getBaseVersion() == version)) {
+                apply(update);
+            }
+        }
+    }
+
+    /**
+     * Handle an update received from the transport.
+     */
+    private synchronized void receive(TranslationUpdate update) {
+        if (update.getEpoch() != epoch) {
+            // The publisher restarted, the versions of its previous epoch mean nothing
+            if (update.isSnapshot()) {
+                apply(update);
+            } else {
+                catchUp(0);
+            }
+            return;
+        }
+        if (update.getVersion() <= version) return;
+        if (update.isSnapshot() || update.getBaseVersion() == version) {
+            apply(update);
+        } else {
+            // A version was missed, fetch everything after the last applied one
+            catchUp(version);
+        }
+    }
+
+    private void apply(TranslationUpdate update) {
+        Set<String> affected = update.applyTo(state);
+        if (!affected.isEmpty()) {
+            Map<String, Properties> languages = new HashMap<>();
+            for (String langName : handler.getLanguageNames()) {
+                if (affected.contains(langName)) continue;
+                Properties properties = handler.getLanguage(langName);
+                if (properties != null) languages.put(langName, properties);
+            }
+            for (String langName : affected) {
+                Map<String, String> entries = state.get(langName);
+                if (entries == null) continue;
+                Properties properties = new Properties();
+                properties.putAll(entries);
+                languages.put(langName, properties);
+            }
+            handler.setTranslations(languages);
+        }
+        epoch = update.getEpoch();
+        version = update.getVersion();
+    }
+
+    /**
+     * Publish a delta for the changes of the handler.
+     */
+    private synchronized void publishChanges(List<TranslationDelta> deltas) {
+        if (resnapshot) {
+            // The last delta was lost, replicas can only recover from the whole state
+            publish(TranslationUpdate.snapshot(epoch, version + 1, currentLanguages()));
+            return;
+        }
+
+        Map<String, Map<String, String>> values = new HashMap<>();
+        Map<String, Set<String>> removedKeys = new HashMap<>();
+        Set<String> removedLanguages = new HashSet<>();
+
+        for (TranslationDelta delta : deltas) {
+            if (delta.isLanguageRemoved()) {
+                removedLanguages.add(delta.getLangName());
+                continue;
+            }
+            if (!delta.getValues().isEmpty()) values.put(delta.getLangName(), delta.getValues());
+            if (!delta.getRemoved().isEmpty()) removedKeys.put(delta.getLangName(), delta.getRemoved());
+        }
+
+        publish(TranslationUpdate.delta(epoch, version + 1, version, values, removedKeys, removedLanguages));
+    }
+
+    /**
+     * Publish an update, advancing the version only once the transport accepted it.
+     */
+    private void publish(TranslationUpdate update) {
+        try {
+            transport.publish(update);
+        } catch (RuntimeException e) {
+            resnapshot = true;
+            throw e;
+        }
+        resnapshot = false;
+        version = update.getVersion();
+    }
+
+    private Map<String, Map<String, String>> currentLanguages() {
+        Map<String, Map<String, String>> languages = new HashMap<>();
+        for (String langName : handler.getLanguageNames()) {
+            Properties properties = handler.getLanguage(langName);
+            if (properties != null) languages.put(langName, toMap(properties));
+        }
+        return languages;
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> entries = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            entries.put(key, properties.getProperty(key));
+        }
+        return entries;
+    }
+
+}
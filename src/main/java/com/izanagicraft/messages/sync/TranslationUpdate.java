@@ -0,0 +1,359 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * message-format; com.izanagicraft.messages.sync:TranslationUpdate
+ * <p>
+ * A versioned update of translation bundles, exchanged between nodes.
+ * <p>
+ * An update is either a full snapshot of all languages, or a delta that only
+ * carries the added and changed values and the removed keys and languages
+ * relative to its base version. Deltas are applied on top of exactly their
+ * base version; snapshots replace everything.
+ * <p>
+ * Versions are only comparable within an epoch. A publisher picks a new epoch
+ * whenever it starts, so replicas can tell a restarted publisher counting from 1
+ * again apart from updates they already have.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class TranslationUpdate {
+
+    private static final int FORMAT_VERSION = 2;
+
+    private final long epoch;
+    private final long version;
+    private final long baseVersion;
+    private final boolean snapshot;
+    private final Map<String, Map<String, String>> values;
+    private final Map<String, Set<String>> removedKeys;
+    private final Set<String> removedLanguages;
+
+    private TranslationUpdate(long epoch, long version, long baseVersion, boolean snapshot,
+                              Map<String, Map<String, String>> values, Map<String, Set<String>> removedKeys,
+                              Set<String> removedLanguages) {
+        this.epoch = epoch;
+        this.version = version;
+        this.baseVersion = baseVersion;
+        this.snapshot = snapshot;
+        this.values = values;
+        this.removedKeys = removedKeys;
+        this.removedLanguages = removedLanguages;
+    }
+
+    /**
+     * Creates a full snapshot.
+     *
+     * @param epoch     The epoch of the publisher.
+     * @param version   The version of the snapshot.
+     * @param languages All languages with their keys and values.
+     * @return The snapshot update.
+     */
+    public static TranslationUpdate snapshot(long epoch, long version, Map<String, Map<String, String>> languages) {
+        return new TranslationUpdate(epoch, version, 0, true, copy(languages), Map.of(), Set.of());
+    }
+
+    /**
+     * Creates a delta.
+     *
+     * @param epoch            The epoch of the publisher.
+     * @param version          The version after applying the delta.
+     * @param baseVersion      The version the delta has to be applied to.
+     * @param values           The added and changed values per language.
+     * @param removedKeys      The removed keys per language.
+     * @param removedLanguages The removed languages.
+     * @return The delta update.
+     */
+    public static TranslationUpdate delta(long epoch, long version, long baseVersion, Map<String, Map<String, String>> values,
+                                          Map<String, Set<String>> removedKeys, Set<String> removedLanguages) {
+        Map<String, Set<String>> removed = new HashMap<>();
+        removedKeys.forEach((langName, keys) -> removed.put(langName, Collections.unmodifiableSet(new HashSet<>(keys))));
+        return new TranslationUpdate(epoch, version, baseVersion, false, copy(values), Collections.unmodifiableMap(removed),
+                Collections.unmodifiableSet(new HashSet<>(removedLanguages)));
+    }
+
+    private static Map<String, Map<String, String>> copy(Map<String, Map<String, String>> languages) {
+        Map<String, Map<String, String>> copy = new HashMap<>();
+        languages.forEach((langName, entries) -> copy.put(langName, Collections.unmodifiableMap(new HashMap<>(entries))));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Apply this update to a mutable state of languages.
+     *
+     * @param state The languages with their keys and values, modified in place.
+     * @return The names of the languages that were added, changed or removed.
+     */
+    public Set<String> applyTo(Map<String, Map<String, String>> state) {
+        Set<String> affected = new HashSet<>();
+        if (snapshot) {
+            affected.addAll(state.keySet());
+            state.clear();
+        }
+        for (String langName : removedLanguages) {
+            if (state.remove(langName) != null) affected.add(langName);
+        }
+        removedKeys.forEach((langName, keys) -> {
+            Map<String, String> entries = state.get(langName);
+            if (entries != null && entries.keySet().removeAll(keys)) affected.add(langName);
+        });
+        values.forEach((langName, entries) -> {
+            state.computeIfAbsent(langName, name -> new HashMap<>()).putAll(entries);
+            affected.add(langName);
+        });
+        return affected;
+    }
+
+    /**
+     * Gets the epoch of the publisher that created this update.
+     *
+     * @return The epoch.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the version after applying this update.
+     *
+     * @return The version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the version a delta has to be applied to. Always 0 for snapshots.
+     *
+     * @return The base version.
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Check whether this update is a full snapshot.
+     *
+     * @return True for snapshots, false for deltas.
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the added and changed values, or all values of a snapshot.
+     *
+     * @return An unmodifiable map of values per language.
+     */
+    public Map<String, Map<String, String>> getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the removed keys per language.
+     *
+     * @return An unmodifiable map of removed keys per language.
+     */
+    public Map<String, Set<String>> getRemovedKeys() {
+        return removedKeys;
+    }
+
+    /**
+     * Gets the removed languages.
+     *
+     * @return An unmodifiable set of language names.
+     */
+    public Set<String> getRemovedLanguages() {
+        return removedLanguages;
+    }
+
+    /**
+     * Serialize this update into a compact binary form for network transports.
+     *
+     * @return The serialized update.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialize an update created by {@link #toBytes()}.
+     *
+     * @param bytes The serialized update.
+     * @return The update.
+     */
+    public static TranslationUpdate fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write this update to a data output.
+     *
+     * @param out The output to write to.
+     * @throws IOException If writing fails.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeLong(epoch);
+        out.writeLong(version);
+        out.writeLong(baseVersion);
+        out.writeBoolean(snapshot);
+
+        out.writeInt(values.size());
+        for (Map.Entry<String, Map<String, String>> language : values.entrySet()) {
+            writeString(out, language.getKey());
+            out.writeInt(language.getValue().size());
+            for (Map.Entry<String, String> entry : language.getValue().entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+
+        out.writeInt(removedKeys.size());
+        for (Map.Entry<String, Set<String>> language : removedKeys.entrySet()) {
+            writeString(out, language.getKey());
+            out.writeInt(language.getValue().size());
+            for (String key : language.getValue()) {
+                writeString(out, key);
+            }
+        }
+
+        out.writeInt(removedLanguages.size());
+        for (String langName : removedLanguages) {
+            writeString(out, langName);
+        }
+    }
+
+    /**
+     * Read an update from a data input.
+     *
+     * @param in The input to read from.
+     * @return The update.
+     * @throws IOException If reading fails or the format is not supported.
+     */
+    public static TranslationUpdate read(DataInput in) throws IOException {
+        int format = in.readByte();
+        if (format != FORMAT_VERSION) throw new IOException("Unsupported update format " + format);
+        long epoch = in.readLong();
+        long version = in.readLong();
+        long baseVersion = in.readLong();
+        boolean snapshot = in.readBoolean();
+
+        Map<String, Map<String, String>> values = new HashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String langName = readString(in);
+            Map<String, String> entries = new HashMap<>();
+            for (int j = in.readInt(); j > 0; j--) {
+                entries.put(readString(in), readString(in));
+            }
+            values.put(langName, entries);
+        }
+
+        Map<String, Set<String>> removedKeys = new HashMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String langName = readString(in);
+            Set<String> keys = new HashSet<>();
+            for (int j = in.readInt(); j > 0; j--) {
+                keys.add(readString(in));
+            }
+            removedKeys.put(langName, keys);
+        }
+
+        Set<String> removedLanguages = new HashSet<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            removedLanguages.add(readString(in));
+        }
+
+        if (snapshot) return snapshot(epoch, version, values);
+        return delta(epoch, version, baseVersion, values, removedKeys, removedLanguages);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationUpdate{epoch=" + epoch + ", version=" + version + (snapshot ? ", snapshot" : ", base=" + baseVersion) + "}";
+    }
+
+}
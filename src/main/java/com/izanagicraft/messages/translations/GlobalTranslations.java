@@ -46,6 +46,7 @@
 
 package com.izanagicraft.messages.translations;
 
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
 import com.izanagicraft.messages.placeholders.StaticMessagePlaceholders;
 import com.izanagicraft.messages.strings.WrappedString;
 
@@ -111,13 +112,22 @@ public final class GlobalTranslations {
     /**
      * Gets the default replacements used by the Formatter for placeholder substitution.
      *
-     * @return A map of default replacements with String keys and Object values.
-     * These replacements are used by the {@link StaticMessagePlaceholders} class during text formatting.
+     * @return An immutable snapshot of the default replacements with String keys and Object values,
+     * including the ones of the global {@link StaticMessagePlaceholders} scope.
      */
     public static Map<String, Object> getDefaultReplacements() {
         return translationHandler.getDefaultReplacements();
     }
 
+    /**
+     * Gets the scope holding the default replacements of the global translations.
+     *
+     * @return The placeholder scope.
+     */
+    public static PlaceholderScope getPlaceholderScope() {
+        return translationHandler.getPlaceholderScope();
+    }
+
     /**
      * Load language properties from a file and process them.
      *
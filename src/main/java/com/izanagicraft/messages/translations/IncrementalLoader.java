@@ -0,0 +1,264 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.jfr.LoadEvent;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:IncrementalLoader
+ * <p>
+ * Loads language files in small units of work on the calling thread, for hosts
+ * that have to load on their main thread without a visible lag spike.
+ * <p>
+ * Every {@link #step(Duration)} runs units until its time budget is used up:
+ * listing a directory (not recursively), reading and parsing one file,
+ * compiling one message template. Once everything is read and compiled, the
+ * languages are published together in a final step, with their templates
+ * already in the template cache.
+ * Until then, the handler keeps serving the previously loaded languages, and
+ * other loads still read the changed files; languages loaded by them in the
+ * meantime are not replaced by the older reads of this loader.
+ * A step always runs at least one unit, so every call makes progress; a unit
+ * larger than the budget, such as a very large file, overruns it.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * IncrementalLoader loader = translations.loadIncrementally(languageDirectory);
+ * // every tick
+ * if (loader != null && loader.step(Duration.ofMillis(2))) loader = null;
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class IncrementalLoader {
+
+    /**
+     * The phases of an incremental load, in order.
+     */
+    public enum Phase {
+        /**
+         * Listing directories, reading and parsing files.
+         */
+        READ,
+        /**
+         * Compiling the templates of the read languages.
+         */
+        COMPILE,
+        /**
+         * Publishing the read languages.
+         */
+        PUBLISH,
+        /**
+         * The languages are published.
+         */
+        DONE
+    }
+
+    private final TranslationHandler handler;
+    private final LoadEvent event = new LoadEvent();
+    private final int fileCount;
+
+    /**
+     * The given paths still to be read or listed.
+     */
+    private final Deque<Path> paths;
+
+    /**
+     * The files of the last listed directory still to be read.
+     */
+    private final Deque<Path> listed = new ArrayDeque<>();
+    private final Map<String, TranslationLoader.PendingRead> reads = new LinkedHashMap<>();
+    private final Map<String, MessageTemplate> templates = new HashMap<>();
+
+    private Iterator<TranslationLoader.PendingRead> compiling;
+    private Iterator<Object> formats;
+    private Phase phase = Phase.READ;
+    private int units;
+
+    IncrementalLoader(TranslationHandler handler, Path... paths) {
+        this.handler = handler;
+        this.fileCount = paths.length;
+        this.paths = new ArrayDeque<>(Arrays.asList(paths));
+        event.begin();
+    }
+
+    /**
+     * Run units of work until the budget is used up or the languages are published.
+     *
+     * @param budget The time to spend in this step.
+     * @return True if the languages are published.
+     */
+    public synchronized boolean step(Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        do {
+            if (phase == Phase.DONE) return true;
+            runUnit();
+        } while (System.nanoTime() - deadline < 0);
+        return phase == Phase.DONE;
+    }
+
+    /**
+     * Run all remaining units at once.
+     */
+    public void finish() {
+        while (!step(Duration.ofDays(1))) {
+            // step returns once the budget is used up
+        }
+    }
+
+    /**
+     * Check whether the languages are published.
+     *
+     * @return True if the load is done.
+     */
+    public synchronized boolean isDone() {
+        return phase == Phase.DONE;
+    }
+
+    /**
+     * Gets the current phase.
+     *
+     * @return The phase of the next unit of work.
+     */
+    public synchronized Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the number of units run so far, counting the change to the next phase as a unit.
+     *
+     * @return The number of completed units.
+     */
+    public synchronized int getCompletedUnits() {
+        return units;
+    }
+
+    private void runUnit() {
+        switch (phase) {
+            case READ:
+                if (!listed.isEmpty()) {
+                    read(listed.poll());
+                } else if (!paths.isEmpty()) {
+                    readOrList(paths.poll());
+                } else {
+                    compiling = reads.values().iterator();
+                    formats = null;
+                    phase = Phase.COMPILE;
+                }
+                break;
+            case COMPILE:
+                compileNext();
+                break;
+            case PUBLISH:
+                handler.publishIncremental(event, fileCount, reads.values(), templates);
+                phase = Phase.DONE;
+                break;
+            default:
+                return;
+        }
+        units++;
+    }
+
+    /**
+     * List a directory (not recursively), queueing its files to be read next, or read a language file.
+     */
+    private void readOrList(Path path) {
+        if (!Files.isDirectory(path)) {
+            read(path);
+            return;
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            files.forEach(listed::add);
+        } catch (Exception e) {
+            handler.reportLoadFailure(path.toString(), e);
+        }
+    }
+
+    /**
+     * Read a language file, keeping the last read of each language like the synchronous load.
+     */
+    private void read(Path path) {
+        Path fileName = path.getFileName();
+        String langName = fileName == null ? null : TranslationLoader.languageName(fileName.toString());
+        if (langName == null) return;
+        TranslationLoader.PendingRead read = handler.readPending(langName, path);
+        if (read != null) reads.put(langName, read);
+    }
+
+    /**
+     * Compile the next distinct format string, or move on to publishing once all are compiled.
+     */
+    private void compileNext() {
+        while (formats == null || !formats.hasNext()) {
+            if (!compiling.hasNext()) {
+                phase = Phase.PUBLISH;
+                return;
+            }
+            formats = compiling.next().getProperties().values().iterator();
+        }
+        Object format = formats.next();
+        if (format instanceof String) templates.computeIfAbsent((String) format, MessageTemplate::compile);
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:KeyIndex
+ * <p>
+ * An immutable, sorted index over the keys of a language.
+ * <p>
+ * Keys are namespaced by dots ({@code gui.shop.sword.name}). Since all keys of
+ * a namespace are adjacent in sort order, enumerating a namespace costs two
+ * binary searches instead of a scan over the whole bundle, and the returned
+ * lists are views of the index rather than copies.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * KeyIndex index = translations.getKeyIndex("en");
+ * for (String item : index.childrenOf("gui.shop")) {
+ *     String name = translations.translate("gui.shop." + item + ".name");
+ *     // ...
+ * }
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class KeyIndex {
+
+    /**
+     * An index without keys.
+     */
+    public static final KeyIndex EMPTY = new KeyIndex(new String[0]);
+
+    /**
+     * The sorted keys.
+     */
+    private final String[] keys;
+
+    /**
+     * An unmodifiable list view of the sorted keys.
+     */
+    private final List<String> view;
+
+    private KeyIndex(String[] keys) {
+        this.keys = keys;
+        this.view = Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Build an index over the given keys.
+     *
+     * @param keys The keys to index.
+     * @return The index.
+     */
+    public static KeyIndex of(Collection<String> keys) {
+        if (keys.isEmpty()) return EMPTY;
+        String[] sorted = keys.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return new KeyIndex(sorted);
+    }
+
+    /**
+     * Gets all keys under a namespace, in sort order.
+     * <p>
+     * The namespace {@code gui.shop} (or {@code gui.shop.}) matches
+     * {@code gui.shop.title} and {@code gui.shop.sword.name}, but neither
+     * {@code gui.shop} itself nor {@code gui.shopkeeper.title}.
+     * The empty namespace matches every key.
+     *
+     * @param namespace The namespace, with or without trailing dot.
+     * @return An unmodifiable view of the matching keys.
+     */
+    public List<String> keysUnder(String namespace) {
+        String prefix = prefixOf(namespace);
+        if (prefix.isEmpty()) return view;
+        return view.subList(lowerBound(prefix, 0), upperBound(prefix));
+    }
+
+    /**
+     * Count the keys under a namespace.
+     *
+     * @param namespace The namespace, with or without trailing dot.
+     * @return The number of matching keys.
+     * @see #keysUnder(String)
+     */
+    public int countUnder(String namespace) {
+        String prefix = prefixOf(namespace);
+        if (prefix.isEmpty()) return keys.length;
+        return upperBound(prefix) - lowerBound(prefix, 0);
+    }
+
+    /**
+     * Gets the distinct next segments of all keys under a namespace, in sort order.
+     * For the keys {@code gui.shop.sword.name}, {@code gui.shop.sword.lore} and
+     * {@code gui.shop.title}, the children of {@code gui.shop} are {@code sword} and {@code title}.
+     *
+     * @param namespace The namespace, with or without trailing dot.
+     * @return The child segments.
+     */
+    public List<String> childrenOf(String namespace) {
+        String prefix = prefixOf(namespace);
+        int end = prefix.isEmpty() ? keys.length : upperBound(prefix);
+        // Children are not necessarily adjacent ("a", "a-b", "a.c"), so they are collected sorted
+        Set<String> children = new TreeSet<>();
+        int index = prefix.isEmpty() ? 0 : lowerBound(prefix, 0);
+        while (index < end) {
+            String key = keys[index];
+            int dot = key.indexOf('.', prefix.length());
+            if (dot == -1) {
+                children.add(key.substring(prefix.length()));
+                index++;
+            } else {
+                children.add(key.substring(prefix.length(), dot));
+                // Skip every key under the child at once
+                index = upperBound(key.substring(0, dot + 1));
+            }
+        }
+        children.remove("");
+        return new ArrayList<>(children);
+    }
+
+    /**
+     * Check whether a key is indexed.
+     *
+     * @param key The translation key.
+     * @return True if the key is indexed.
+     */
+    public boolean contains(String key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * Gets the number of indexed keys.
+     *
+     * @return The key count.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets all indexed keys, in sort order.
+     *
+     * @return An unmodifiable view of the keys.
+     */
+    public List<String> getKeys() {
+        return view;
+    }
+
+    /**
+     * Normalize a namespace to the prefix of its keys, i.e. with a trailing dot.
+     */
+    private static String prefixOf(String namespace) {
+        if (namespace.isEmpty() || namespace.endsWith(".")) return namespace;
+        return namespace + '.';
+    }
+
+    /**
+     * Find the end of the keys starting with a prefix ending with a dot.
+     * Since {@code '/'} directly follows {@code '.'}, it is the first key at or above
+     * the prefix with its dot replaced by a slash.
+     */
+    private int upperBound(String prefix) {
+        return lowerBound(prefix.substring(0, prefix.length() - 1) + '/', 0);
+    }
+
+    /**
+     * Find the index of the first key not less than the given one.
+     */
+    private int lowerBound(String key, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.strings.WrappedString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:LanguageNegotiator
+ * <p>
+ * Resolves client locale strings to the loaded languages of a {@link TranslationHandler}.
+ * <p>
+ * Accepted are locale strings in any case and with either separator
+ * ({@code de_de}, {@code en_US}, {@code pt-BR}) as well as Accept-Language
+ * headers ({@code de-DE,de;q=0.9,en;q=0.8}). Each candidate is matched by the
+ * configured {@link Rule}s, after explicit {@link #addAlias aliases}. The result
+ * is a language handle for {@link TranslationHandler#translate(WrappedString, String, Object...)};
+ * if nothing matches, the handle resolves to the fallback language.
+ * <p>
+ * Results are memoized per input string in a bounded cache, so a player's locale
+ * is negotiated once per session instead of once per message. The cache is
+ * cleared when it is full, and its entries are ignored once the loaded languages change.
+ * Handles are shared and must not be modified.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * LanguageNegotiator negotiator = translations.getNegotiator();
+ * WrappedString language = negotiator.negotiate(player.getLocale()); // e.g. "de_de"
+ * String text = translations.translate(language, "greeting", player.getName());
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class LanguageNegotiator {
+
+    /**
+     * The default number of memoized inputs.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The rules matching a requested locale against the loaded languages.
+     */
+    public enum Rule {
+
+        /**
+         * The whole locale equals a language name, ignoring case and separators: {@code en-us} matches {@code en_US}.
+         */
+        EXACT,
+
+        /**
+         * The language subtag of the locale is a language name: {@code de-AT} matches {@code de}.
+         */
+        LANGUAGE,
+
+        /**
+         * A language with the same language subtag but another region: {@code en-GB} matches {@code en_US}.
+         * If there are several, the first in sort order is taken.
+         */
+        SAME_LANGUAGE
+    }
+
+    private final TranslationHandler handler;
+
+    private final int capacity;
+
+    /**
+     * The memoized handles by input string.
+     */
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * The handle resolving to the fallback language.
+     */
+    private final WrappedString fallbackHandle = new WrappedString(null);
+
+    /**
+     * Explicit mappings of normalized locales to language names. Replaced, never modified.
+     */
+    private volatile Map<String, String> aliases = Map.of();
+
+    private volatile Rule[] rules = Rule.values();
+
+    /**
+     * Increased whenever the loaded languages, aliases or rules change.
+     */
+    private volatile long generation;
+
+    /**
+     * The loaded languages by normalized name, built for the current generation.
+     */
+    private volatile Languages languages;
+
+    /**
+     * Creates a negotiator with the {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param handler The handler whose languages are negotiated.
+     */
+    public LanguageNegotiator(TranslationHandler handler) {
+        this(handler, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a negotiator.
+     *
+     * @param handler  The handler whose languages are negotiated.
+     * @param capacity The maximum number of memoized inputs.
+     */
+    public LanguageNegotiator(TranslationHandler handler, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.handler = handler;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Negotiate the language of a locale.
+     *
+     * @param locale The requested locale.
+     * @return The language handle.
+     */
+    public WrappedString negotiate(Locale locale) {
+        return negotiate(locale.toLanguageTag());
+    }
+
+    /**
+     * Negotiate the language of a locale string or an Accept-Language header.
+     *
+     * @param request The locale string or header, may be null.
+     * @return The language handle; its value is null if the fallback language has to be used.
+     */
+    public WrappedString negotiate(String request) {
+        if (request == null) return fallbackHandle;
+        long current = generation;
+        Entry entry = cache.get(request);
+        if (entry != null && entry.generation == current) return entry.handle;
+
+        WrappedString handle = resolve(request, current);
+        if (cache.size() >= capacity) cache.clear();
+        cache.put(request, new Entry(current, handle));
+        return handle;
+    }
+
+    /**
+     * Gets the language name of a locale string or an Accept-Language header without memoizing it.
+     *
+     * @param request The locale string or header.
+     * @return The language name, or null if no loaded language matches.
+     */
+    public String match(String request) {
+        return resolve(request, generation).getValue();
+    }
+
+    /**
+     * Map a locale to a language explicitly, e.g. {@code nb} to {@code no}. Aliases are checked before the rules.
+     *
+     * @param locale   The locale, in any case and with either separator.
+     * @param langName The language name.
+     */
+    public synchronized void addAlias(String locale, String langName) {
+        Map<String, String> updated = new HashMap<>(aliases);
+        updated.put(normalize(locale), langName);
+        aliases = Map.copyOf(updated);
+        invalidate();
+    }
+
+    /**
+     * Remove an alias.
+     *
+     * @param locale The locale of the alias.
+     */
+    public synchronized void removeAlias(String locale) {
+        Map<String, String> updated = new HashMap<>(aliases);
+        if (updated.remove(normalize(locale)) == null) return;
+        aliases = Map.copyOf(updated);
+        invalidate();
+    }
+
+    /**
+     * Gets the rules in the order they are applied.
+     *
+     * @return A copy of the rules.
+     */
+    public Rule[] getRules() {
+        return rules.clone();
+    }
+
+    /**
+     * Set the rules and the order they are applied in. Without rules, only aliases match.
+     *
+     * @param rules The rules.
+     */
+    public void setRules(Rule... rules) {
+        this.rules = rules.clone();
+        invalidate();
+    }
+
+    /**
+     * Gets the number of memoized inputs.
+     *
+     * @return The cache size.
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Ignore all memoized results, e.g. because the loaded languages changed.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        cache.clear();
+    }
+
+    private WrappedString resolve(String request, long current) {
+        Languages loaded = languages;
+        if (loaded == null || loaded.generation != current) {
+            loaded = new Languages(current, handler.getLanguageNames());
+            languages = loaded;
+        }
+        for (String range : ranges(request)) {
+            // A wildcard accepts any language, i.e. the fallback
+            if (range.equals("*")) break;
+            String langName = match(range, loaded);
+            if (langName != null) return loaded.handles.get(langName);
+        }
+        return fallbackHandle;
+    }
+
+    private String match(String range, Languages loaded) {
+        String alias = aliases.get(range);
+        if (alias != null && loaded.handles.containsKey(alias)) return alias;
+        int separator = range.indexOf('-');
+        String language = separator == -1 ? range : range.substring(0, separator);
+        for (Rule rule : rules) {
+            String langName;
+            switch (rule) {
+                case EXACT:
+                    langName = loaded.byName.get(range);
+                    break;
+                case LANGUAGE:
+                    langName = loaded.byName.get(language);
+                    break;
+                case SAME_LANGUAGE:
+                    langName = loaded.byLanguage.get(language);
+                    break;
+                default:
+                    langName = null;
+            }
+            if (langName != null) return langName;
+        }
+        return null;
+    }
+
+    /**
+     * Split a locale string or Accept-Language header into normalized ranges, by descending quality.
+     * Ranges with a quality of zero or an invalid quality are dropped.
+     */
+    static List<String> ranges(String request) {
+        List<String> ranges = new ArrayList<>();
+        List<Double> qualities = new ArrayList<>();
+        for (String part : request.split(",")) {
+            int parameters = part.indexOf(';');
+            String range = normalize(parameters == -1 ? part : part.substring(0, parameters));
+            if (range.isEmpty()) continue;
+            double quality = parameters == -1 ? 1 : quality(part.substring(parameters + 1));
+            if (quality <= 0) continue;
+            // Insertion keeps ranges of equal quality in header order
+            int index = 0;
+            while (index < qualities.size() && qualities.get(index) >= quality) index++;
+            ranges.add(index, range);
+            qualities.add(index, quality);
+        }
+        return ranges;
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (!trimmed.startsWith("q=")) continue;
+            try {
+                double quality = Double.parseDouble(trimmed.substring(2));
+                return quality >= 0 && quality <= 1 ? quality : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Normalize a locale to lower case with dashes as separators.
+     */
+    static String normalize(String locale) {
+        return locale.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * A memoized handle.
+     */
+    private static final class Entry {
+
+        private final long generation;
+        private final WrappedString handle;
+
+        private Entry(long generation, WrappedString handle) {
+            this.generation = generation;
+            this.handle = handle;
+        }
+    }
+
+    /**
+     * The loaded languages of one generation.
+     */
+    private static final class Languages {
+
+        private final long generation;
+        private final Map<String, WrappedString> handles = new HashMap<>();
+        private final Map<String, String> byName = new HashMap<>();
+        private final Map<String, String> byLanguage = new HashMap<>();
+
+        private Languages(long generation, Set<String> langNames) {
+            this.generation = generation;
+            // Sorted, so SAME_LANGUAGE picks the same language on every node
+            for (String langName : new TreeSet<>(langNames)) {
+                handles.put(langName, new WrappedString(langName));
+                String normalized = normalize(langName);
+                byName.putIfAbsent(normalized, langName);
+                int separator = normalized.indexOf('-');
+                byLanguage.putIfAbsent(separator == -1 ? normalized : normalized.substring(0, separator), langName);
+            }
+        }
+    }
+
+}
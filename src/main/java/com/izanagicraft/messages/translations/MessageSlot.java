@@ -0,0 +1,194 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.jfr.RenderEvent;
+import com.izanagicraft.messages.placeholders.MessageArguments;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.strings.WrappedString;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:MessageSlot
+ * <p>
+ * A translation key bound to a handler, holding its resolved templates.
+ * <p>
+ * The implementations generated for {@link Messages} interfaces hold one slot per
+ * method. A slot resolves its template once per language and keeps it until the
+ * languages or the fallback of the handler change, so rendering a typed message
+ * neither looks up the key nor compiles its format again. Usage profiles only
+ * record the resolutions, not every render.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * MessageSlot bought = new MessageSlot(translations, "shop.bought");
+ * String text = bought.render(locale, MessageArguments.local().add(item).add(count).add(price));
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class MessageSlot {
+
+    /**
+     * The maximum number of languages a slot keeps templates for.
+     */
+    private static final int MAX_LANGUAGES = 256;
+
+    private final TranslationHandler handler;
+    private final String key;
+
+    private volatile Bound fallback;
+    private final Map<String, Bound> languages = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a slot.
+     *
+     * @param handler The handler translating the key.
+     * @param key     The translation key.
+     */
+    public MessageSlot(TranslationHandler handler, String key) {
+        this.handler = handler;
+        this.key = key;
+    }
+
+    /**
+     * Gets the translation key.
+     *
+     * @return The key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Render the message in the fallback language.
+     *
+     * @param args Arguments for placeholders.
+     * @return Translated and formatted text.
+     */
+    public String render(MessageArguments args) {
+        return render(null, template(null), args);
+    }
+
+    /**
+     * Render the message in the language of a locale.
+     *
+     * @param locale The locale to translate for.
+     * @param args   Arguments for placeholders.
+     * @return Translated and formatted text.
+     */
+    public String render(Locale locale, MessageArguments args) {
+        String langName = locale.getLanguage();
+        return render(langName, template(langName), args);
+    }
+
+    /**
+     * Render the message in a language.
+     *
+     * @param langName The language name to translate in.
+     * @param args     Arguments for placeholders.
+     * @return Translated and formatted text.
+     */
+    public String render(WrappedString langName, MessageArguments args) {
+        return render(langName.getValue(), template(langName.getValue()), args);
+    }
+
+    private String render(String langName, MessageTemplate template, MessageArguments args) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        String text = template.render(args, handler.getDefaultReplacements());
+        event.finish(langName, key, text.length());
+        return text;
+    }
+
+    /**
+     * Gets the template of a language, resolving it again if the languages changed since it was resolved.
+     */
+    private MessageTemplate template(String langName) {
+        long generation = handler.getGeneration();
+        Bound bound = langName == null ? fallback : languages.get(langName);
+        if (bound != null && bound.generation == generation) return bound.template;
+
+        // The generation is read before resolving, so a template resolved during a change is resolved again
+        MessageTemplate template = langName == null ? null : handler.resolve(langName, key);
+        if (template == null) template = handler.resolveFallback(key);
+        bound = new Bound(generation, template);
+        if (langName == null) {
+            fallback = bound;
+        } else if (languages.size() < MAX_LANGUAGES || languages.containsKey(langName)) {
+            languages.put(langName, bound);
+        }
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageSlot{key=" + key + "}";
+    }
+
+    /**
+     * A template with the generation of the languages it was resolved from.
+     */
+    private static final class Bound {
+
+        private final long generation;
+        private final MessageTemplate template;
+
+        private Bound(long generation, MessageTemplate template) {
+            this.generation = generation;
+            this.template = template;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:PrecompiledTranslations
+ * <p>
+ * Translations loaded from classpath resources and compiled once, when this class
+ * is initialized.
+ * <p>
+ * The resources are listed in the {@value #RESOURCES_PROPERTY} system property,
+ * separated by commas. On the JVM they are loaded on first use. In a GraalVM
+ * native image this class is initialized at build time, so the parsed languages
+ * and compiled templates are stored in the image heap and available instantly
+ * at startup, without any resource metadata or parsing at runtime. Set the
+ * {@value #FALLBACK_PROPERTY} property there, otherwise the fallback follows the
+ * default locale of the build machine:
+ * <pre>
+ * {@code
+ * native-image -Dmessage-format.precompiled=lang/en.properties,lang/de.properties \
+ *              -Dmessage-format.precompiled.fallback=en ...
+ * }
+ * </pre>
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * TranslationHandler translations = PrecompiledTranslations.getHandler();
+ * String text = translations.translate("greeting", "John");
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class PrecompiledTranslations {
+
+    /**
+     * The system property listing the classpath resources to load.
+     */
+    public static final String RESOURCES_PROPERTY = "message-format.precompiled";
+
+    /**
+     * The system property naming the fallback language of the loaded resources.
+     */
+    public static final String FALLBACK_PROPERTY = "message-format.precompiled.fallback";
+
+    private static final TranslationHandler translationHandler = load();
+
+    // instantiation prevention
+    private PrecompiledTranslations() {
+    }
+
+    /**
+     * Gets the handler holding the precompiled translations.
+     *
+     * @return The TranslationHandler instance.
+     */
+    public static TranslationHandler getHandler() {
+        return translationHandler;
+    }
+
+    private static TranslationHandler load() {
+        TranslationHandler handler = new TranslationHandler();
+        String resources = System.getProperty(RESOURCES_PROPERTY);
+        if (resources == null || resources.isBlank()) return handler;
+
+        List<String> resourceNames = new ArrayList<>();
+        for (String resourceName : resources.split(",")) {
+            if (!resourceName.isBlank()) resourceNames.add(resourceName.trim());
+        }
+        handler.loadResources(PrecompiledTranslations.class.getClassLoader(), resourceNames.toArray(new String[0]));
+
+        String fallbackName = System.getProperty(FALLBACK_PROPERTY);
+        if (fallbackName != null) handler.setFallbackLanguage(fallbackName);
+
+        precompile(handler);
+        return handler;
+    }
+
+    /**
+     * Compile the templates of all loaded languages into the handler's template cache.
+     *
+     * @param handler The handler to compile the templates of.
+     */
+    static void precompile(TranslationHandler handler) {
+        for (String langName : handler.getLanguageNames()) {
+            Properties properties = handler.getLanguage(langName);
+            if (properties == null) continue;
+            for (String key : properties.stringPropertyNames()) {
+                handler.getPlaceholderHandler().compile(properties.getProperty(key));
+            }
+        }
+    }
+
+}
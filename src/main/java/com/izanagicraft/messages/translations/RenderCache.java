@@ -0,0 +1,374 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:RenderCache
+ * <p>
+ * An opt-in cache of rendered messages keyed by language, key and argument values.
+ * <p>
+ * Some combinations dominate the traffic, such as the same join message rendered
+ * for every viewer. Once a cache is {@link TranslationHandler#setRenderCache set}
+ * on a handler, keys {@link #markCacheable marked cacheable} are rendered once per
+ * combination and then served from the cache until the entry expires, the
+ * languages are reloaded or the default replacements change.
+ * <p>
+ * Only immutable argument types are cached: strings, boxed primitives and
+ * {@link UUID}s. Calls with other arguments, e.g. objects whose {@code toString}
+ * may change, are always rendered. The cache is bounded by size and time to live;
+ * once it is full, expired entries are dropped first, then arbitrary ones.
+ * Hits and misses are counted per key.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * RenderCache cache = new RenderCache(10_000, Duration.ofMinutes(5));
+ * cache.markCacheable("player.join", "player.quit");
+ * translations.setRenderCache(cache);
+ * // ...
+ * double hitRate = cache.getStatistics("player.join").getHitRate();
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class RenderCache {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Increased on every clear, so messages rendered from replaced translations are never served.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * The counters of all keys marked cacheable.
+     */
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize The maximum number of cached messages.
+     * @param ttl     How long a rendered message is served from the cache.
+     */
+    public RenderCache(int maxSize, Duration ttl) {
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Mark keys as cacheable.
+     *
+     * @param keys The translation keys.
+     */
+    public void markCacheable(String... keys) {
+        for (String key : keys) {
+            statistics.putIfAbsent(key, new Statistics());
+        }
+    }
+
+    /**
+     * Stop caching keys, dropping their cached messages and statistics.
+     *
+     * @param keys The translation keys.
+     */
+    public void unmarkCacheable(String... keys) {
+        Set<String> removed = Set.of(keys);
+        statistics.keySet().removeAll(removed);
+        entries.keySet().removeIf(key -> removed.contains(key.key));
+    }
+
+    /**
+     * Check whether a key is marked cacheable.
+     *
+     * @param key The translation key.
+     * @return True if the key is cached.
+     */
+    public boolean isCacheable(String key) {
+        return statistics.containsKey(key);
+    }
+
+    /**
+     * Gets the hit and miss counts of a key.
+     *
+     * @param key The translation key.
+     * @return The statistics, or null if the key is not marked cacheable.
+     */
+    public Statistics getStatistics(String key) {
+        return statistics.get(key);
+    }
+
+    /**
+     * Gets the hit rates of all cacheable keys.
+     *
+     * @return The hit rates by key, from 0 to 1.
+     */
+    public Map<String, Double> getHitRates() {
+        Map<String, Double> rates = new HashMap<>();
+        statistics.forEach((key, stats) -> rates.put(key, stats.getHitRate()));
+        return Collections.unmodifiableMap(rates);
+    }
+
+    /**
+     * Gets the number of cached messages.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop all cached messages. The statistics are kept.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Gets the current generation, to be passed to {@link #put} once the message is rendered.
+     *
+     * @return The generation.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Gets a cached message, counting a hit or a miss.
+     *
+     * @param langName The requested language name, or null for the fallback language.
+     * @param key      The translation key, marked cacheable.
+     * @param args     The arguments.
+     * @param version  The version of the default replacements.
+     * @return The cached message, or null if it has to be rendered.
+     */
+    String get(String langName, String key, Object[] args, long version) {
+        Statistics stats = statistics.get(key);
+        if (stats == null) return null;
+        Entry entry = entries.get(new Key(langName, key, args));
+        if (entry != null && entry.version == version && entry.generation == generation.get()
+                && System.nanoTime() - entry.created < ttlNanos) {
+            stats.hits.increment();
+            return entry.text;
+        }
+        stats.misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache a rendered message.
+     *
+     * @param langName   The requested language name, or null for the fallback language.
+     * @param key        The translation key, marked cacheable.
+     * @param args       The arguments.
+     * @param version    The version of the default replacements.
+     * @param generation The {@link #generation()} read before rendering.
+     * @param text       The rendered message.
+     */
+    void put(String langName, String key, Object[] args, long version, long generation, String text) {
+        if (generation != this.generation.get() || !statistics.containsKey(key)) return;
+        long now = System.nanoTime();
+        if (entries.size() >= maxSize) evict(now);
+        // The caller may reuse its array
+        entries.put(new Key(langName, key, args.length == 0 ? NO_ARGS : args.clone()), new Entry(text, version, generation, now));
+    }
+
+    /**
+     * Check whether all arguments are of immutable types, so their rendering cannot change.
+     *
+     * @param args The arguments.
+     * @return True if a message with these arguments can be cached.
+     */
+    static boolean isCacheable(Object[] args) {
+        for (Object arg : args) {
+            if (arg == null || arg instanceof String || arg instanceof Integer || arg instanceof Long
+                    || arg instanceof Boolean || arg instanceof Character || arg instanceof Double || arg instanceof Float
+                    || arg instanceof Short || arg instanceof Byte || arg instanceof UUID) continue;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Make room for a new entry: drop expired entries, then an eighth of the cache if it is still full.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.created >= ttlNanos);
+        int excess = entries.size() - maxSize + Math.max(1, maxSize / 8);
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The hit and miss counts of a key.
+     */
+    public static final class Statistics {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private Statistics() {
+        }
+
+        /**
+         * Gets the number of messages served from the cache.
+         *
+         * @return The hit count.
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * Gets the number of messages that had to be rendered.
+         *
+         * @return The miss count.
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Gets the share of messages served from the cache.
+         *
+         * @return The hit rate from 0 to 1, or 0 if the key was not requested yet.
+         */
+        public double getHitRate() {
+            long hits = getHits();
+            long total = hits + getMisses();
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{hits=" + getHits() + ", misses=" + getMisses() + "}";
+        }
+    }
+
+    /**
+     * The cache key; the hash is computed once from the cached hashes of strings and the cheap ones of boxed values.
+     */
+    private static final class Key {
+
+        private final String langName;
+        private final String key;
+        private final Object[] args;
+        private final int hash;
+
+        private Key(String langName, String key, Object[] args) {
+            this.langName = langName;
+            this.key = key;
+            this.args = args;
+            int hash = 31 * Objects.hashCode(langName) + key.hashCode();
+            for (Object arg : args) {
+                hash = 31 * hash + Objects.hashCode(arg);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hash == other.hash && key.equals(other.key) && Objects.equals(langName, other.langName)
+                    && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A rendered message.
+     */
+    private static final class Entry {
+
+        private final String text;
+        private final long version;
+        private final long generation;
+        private final long created;
+
+        private Entry(String text, long version, long generation, long created) {
+            this.text = text;
+            this.version = version;
+            this.generation = generation;
+            this.created = created;
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.translations;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:ReportQueue
+ * <p>
+ * The bounded queue delivering the reports of a handler to its {@link TranslationReporter}.
+ * <p>
+ * Reports are deduplicated before anything else, so a missing key in a hot loop
+ * costs two map lookups after its first report. Distinct reports are then rate
+ * limited by a token bucket and queued without blocking; reports that exceed the
+ * rate or the queue capacity are dropped and counted. All queues are drained on
+ * a single shared daemon thread, started when the first report is queued.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+final class ReportQueue {
+
+    /**
+     * The default number of queued reports.
+     */
+    static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The default number of reports delivered per second, which is also the burst size.
+     */
+    static final int DEFAULT_REPORTS_PER_SECOND = 20;
+
+    /**
+     * The number of remembered reports per language or for load failures, before they are forgotten.
+     */
+    private static final int MAX_SEEN = 4096;
+
+    private static final String FALLBACK = "";
+
+    private volatile TranslationReporter reporter = TranslationReporter.DEFAULT;
+
+    private final BlockingQueue<Consumer<TranslationReporter>> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * The reported missing keys by language name, the fallback language as empty name.
+     */
+    private final Map<String, Set<String>> missingKeys = new ConcurrentHashMap<>();
+    private final Set<String> loadFailures = ConcurrentHashMap.newKeySet();
+    private final Set<String> renderFailures = ConcurrentHashMap.newKeySet();
+    private final Set<String> listenerFailures = ConcurrentHashMap.newKeySet();
+
+    private final double permitsPerNano;
+    private final double burst;
+    private double permits;
+
+    /**
+     * The time of the last refill, or 0 before the first report. Not taken at construction,
+     * so an instance created at image build time does not carry the build machine's clock.
+     */
+    private long lastRefill;
+
+    ReportQueue() {
+        this(DEFAULT_CAPACITY, DEFAULT_REPORTS_PER_SECOND);
+    }
+
+    ReportQueue(int capacity, int reportsPerSecond) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.permitsPerNano = reportsPerSecond / 1e9;
+        this.burst = reportsPerSecond;
+        this.permits = reportsPerSecond;
+    }
+
+    TranslationReporter getReporter() {
+        return reporter;
+    }
+
+    void setReporter(TranslationReporter reporter) {
+        this.reporter = reporter == null ? TranslationReporter.DEFAULT : reporter;
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Report a missing key, unless it was reported since the languages last changed.
+     */
+    void missingKey(String langName, String key) {
+        Set<String> keys = missingKeys.computeIfAbsent(langName == null ? FALLBACK : langName, name -> ConcurrentHashMap.newKeySet());
+        if (!remember(keys, key)) return;
+        offer(reporter -> reporter.missingKey(langName, key));
+    }
+
+    /**
+     * Report a load failure, unless the same error of the same source was reported before.
+     */
+    void loadFailed(String source, Throwable error) {
+        if (!remember(loadFailures, source + '\0' + error)) return;
+        offer(reporter -> reporter.loadFailed(source, error));
+    }
+
+    /**
+     * Report a render failure, unless the same error of the same message was reported before.
+     */
+    void renderFailed(String langName, String key, Throwable error) {
+        if (!remember(renderFailures, langName + '\0' + key + '\0' + error)) return;
+        offer(reporter -> reporter.renderFailed(langName, key, error));
+    }
+
+    /**
+     * Report a failing change listener, unless the same error of the same listener was reported before.
+     */
+    void listenerFailed(TranslationChangeListener listener, Throwable error) {
+        if (!remember(listenerFailures, System.identityHashCode(listener) + "\0" + error)) return;
+        offer(reporter -> reporter.listenerFailed(listener, error));
+    }
+
+    /**
+     * Run a task on the shared reporter thread.
+     */
+    static void execute(Runnable task) {
+        ReporterThread.EXECUTOR.execute(task);
+    }
+
+    /**
+     * Forget the reported missing keys, so keys that are still missing after a reload are reported again.
+     */
+    void forgetMissingKeys() {
+        missingKeys.clear();
+    }
+
+    private static boolean remember(Set<String> seen, String report) {
+        if (seen.contains(report)) return false;
+        if (seen.size() >= MAX_SEEN) seen.clear();
+        return seen.add(report);
+    }
+
+    private void offer(Consumer<TranslationReporter> report) {
+        if (!acquirePermit() || !queue.offer(report)) {
+            dropped.increment();
+            return;
+        }
+        if (scheduled.compareAndSet(false, true)) ReporterThread.EXECUTOR.execute(this::drain);
+    }
+
+    private synchronized boolean acquirePermit() {
+        long now = System.nanoTime();
+        if (lastRefill != 0) permits = Math.min(burst, permits + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        if (permits < 1) return false;
+        permits--;
+        return true;
+    }
+
+    private void drain() {
+        do {
+            Consumer<TranslationReporter> report;
+            while ((report = queue.poll()) != null) {
+                try {
+                    report.accept(reporter);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+            scheduled.set(false);
+            // Reports queued after the last poll but before the flag was cleared are drained here
+        } while (!queue.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Holds the shared reporter thread, which is only started once the first report is queued.
+     */
+    private static final class ReporterThread {
+
+        private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "message-format-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    }
+
+}
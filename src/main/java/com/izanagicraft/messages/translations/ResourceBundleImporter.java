@@ -0,0 +1,181 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.placeholders.MessageFormatConverter;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:ResourceBundleImporter
+ * <p>
+ * Imports {@link ResourceBundle}s with {@link java.text.MessageFormat} patterns
+ * as languages of a {@link TranslationHandler}.
+ * <p>
+ * Patterns are converted to the {@code ${0}} syntax by {@link MessageFormatConverter},
+ * so imported messages are compiled and rendered like every other translation.
+ * Patterns that cannot be converted, e.g. ones using {@code {0,number}} or
+ * {@code {0,choice,...}}, are skipped and reported by {@link #getSkippedKeys()};
+ * they have to be rewritten or kept on {@link TemplateBundle}. Note that the
+ * handler renders arguments with {@code String.valueOf}, not with the number and
+ * date formats of {@code MessageFormat}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ResourceBundleImporter importer = new ResourceBundleImporter();
+ * layers.addLayer("legacy", importer.importBundles("messages", MyPlugin.class.getClassLoader(), Locale.ENGLISH, Locale.GERMAN));
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class ResourceBundleImporter {
+
+    /**
+     * The keys skipped so far. Guarded by {@code this}.
+     */
+    private final Set<String> skippedKeys = new TreeSet<>();
+
+    /**
+     * The reporter of bundles that failed to load.
+     */
+    private volatile TranslationReporter reporter = TranslationReporter.DEFAULT;
+
+    /**
+     * Convert all string values of a bundle and its parents into translations.
+     *
+     * @param bundle The bundle to import.
+     * @return The converted translations.
+     */
+    public Properties importBundle(ResourceBundle bundle) {
+        Properties properties = new Properties();
+        for (Enumeration<String> keys = bundle.getKeys(); keys.hasMoreElements(); ) {
+            String key = keys.nextElement();
+            Object value = bundle.getObject(key);
+            if (!(value instanceof String)) continue;
+            String format = MessageFormatConverter.convert((String) value);
+            if (format == null) {
+                synchronized (this) {
+                    skippedKeys.add(key);
+                }
+                continue;
+            }
+            properties.setProperty(key, format);
+        }
+        return properties;
+    }
+
+    /**
+     * Load and convert a bundle for each of the given locales. Bundles are looked up
+     * without falling back to the default locale, and are named by the language of
+     * their locale like the languages of a {@link TranslationHandler}.
+     * Locales without a bundle of their own language are skipped, instead of importing
+     * the base bundle under their name. Bundles that fail to load are reported to the
+     * {@link #setReporter(TranslationReporter) reporter} and skipped.
+     *
+     * @param baseName    The base name of the bundle, e.g. {@code messages}.
+     * @param classLoader The class loader to load the bundles with.
+     * @param locales     The locales to import.
+     * @return The converted languages, in locale order.
+     */
+    public Map<String, Properties> importBundles(String baseName, ClassLoader classLoader, Locale... locales) {
+        ResourceBundle.Control control = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            try {
+                ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale, classLoader, control);
+                if (!bundle.getLocale().getLanguage().equals(locale.getLanguage())) continue;
+                languages.put(locale.getLanguage(), importBundle(bundle));
+            } catch (MissingResourceException e) {
+                if (e.getCause() != null) reporter.loadFailed(baseName + "_" + locale, e.getCause());
+            } catch (Exception e) {
+                reporter.loadFailed(baseName + "_" + locale, e);
+            }
+        }
+        return languages;
+    }
+
+    /**
+     * Gets the reporter of bundles that failed to load.
+     *
+     * @return The reporter.
+     */
+    public TranslationReporter getReporter() {
+        return reporter;
+    }
+
+    /**
+     * Report bundles that failed to load to a reporter instead of printing them.
+     * Unlike the reporter of a {@link TranslationHandler}, it is called on the importing thread.
+     *
+     * @param reporter The reporter, or null for {@link TranslationReporter#DEFAULT}.
+     */
+    public void setReporter(TranslationReporter reporter) {
+        this.reporter = reporter == null ? TranslationReporter.DEFAULT : reporter;
+    }
+
+    /**
+     * Gets the keys whose patterns could not be converted so far.
+     *
+     * @return The skipped keys, sorted.
+     */
+    public synchronized Set<String> getSkippedKeys() {
+        return Collections.unmodifiableSet(new TreeSet<>(skippedKeys));
+    }
+
+}
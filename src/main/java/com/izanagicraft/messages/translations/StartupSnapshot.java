@@ -0,0 +1,329 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:StartupSnapshot
+ * <p>
+ * Dumps the loaded state of a {@link TranslationHandler} into a snapshot
+ * directory and restores it on the next start, together with a
+ * {@link UsageProfile} used to warm up the hottest keys.
+ * <p>
+ * The snapshot holds all languages, the fallback language and the content hashes
+ * of the loaded sources, so a restored handler skips re-reading unchanged files on
+ * the next {@code init} or {@code load}. Default replacements are not part of the
+ * snapshot; they are set by code at startup anyway.
+ * <p>
+ * {@link #beforeCheckpoint()} and {@link #afterRestore()} follow the CRaC
+ * {@code org.crac.Resource} callbacks, so the snapshot can be registered with a
+ * one-line adapter without this library depending on CRaC. The library keeps no
+ * loaded data in static state, so its classes can be archived with AppCDS
+ * ({@code -XX:ArchiveClassesAtExit}) while the data comes from the snapshot.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * StartupSnapshot snapshot = new StartupSnapshot(translations, dataFolder.resolve("snapshot"));
+ * snapshot.restore();              // restores languages and warms up hot keys
+ * translations.init(languageFiles); // only re-reads changed files
+ * // ... on shutdown
+ * snapshot.save();
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class StartupSnapshot {
+
+    /**
+     * The file name of the language archive within the snapshot directory.
+     */
+    public static final String ARCHIVE_NAME = "translations.snapshot";
+
+    /**
+     * The file name of the usage profile within the snapshot directory.
+     */
+    public static final String PROFILE_NAME = "usage.profile";
+
+    /**
+     * The default maximum number of keys saved in and warmed up from the usage profile.
+     */
+    public static final int DEFAULT_WARMUP_KEYS = 1000;
+
+    private static final int MAGIC = 0x494d4653; // "IMFS"
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The maximum length of a string in a snapshot, in bytes.
+     */
+    private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+    private final TranslationHandler handler;
+    private final Path directory;
+    private final int warmupKeys;
+
+    /**
+     * The modification time of the archive when it was last saved or restored.
+     */
+    private volatile long archiveTime = -1;
+
+    /**
+     * Creates a snapshot warming up the default number of keys.
+     *
+     * @param handler   The handler to save and restore.
+     * @param directory The snapshot directory.
+     */
+    public StartupSnapshot(TranslationHandler handler, Path directory) {
+        this(handler, directory, DEFAULT_WARMUP_KEYS);
+    }
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param handler    The handler to save and restore.
+     * @param directory  The snapshot directory.
+     * @param warmupKeys The maximum number of keys saved in and warmed up from the usage profile.
+     */
+    public StartupSnapshot(TranslationHandler handler, Path directory, int warmupKeys) {
+        this.handler = handler;
+        this.directory = directory;
+        this.warmupKeys = warmupKeys;
+    }
+
+    /**
+     * Restore the languages, start recording usage on top of the saved profile
+     * and warm up the hottest keys.
+     *
+     * @return True if languages were restored, false if there was no valid snapshot.
+     */
+    public boolean restore() {
+        boolean restored = false;
+        Path archive = directory.resolve(ARCHIVE_NAME);
+        if (Files.isRegularFile(archive)) {
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(archive))) {
+                read(handler, inputStream);
+                archiveTime = Files.getLastModifiedTime(archive).toMillis();
+                restored = true;
+            } catch (IOException e) {
+                handler.reportLoadFailure(archive.toString(), e);
+            }
+        }
+
+        UsageProfile profile = UsageProfile.load(directory.resolve(PROFILE_NAME), handler);
+        // Warm up before recording, so warmup renders do not count as usage
+        profile.warmup(handler, warmupKeys);
+        handler.setUsageProfile(profile);
+        return restored;
+    }
+
+    /**
+     * Save the languages and the usage profile.
+     *
+     * @throws IOException If the snapshot could not be written.
+     */
+    public void save() throws IOException {
+        Files.createDirectories(directory);
+        Path archive = directory.resolve(ARCHIVE_NAME);
+        // Write to a temporary file first, so a crash never leaves a truncated archive behind
+        Path temporary = directory.resolve(ARCHIVE_NAME + ".tmp");
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            write(handler, outputStream);
+        }
+        Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING);
+        archiveTime = Files.getLastModifiedTime(archive).toMillis();
+
+        UsageProfile profile = handler.getUsageProfile();
+        if (profile != null) profile.save(directory.resolve(PROFILE_NAME), warmupKeys);
+    }
+
+    /**
+     * Save the snapshot before a CRaC checkpoint.
+     */
+    public void beforeCheckpoint() {
+        try {
+            save();
+        } catch (IOException e) {
+            handler.reportLoadFailure(directory.toString(), e);
+        }
+    }
+
+    /**
+     * Restore the languages after a CRaC restore if the archive was replaced
+     * while the process was checkpointed, e.g. by another instance.
+     */
+    public void afterRestore() {
+        Path archive = directory.resolve(ARCHIVE_NAME);
+        try {
+            if (!Files.isRegularFile(archive) || Files.getLastModifiedTime(archive).toMillis() == archiveTime) return;
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(archive))) {
+                read(handler, inputStream);
+            }
+            archiveTime = Files.getLastModifiedTime(archive).toMillis();
+        } catch (IOException e) {
+            handler.reportLoadFailure(archive.toString(), e);
+        }
+    }
+
+    /**
+     * Write the languages, fallback language and content hashes of a handler. The stream is not closed.
+     *
+     * @param handler      The handler to write.
+     * @param outputStream The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    public static void write(TranslationHandler handler, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        String fallbackName;
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        Map<String, Long> hashes;
+        synchronized (handler) {
+            fallbackName = handler.getFallbackLanguage();
+            for (String langName : handler.getLanguageNames()) {
+                Properties properties = handler.getLanguage(langName);
+                if (properties != null) languages.put(langName, properties);
+            }
+            hashes = handler.getLoader().getContentHashes();
+        }
+
+        writeString(out, fallbackName == null ? "" : fallbackName);
+        out.writeInt(languages.size());
+        for (Map.Entry<String, Properties> language : languages.entrySet()) {
+            writeString(out, language.getKey());
+            Long hash = hashes.get(language.getKey());
+            out.writeBoolean(hash != null);
+            if (hash != null) out.writeLong(hash);
+
+            Map<String, String> entries = new HashMap<>();
+            for (String key : language.getValue().stringPropertyNames()) {
+                entries.put(key, language.getValue().getProperty(key));
+            }
+            out.writeInt(entries.size());
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Replace the languages of a handler with the ones of a snapshot. The stream is not closed.
+     *
+     * @param handler     The handler to restore into.
+     * @param inputStream The stream to read from.
+     * @throws IOException If reading fails or the stream holds no valid snapshot; the handler is left unchanged then.
+     */
+    public static void read(TranslationHandler handler, InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) throw new IOException("Not a translation snapshot");
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported snapshot format version " + version);
+
+        String fallbackName = readString(in);
+        int languageCount = in.readInt();
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        Map<String, Long> hashes = new HashMap<>();
+        for (int i = 0; i < languageCount; i++) {
+            String langName = readString(in);
+            if (in.readBoolean()) hashes.put(langName, in.readLong());
+
+            Properties properties = new Properties();
+            int entryCount = in.readInt();
+            for (int j = 0; j < entryCount; j++) {
+                String key = readString(in);
+                properties.setProperty(key, readString(in));
+            }
+            languages.put(langName, properties);
+        }
+
+        synchronized (handler) {
+            handler.setTranslations(languages);
+            if (!fallbackName.isEmpty()) handler.setFallbackLanguage(fallbackName);
+            handler.getLoader().setContentHashes(hashes);
+        }
+    }
+
+    /**
+     * Write a string as length-prefixed UTF-8, without the 64 KiB limit of {@link DataOutputStream#writeUTF}.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) throw new IOException("Corrupted snapshot");
+        // Read in chunks, so a corrupted length never allocates more than the stream holds
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) throw new EOFException("Truncated snapshot");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.placeholders.MessageFormatConverter;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TemplateBundle
+ * <p>
+ * A {@link ResourceBundle} whose {@code MessageFormat} patterns are compiled
+ * into {@link MessageTemplate}s once, when the bundle is loaded.
+ * <p>
+ * {@link #getString(String)} still returns the original patterns, so existing
+ * code keeps working unchanged. Call sites that switch from
+ * {@code MessageFormat.format(bundle.getString(key), args)} to
+ * {@link #format(ResourceBundle, String, Object...)} get the same text without
+ * parsing the pattern on every call. Arguments are formatted like
+ * {@code MessageFormat} does for plain arguments: numbers and dates with the
+ * default format locale, missing arguments as {@code {n}}. Patterns that cannot
+ * be converted are still formatted by {@code MessageFormat}.
+ * <p>
+ * Bundles are created by {@link TemplateBundleControl}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ResourceBundle bundle = TemplateBundleControl.INSTANCE.getBundle("messages", locale, MyPlugin.class.getClassLoader());
+ * String text = TemplateBundle.format(bundle, "shop.bought", itemName, price);
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TemplateBundle extends ResourceBundle {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The values of the wrapped bundle.
+     */
+    private final Map<String, Object> values;
+
+    /**
+     * The compiled templates of all convertible string values.
+     */
+    private final Map<String, Compiled> templates;
+
+    /**
+     * The locale set by {@link TemplateBundleControl}, or null to use the one set by {@code ResourceBundle}.
+     */
+    private volatile Locale locale;
+
+    /**
+     * Creates a bundle holding the values of another bundle, compiling its string values.
+     * The parent of the source bundle is not included.
+     *
+     * @param source The bundle to compile.
+     */
+    public TemplateBundle(ResourceBundle source) {
+        Map<String, Object> values = new HashMap<>();
+        Map<String, Compiled> templates = new HashMap<>();
+        for (Enumeration<String> keys = source.getKeys(); keys.hasMoreElements(); ) {
+            String key = keys.nextElement();
+            Object value = source.getObject(key);
+            values.put(key, value);
+            if (!(value instanceof String)) continue;
+            String format = MessageFormatConverter.convert((String) value);
+            if (format != null) templates.put(key, new Compiled(MessageTemplate.compile(format)));
+        }
+        this.values = values;
+        this.templates = templates;
+    }
+
+    /**
+     * Set the locale and parent of a bundle loaded by {@link TemplateBundleControl}.
+     */
+    void link(Locale locale, ResourceBundle parent) {
+        this.locale = locale;
+        setParent(parent);
+    }
+
+    @Override
+    public Locale getLocale() {
+        Locale locale = this.locale;
+        return locale != null ? locale : super.getLocale();
+    }
+
+    /**
+     * Format a message of a bundle. Template bundles render their compiled template;
+     * any other bundle falls back to {@link MessageFormat#format(String, Object...)}.
+     *
+     * @param bundle The bundle to look the pattern up in.
+     * @param key    The message key.
+     * @param args   Arguments for the pattern.
+     * @return The formatted text.
+     * @throws MissingResourceException If no pattern is found for the key.
+     */
+    public static String format(ResourceBundle bundle, String key, Object... args) {
+        if (bundle instanceof TemplateBundle) return ((TemplateBundle) bundle).format(key, args);
+        return MessageFormat.format(bundle.getString(key), args);
+    }
+
+    /**
+     * Format a message of this bundle or its parents.
+     *
+     * @param key  The message key.
+     * @param args Arguments for the pattern.
+     * @return The formatted text.
+     * @throws MissingResourceException If no pattern is found for the key.
+     */
+    public String format(String key, Object... args) {
+        if (args == null) args = NO_ARGS;
+        for (ResourceBundle bundle = this; bundle != null; ) {
+            if (!(bundle instanceof TemplateBundle)) return MessageFormat.format(bundle.getString(key), args);
+            TemplateBundle templateBundle = (TemplateBundle) bundle;
+            Compiled compiled = templateBundle.templates.get(key);
+            if (compiled != null) return compiled.template.render(formatArgs(args), compiled.missing);
+            if (templateBundle.values.containsKey(key)) {
+                // Not convertible, keep the legacy path
+                return MessageFormat.format(templateBundle.getString(key), args);
+            }
+            bundle = templateBundle.parent;
+        }
+        throw new MissingResourceException("Can't find resource for bundle " + getClass().getName() + ", key " + key,
+                getClass().getName(), key);
+    }
+
+    /**
+     * Gets the compiled template of a key of this bundle or its parents.
+     *
+     * @param key The message key.
+     * @return The template, or null if the key is missing or its pattern could not be converted.
+     */
+    public MessageTemplate getTemplate(String key) {
+        for (ResourceBundle bundle = this; bundle instanceof TemplateBundle; bundle = ((TemplateBundle) bundle).parent) {
+            TemplateBundle templateBundle = (TemplateBundle) bundle;
+            Compiled compiled = templateBundle.templates.get(key);
+            if (compiled != null) return compiled.template;
+            if (templateBundle.values.containsKey(key)) return null;
+        }
+        return null;
+    }
+
+    @Override
+    protected Object handleGetObject(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    protected Set<String> handleKeySet() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    @Override
+    public Enumeration<String> getKeys() {
+        Set<String> keys = new HashSet<>(values.keySet());
+        if (parent != null) keys.addAll(parent.keySet());
+        return Collections.enumeration(keys);
+    }
+
+    /**
+     * Format numbers and dates like {@code MessageFormat} does for plain arguments,
+     * copying the arguments only if one of them needs it.
+     */
+    private static Object[] formatArgs(Object[] args) {
+        Object[] formatted = args;
+        Locale locale = null;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            String text;
+            if (arg instanceof Number) {
+                if (locale == null) locale = Locale.getDefault(Locale.Category.FORMAT);
+                text = NumberFormat.getInstance(locale).format(arg);
+            } else if (arg instanceof Date) {
+                if (locale == null) locale = Locale.getDefault(Locale.Category.FORMAT);
+                text = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg);
+            } else {
+                continue;
+            }
+            if (formatted == args) formatted = args.clone();
+            formatted[i] = text;
+        }
+        return formatted;
+    }
+
+    /**
+     * A compiled template with the replacements for missing arguments.
+     */
+    private static final class Compiled {
+
+        private final MessageTemplate template;
+        private final Map<String, String> missing;
+
+        private Compiled(MessageTemplate template) {
+            this.template = template;
+            Map<String, String> missing = new HashMap<>();
+            for (int i = 0; i < template.getSlotCount(); i++) {
+                missing.put(template.getSlot(i), "{" + template.getSlot(i) + "}");
+            }
+            this.missing = missing.isEmpty() ? Map.of() : missing;
+        }
+    }
+
+}
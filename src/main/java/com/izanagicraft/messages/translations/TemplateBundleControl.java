@@ -0,0 +1,237 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TemplateBundleControl
+ * <p>
+ * A {@link ResourceBundle.Control} loading bundles as {@link TemplateBundle}s.
+ * <p>
+ * Bundles are located like with the default control (class and properties
+ * bundles, candidate locales and fallback locale), but every loaded bundle is
+ * compiled once into templates. Load bundles through
+ * {@link #getBundle(String, Locale, ClassLoader)}, which keeps its own cache:
+ * the cache of {@code ResourceBundle.getBundle} is not keyed by control, so it
+ * may hand out a plain bundle loaded earlier by other code. Bundles loaded by
+ * passing this control to {@code ResourceBundle.getBundle} are not cached there,
+ * so they never replace the plain bundles other code expects.
+ * <p>
+ * Like the cache of {@code ResourceBundle}, the cache holds class loaders weakly,
+ * so bundles of an unloaded plugin do not keep its class loader alive, unless
+ * a bundle holds objects of the loader's classes; {@link #clearCache(ClassLoader)}
+ * drops the bundles of a single loader.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ResourceBundle bundle = TemplateBundleControl.INSTANCE.getBundle("messages", locale, MyPlugin.class.getClassLoader());
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TemplateBundleControl extends ResourceBundle.Control {
+
+    /**
+     * The shared control instance.
+     */
+    public static final TemplateBundleControl INSTANCE = new TemplateBundleControl();
+
+    /**
+     * The loaded bundles by class loader, base name and locale; empty if there is no bundle.
+     * The class loader may be null for the bootstrap loader.
+     */
+    private final Map<ClassLoader, Map<BundleKey, Optional<TemplateBundle>>> bundles =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a control loading class and properties bundles.
+     */
+    protected TemplateBundleControl() {
+    }
+
+    /**
+     * Gets a template bundle, loading and compiling it and its parents on first use.
+     *
+     * @param baseName The base name of the bundle, e.g. {@code messages}.
+     * @param locale   The locale to get the bundle for.
+     * @param loader   The class loader to load the bundle with.
+     * @return The bundle.
+     * @throws MissingResourceException If no bundle is found or a bundle fails to load.
+     */
+    public ResourceBundle getBundle(String baseName, Locale locale, ClassLoader loader) {
+        TemplateBundle bundle = loadChain(baseName, locale, loader);
+        if (bundle == null || bundle.getLocale().equals(Locale.ROOT) && !locale.equals(Locale.ROOT)) {
+            // Only the base bundle matched, prefer a specific bundle of the fallback locale
+            Locale fallback = getFallbackLocale(baseName, locale);
+            if (fallback != null && !fallback.equals(locale)) {
+                TemplateBundle fallbackBundle = loadChain(baseName, fallback, loader);
+                if (fallbackBundle != null && (bundle == null || !fallbackBundle.getLocale().equals(Locale.ROOT))) {
+                    bundle = fallbackBundle;
+                }
+            }
+        }
+        if (bundle == null) {
+            throw new MissingResourceException("Can't find bundle for base name " + baseName + ", locale " + locale,
+                    baseName + "_" + locale, "");
+        }
+        return bundle;
+    }
+
+    /**
+     * Forget the bundles a class loader loaded through {@link #getBundle(String, Locale, ClassLoader)},
+     * e.g. when its plugin is reloaded.
+     *
+     * @param loader The class loader.
+     */
+    public void clearCache(ClassLoader loader) {
+        bundles.remove(loader);
+    }
+
+    /**
+     * Forget all bundles loaded through {@link #getBundle(String, Locale, ClassLoader)} by any class loader.
+     */
+    public void clearCache() {
+        bundles.clear();
+    }
+
+    @Override
+    public long getTimeToLive(String baseName, Locale locale) {
+        return TTL_DONT_CACHE;
+    }
+
+    @Override
+    public List<String> getFormats(String baseName) {
+        return FORMAT_DEFAULT;
+    }
+
+    @Override
+    public ResourceBundle newBundle(String baseName, Locale locale, String format, ClassLoader loader, boolean reload)
+            throws IllegalAccessException, InstantiationException, IOException {
+        ResourceBundle source = super.newBundle(baseName, locale, format, loader, reload);
+        return source == null ? null : new TemplateBundle(source);
+    }
+
+    /**
+     * Load the most specific bundle of a locale, linked to the bundles of its less specific candidates.
+     */
+    private TemplateBundle loadChain(String baseName, Locale locale, ClassLoader loader) {
+        List<Locale> candidates = getCandidateLocales(baseName, locale);
+        Map<BundleKey, Optional<TemplateBundle>> loaded = bundles.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+        TemplateBundle parent = null;
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            Locale candidate = candidates.get(i);
+            TemplateBundle linkParent = parent;
+            Optional<TemplateBundle> bundle = loaded.computeIfAbsent(new BundleKey(baseName, candidate),
+                    key -> load(key, loader, linkParent));
+            if (bundle.isPresent()) parent = bundle.get();
+        }
+        return parent;
+    }
+
+    /**
+     * Load a single bundle in the first format that has one. Failures are thrown and not cached.
+     */
+    private Optional<TemplateBundle> load(BundleKey key, ClassLoader loader, TemplateBundle parent) {
+        for (String format : getFormats(key.baseName)) {
+            ResourceBundle loaded;
+            try {
+                loaded = newBundle(key.baseName, key.locale, format, loader, false);
+            } catch (Exception | LinkageError e) {
+                MissingResourceException missing = new MissingResourceException("Can't load bundle for base name "
+                        + key.baseName + ", locale " + key.locale, key.baseName + "_" + key.locale, "");
+                missing.initCause(e);
+                throw missing;
+            }
+            if (loaded == null) continue;
+            TemplateBundle bundle = loaded instanceof TemplateBundle ? (TemplateBundle) loaded : new TemplateBundle(loaded);
+            bundle.link(key.locale, parent);
+            return Optional.of(bundle);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The cache key of a bundle of a class loader.
+     */
+    private static final class BundleKey {
+
+        private final String baseName;
+        private final Locale locale;
+
+        private BundleKey(String baseName, Locale locale) {
+            this.baseName = baseName;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BundleKey)) return false;
+            BundleKey other = (BundleKey) o;
+            return baseName.equals(other.baseName) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * baseName.hashCode() + locale.hashCode();
+        }
+    }
+
+}
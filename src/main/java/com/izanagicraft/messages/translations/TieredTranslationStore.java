@@ -0,0 +1,618 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.jfr.CacheEvictionEvent;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TieredTranslationStore
+ * <p>
+ * Two-tier storage for languages that are only used rarely.
+ * <p>
+ * Every language is kept as compressed blocks, one block per key namespace
+ * (the part of the key before the first {@code '.'}). Frequently used languages
+ * are additionally held "hot" as decompressed, compiled templates. Lookups in
+ * cold languages decompress only the block of the requested namespace, and a
+ * small number of recently decompressed blocks is kept around. Keys found
+ * missing in a cold language are remembered, so repeated lookups of them do
+ * not decompress their block again.
+ * <p>
+ * Languages are promoted to the hot tier once their access count reaches the
+ * promotion threshold. Access counts decay on every {@link #rebalance()}, which
+ * also demotes hot languages that are no longer used frequently. A language that
+ * could not be promoted because the hot tier is full of more frequently used
+ * languages is only tried again once it was used more often than the least used
+ * of them at that time, or after the next rebalance, so lookups in cold languages
+ * do not contend on the store's lock.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * TranslationHandler translations = new TranslationHandler();
+ * translations.setTieredStore(new TieredTranslationStore(4, 256));
+ * translations.init(languageFiles);
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TieredTranslationStore {
+
+    /**
+     * The default number of decompressed cold blocks kept in memory.
+     */
+    public static final int DEFAULT_BLOCK_CACHE_SIZE = 16;
+
+    /**
+     * The maximum number of missing keys remembered per language.
+     */
+    private static final int MAX_MISSING_KEYS = 1024;
+
+    private final int hotCapacity;
+    private final int promotionThreshold;
+    private final int blockCacheSize;
+
+    private final Map<String, Language> languages = new ConcurrentHashMap<>();
+
+    /**
+     * Recently decompressed cold blocks. Read without locking; written and evicted while holding {@code this}.
+     */
+    private final Map<BlockKey, CachedBlock> blockCache = new ConcurrentHashMap<>();
+
+    /**
+     * Orders the uses of cached blocks, so the least recently used one is evicted.
+     */
+    private final AtomicLong blockClock = new AtomicLong();
+
+    /**
+     * Creates a store with the default block cache size.
+     *
+     * @param hotCapacity        The maximum number of hot languages, not counting pinned ones.
+     * @param promotionThreshold The number of accesses after which a cold language is promoted.
+     */
+    public TieredTranslationStore(int hotCapacity, int promotionThreshold) {
+        this(hotCapacity, promotionThreshold, DEFAULT_BLOCK_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a store.
+     *
+     * @param hotCapacity        The maximum number of hot languages, not counting pinned ones.
+     * @param promotionThreshold The number of accesses after which a cold language is promoted.
+     * @param blockCacheSize     The number of decompressed cold blocks kept in memory.
+     */
+    public TieredTranslationStore(int hotCapacity, int promotionThreshold, int blockCacheSize) {
+        if (hotCapacity < 0) throw new IllegalArgumentException("hotCapacity must not be negative");
+        if (promotionThreshold < 1) throw new IllegalArgumentException("promotionThreshold must be positive");
+        if (blockCacheSize < 0) throw new IllegalArgumentException("blockCacheSize must not be negative");
+        this.hotCapacity = hotCapacity;
+        this.promotionThreshold = promotionThreshold;
+        this.blockCacheSize = blockCacheSize;
+    }
+
+    /**
+     * Gets the namespace of a translation key.
+     *
+     * @param key The translation key.
+     * @return The part of the key before the first {@code '.'}, or an empty string if there is none.
+     */
+    static String namespaceOf(String key) {
+        int dot = key.indexOf('.');
+        return dot == -1 ? "" : key.substring(0, dot);
+    }
+
+    /**
+     * Store a language. The language starts in the cold tier.
+     * An already stored language with the same name is replaced.
+     *
+     * @param langName   The language name.
+     * @param properties The translations of the language.
+     */
+    public void put(String langName, Properties properties) {
+        Map<String, Map<String, String>> namespaces = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            namespaces.computeIfAbsent(namespaceOf(key), ns -> new HashMap<>()).put(key, properties.getProperty(key));
+        }
+
+        Map<String, byte[]> blocks = new HashMap<>();
+        int keyCount = 0;
+        for (Map.Entry<String, Map<String, String>> entry : namespaces.entrySet()) {
+            blocks.put(entry.getKey(), compress(entry.getValue()));
+            keyCount += entry.getValue().size();
+        }
+
+        synchronized (this) {
+            Language previous = languages.put(langName, new Language(Collections.unmodifiableMap(blocks), keyCount));
+            if (previous != null) invalidateBlocks(langName);
+        }
+    }
+
+    /**
+     * Remove a language from the store.
+     *
+     * @param langName The language name.
+     */
+    public synchronized void remove(String langName) {
+        if (languages.remove(langName) != null) invalidateBlocks(langName);
+    }
+
+    /**
+     * Remove all languages from the store.
+     */
+    public synchronized void clear() {
+        languages.clear();
+        blockCache.clear();
+    }
+
+    /**
+     * Check whether a language is stored.
+     *
+     * @param langName The language name.
+     * @return True if the language is stored.
+     */
+    public boolean contains(String langName) {
+        return languages.containsKey(langName);
+    }
+
+    /**
+     * Gets the names of all stored languages.
+     *
+     * @return An unmodifiable view of the stored language names.
+     */
+    public Set<String> getLanguages() {
+        return Collections.unmodifiableSet(languages.keySet());
+    }
+
+    /**
+     * Look up the compiled template of a key.
+     *
+     * @param langName The language name.
+     * @param key      The translation key.
+     * @return The compiled template, or null if the language or key is not stored.
+     */
+    public MessageTemplate get(String langName, String key) {
+        Language language = languages.get(langName);
+        if (language == null) return null;
+
+        long accesses = language.accesses.incrementAndGet();
+        Map<String, MessageTemplate> hot = language.hot;
+        if (hot != null) return hot.get(key);
+
+        if (accesses >= promotionThreshold && accesses >= language.promoteAfter) {
+            hot = promote(langName, language);
+            if (hot != null) return hot.get(key);
+        }
+
+        byte[] block = language.blocks.get(namespaceOf(key));
+        // Known misses would decompress their block again whenever it left the block cache
+        if (block == null || language.missing.contains(key)) return null;
+        MessageTemplate template = decompressedBlock(langName, language, namespaceOf(key), block).get(key);
+        if (template == null && language.missing.size() < MAX_MISSING_KEYS) language.missing.add(key);
+        return template;
+    }
+
+    /**
+     * Materialize the translations of a language as Properties.
+     *
+     * @param langName The language name.
+     * @return The translations, or null if the language is not stored.
+     */
+    public Properties toProperties(String langName) {
+        Language language = languages.get(langName);
+        if (language == null) return null;
+        Properties properties = new Properties();
+        for (byte[] block : language.blocks.values()) {
+            properties.putAll(decompress(block));
+        }
+        return properties;
+    }
+
+    /**
+     * Keep a language in the hot tier regardless of its access frequency.
+     * Pinned languages do not count towards the hot capacity.
+     *
+     * @param langName The language name.
+     * @param pinned   Whether the language should be pinned.
+     */
+    public synchronized void setPinned(String langName, boolean pinned) {
+        Language language = languages.get(langName);
+        if (language == null) return;
+        language.pinned = pinned;
+        if (pinned && language.hot == null) language.hot = decompressAll(language);
+    }
+
+    /**
+     * Check whether a language is currently held in the hot tier.
+     *
+     * @param langName The language name.
+     * @return True if the language is hot.
+     */
+    public boolean isHot(String langName) {
+        Language language = languages.get(langName);
+        return language != null && language.hot != null;
+    }
+
+    /**
+     * Gets the total size of the compressed blocks of a language.
+     *
+     * @param langName The language name.
+     * @return The compressed size in bytes, or 0 if the language is not stored.
+     */
+    public long getCompressedSize(String langName) {
+        Language language = languages.get(langName);
+        if (language == null) return 0;
+        long size = 0;
+        for (byte[] block : language.blocks.values()) {
+            size += block.length;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the number of keys of a language.
+     *
+     * @param langName The language name.
+     * @return The key count, or 0 if the language is not stored.
+     */
+    public int getKeyCount(String langName) {
+        Language language = languages.get(langName);
+        return language == null ? 0 : language.keyCount;
+    }
+
+    /**
+     * Decay the access counts of all languages and move languages between tiers.
+     * <p>
+     * Hosts should call this periodically, e.g. once per minute. Hot languages whose
+     * decayed access count fell below half the promotion threshold are demoted,
+     * cold languages that reached the threshold are promoted while there is capacity.
+     */
+    public synchronized void rebalance() {
+        List<Map.Entry<String, Language>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Language> entry : languages.entrySet()) {
+            Language language = entry.getValue();
+            long accesses = language.accesses.get();
+            // Halve the count so it reflects recent rather than total usage
+            language.accesses.addAndGet(-(accesses / 2));
+            language.promoteAfter = 0;
+
+            if (language.pinned) continue;
+            if (language.hot != null && accesses < promotionThreshold / 2) {
+                demote(entry.getKey(), language);
+            } else if (language.hot == null && accesses >= promotionThreshold) {
+                candidates.add(entry);
+            }
+        }
+
+        candidates.sort((a, b) -> Long.compare(b.getValue().accesses.get(), a.getValue().accesses.get()));
+        for (Map.Entry<String, Language> candidate : candidates) {
+            if (hotCount() >= hotCapacity) break;
+            candidate.getValue().hot = decompressAll(candidate.getValue());
+            invalidateBlocks(candidate.getKey());
+        }
+    }
+
+    /**
+     * Promote a language to the hot tier, demoting the least used hot language if necessary.
+     *
+     * @param langName The language name.
+     * @param language The language to promote.
+     * @return The hot templates, or null if the language could not be promoted.
+     */
+    private synchronized Map<String, MessageTemplate> promote(String langName, Language language) {
+        if (language.hot != null) return language.hot;
+        if (languages.get(langName) != language) return null;
+
+        if (hotCount() >= hotCapacity) {
+            String coldestName = null;
+            Language coldest = null;
+            for (Map.Entry<String, Language> other : languages.entrySet()) {
+                Language candidate = other.getValue();
+                if (candidate.hot == null || candidate.pinned) continue;
+                if (coldest == null || candidate.accesses.get() < coldest.accesses.get()) {
+                    coldestName = other.getKey();
+                    coldest = candidate;
+                }
+            }
+            // Only displace languages that are used less frequently
+            if (coldest == null || coldest.accesses.get() >= language.accesses.get()) {
+                // Not tried again before it could succeed; rebalance resets this as it decays the counts
+                language.promoteAfter = coldest == null ? Long.MAX_VALUE : coldest.accesses.get() + 1;
+                return null;
+            }
+            demote(coldestName, coldest);
+        }
+
+        Map<String, MessageTemplate> hot = decompressAll(language);
+        language.hot = hot;
+        invalidateBlocks(langName);
+        return hot;
+    }
+
+    private static void demote(String langName, Language language) {
+        Map<String, MessageTemplate> hot = language.hot;
+        language.hot = null;
+        if (hot != null) CacheEvictionEvent.emit(CacheEvictionEvent.TIERED_HOT, langName, hot.size());
+    }
+
+    private int hotCount() {
+        int count = 0;
+        for (Language language : languages.values()) {
+            if (language.hot != null && !language.pinned) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Decompress a cold block of a language, caching it while the language is still the stored one.
+     */
+    private Map<String, MessageTemplate> decompressedBlock(String langName, Language language, String namespace, byte[] block) {
+        BlockKey blockKey = new BlockKey(langName, namespace);
+        CachedBlock cached = blockCache.get(blockKey);
+        if (cached != null) {
+            cached.lastUsed = blockClock.incrementAndGet();
+            return cached.templates;
+        }
+
+        Map<String, MessageTemplate> templates = compileAll(decompress(block));
+        if (blockCacheSize == 0) return templates;
+
+        synchronized (this) {
+            // The language may have been replaced or promoted while decompressing, which invalidated its blocks
+            if (languages.get(langName) != language || language.hot != null) return templates;
+            blockCache.put(blockKey, new CachedBlock(templates, blockClock.incrementAndGet()));
+            if (blockCache.size() > blockCacheSize) evictEldestBlock();
+        }
+        return templates;
+    }
+
+    /**
+     * Evict the least recently used block. Called while holding {@code this}.
+     */
+    private void evictEldestBlock() {
+        Map.Entry<BlockKey, CachedBlock> eldest = null;
+        for (Map.Entry<BlockKey, CachedBlock> entry : blockCache.entrySet()) {
+            if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) eldest = entry;
+        }
+        if (eldest == null) return;
+        BlockKey blockKey = eldest.getKey();
+        blockCache.remove(blockKey);
+        CacheEvictionEvent.emit(CacheEvictionEvent.TIERED_BLOCKS, blockKey.langName + ':' + blockKey.namespace,
+                eldest.getValue().templates.size());
+    }
+
+    private void invalidateBlocks(String langName) {
+        blockCache.keySet().removeIf(blockKey -> blockKey.langName.equals(langName));
+    }
+
+    private static Map<String, MessageTemplate> decompressAll(Language language) {
+        Map<String, MessageTemplate> templates = new HashMap<>(language.keyCount * 4 / 3 + 1);
+        for (byte[] block : language.blocks.values()) {
+            templates.putAll(compileAll(decompress(block)));
+        }
+        return templates;
+    }
+
+    private static Map<String, MessageTemplate> compileAll(Map<String, String> values) {
+        Map<String, MessageTemplate> templates = new HashMap<>(values.size() * 4 / 3 + 1);
+        values.forEach((key, value) -> templates.put(key, MessageTemplate.compile(value)));
+        return templates;
+    }
+
+    /**
+     * Serialize and deflate the entries of a namespace.
+     * The block starts with the uncompressed length, followed by the deflated entries.
+     */
+    private static byte[] compress(Map<String, String> entries) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeInt(entries.size());
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] input = raw.toByteArray();
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + 16);
+            compressed.writeBytes(ByteBuffer.allocate(4).putInt(input.length).array());
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static Map<String, String> decompress(byte[] block) {
+        int length = ByteBuffer.wrap(block, 0, 4).getInt();
+        byte[] output = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block, 4, block.length - 4);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                offset += inflater.inflate(output, offset, length - offset);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted translation block", e);
+        } finally {
+            inflater.end();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(output))) {
+            int count = in.readInt();
+            Map<String, String> entries = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                entries.put(readString(in), readString(in));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A stored language.
+     */
+    private static final class Language {
+
+        /**
+         * Compressed blocks by namespace.
+         */
+        private final Map<String, byte[]> blocks;
+        private final int keyCount;
+        private final AtomicLong accesses = new AtomicLong();
+
+        /**
+         * The compiled templates while the language is hot, otherwise null.
+         */
+        private volatile Map<String, MessageTemplate> hot;
+        private volatile boolean pinned;
+
+        /**
+         * The access count before which a failed promotion is not tried again, 0 to try at the threshold.
+         */
+        private volatile long promoteAfter;
+
+        /**
+         * Keys known to be missing in this language, bounded by {@link #MAX_MISSING_KEYS}.
+         */
+        private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+        private Language(Map<String, byte[]> blocks, int keyCount) {
+            this.blocks = blocks;
+            this.keyCount = keyCount;
+        }
+    }
+
+    /**
+     * A decompressed block in the block cache.
+     */
+    private static final class CachedBlock {
+
+        private final Map<String, MessageTemplate> templates;
+        private volatile long lastUsed;
+
+        private CachedBlock(Map<String, MessageTemplate> templates, long lastUsed) {
+            this.templates = templates;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * Identifies a decompressed block in the block cache.
+     */
+    private static final class BlockKey {
+
+        private final String langName;
+        private final String namespace;
+
+        private BlockKey(String langName, String namespace) {
+            this.langName = langName;
+            this.namespace = namespace;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BlockKey)) return false;
+            BlockKey other = (BlockKey) o;
+            return langName.equals(other.langName) && namespace.equals(other.namespace);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * langName.hashCode() + namespace.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationChangeTracker
+ * <p>
+ * Computes key-level deltas between publications of a {@link TranslationHandler}
+ * and notifies the registered listeners.
+ * <p>
+ * Instead of keeping the previous values around, the tracker keeps a 64-bit
+ * content hash per key, so a diff only compares numbers. Nothing is tracked
+ * while no listener is registered.
+ * <p>
+ * Deltas are computed while the handler's lock is held, but delivered after it
+ * was released, one publication at a time and in publication order, so slow or
+ * re-entrant listeners never stall or deadlock loads. If the publishing thread
+ * still holds the lock, e.g. in a synchronized block of its caller, the deltas
+ * are delivered on the reporter thread instead. Failing listeners are reported.
+ * A listener only receives the publications made after it was registered, and
+ * each delta carries the values of its publication.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+final class TranslationChangeTracker {
+
+    private final List<TranslationChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReportQueue reports;
+
+    /**
+     * The deltas of publications that were not delivered yet, in publication order.
+     */
+    private final Queue<Publication> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Whether a thread is delivering the pending deltas.
+     */
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    /**
+     * The value hashes per language and key. Guarded by {@code this}; null while no listener is registered.
+     */
+    private Map<String, Map<String, Long>> fingerprints;
+
+    TranslationChangeTracker(ReportQueue reports) {
+        this.reports = reports;
+    }
+
+    /**
+     * Register a listener, fingerprinting the current languages if it is the first one.
+     *
+     * @param listener The listener to register.
+     * @param current  The currently loaded languages.
+     */
+    synchronized void addListener(TranslationChangeListener listener, Map<String, Properties> current) {
+        if (fingerprints == null) {
+            fingerprints = new HashMap<>();
+            current.forEach((langName, properties) -> fingerprints.put(langName, fingerprint(properties)));
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener, dropping all fingerprints once no listener is left.
+     *
+     * @param listener The listener to unregister.
+     */
+    synchronized void removeListener(TranslationChangeListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) fingerprints = null;
+    }
+
+    /**
+     * Compute the deltas of a publication and queue them for the listeners.
+     * They are delivered by {@link #dispatch(Object)}.
+     *
+     * @param changed The languages that were added or replaced.
+     * @param removed The names of the languages that were removed.
+     */
+    void publish(Map<String, Properties> changed, Collection<String> removed) {
+        List<TranslationDelta> deltas = new ArrayList<>();
+        synchronized (this) {
+            if (fingerprints == null) return;
+
+            for (Map.Entry<String, Properties> entry : changed.entrySet()) {
+                Map<String, Long> next = fingerprint(entry.getValue());
+                Map<String, Long> previous = fingerprints.put(entry.getKey(), next);
+                TranslationDelta delta = diff(entry.getKey(), entry.getValue(), previous, next);
+                if (!delta.isEmpty()) deltas.add(delta);
+            }
+            for (String langName : removed) {
+                Map<String, Long> previous = fingerprints.remove(langName);
+                if (previous != null) {
+                    deltas.add(new TranslationDelta(langName, Set.of(), new HashSet<>(previous.keySet()), Set.of(), false, true));
+                }
+            }
+            // Queued while the listeners cannot change, so a later listener never receives it
+            if (!deltas.isEmpty()) pending.add(new Publication(List.copyOf(deltas), List.copyOf(listeners)));
+        }
+    }
+
+    /**
+     * Deliver the queued deltas to the listeners on the calling thread, or on the
+     * reporter thread if the calling thread holds the given lock.
+     *
+     * @param lock The lock publications are computed under.
+     */
+    void dispatch(Object lock) {
+        if (pending.isEmpty()) return;
+        if (Thread.holdsLock(lock)) {
+            ReportQueue.execute(this::drain);
+        } else {
+            drain();
+        }
+    }
+
+    private void drain() {
+        do {
+            // Another thread is delivering, and delivers these deltas too
+            if (!dispatching.compareAndSet(false, true)) return;
+            try {
+                Publication publication;
+                while ((publication = pending.poll()) != null) {
+                    for (TranslationChangeListener listener : publication.listeners) {
+                        try {
+                            listener.onChange(publication.deltas);
+                        } catch (Exception e) {
+                            reports.listenerFailed(listener, e);
+                        }
+                    }
+                }
+            } finally {
+                dispatching.set(false);
+            }
+            // Deltas queued after the last poll but before the flag was cleared are delivered here
+        } while (!pending.isEmpty());
+    }
+
+    private static TranslationDelta diff(String langName, Properties properties, Map<String, Long> previous,
+                                         Map<String, Long> next) {
+        Map<String, String> values = new HashMap<>();
+        if (previous == null) {
+            for (String key : next.keySet()) {
+                values.put(key, properties.getProperty(key));
+            }
+            return new TranslationDelta(langName, new HashSet<>(next.keySet()), Set.of(), Set.of(), values, true, false);
+        }
+
+        Set<String> added = new HashSet<>();
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, Long> entry : next.entrySet()) {
+            Long hash = previous.get(entry.getKey());
+            if (hash == null) {
+                added.add(entry.getKey());
+            } else if (hash.longValue() != entry.getValue().longValue()) {
+                changed.add(entry.getKey());
+            } else {
+                continue;
+            }
+            values.put(entry.getKey(), properties.getProperty(entry.getKey()));
+        }
+        Set<String> removed = new HashSet<>();
+        for (String key : previous.keySet()) {
+            if (!next.containsKey(key)) removed.add(key);
+        }
+        return new TranslationDelta(langName, added, removed, changed, values, false, false);
+    }
+
+    private static Map<String, Long> fingerprint(Properties properties) {
+        Set<String> keys = properties.stringPropertyNames();
+        Map<String, Long> hashes = new HashMap<>(keys.size() * 4 / 3 + 1);
+        for (String key : keys) {
+            hashes.put(key, ContentHash.hash(properties.getProperty(key)));
+        }
+        return hashes;
+    }
+
+    /**
+     * The deltas of a publication and the listeners registered when it was made.
+     */
+    private static final class Publication {
+
+        private final List<TranslationDelta> deltas;
+        private final List<TranslationChangeListener> listeners;
+
+        private Publication(List<TranslationDelta> deltas, List<TranslationChangeListener> listeners) {
+            this.deltas = deltas;
+            this.listeners = listeners;
+        }
+
+    }
+
+}
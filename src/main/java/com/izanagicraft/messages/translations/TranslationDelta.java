@@ -0,0 +1,197 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationDelta
+ * <p>
+ * The keys of a single language that were added, removed or changed by a load or reload,
+ * together with the values the added and changed keys had when the delta was computed.
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class TranslationDelta {
+
+    private final String langName;
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final Set<String> changed;
+    private final Map<String, String> values;
+    private final boolean languageAdded;
+    private final boolean languageRemoved;
+
+    /**
+     * Creates a delta.
+     *
+     * @param langName        The language name.
+     * @param added           The keys that were added.
+     * @param removed         The keys that were removed.
+     * @param changed         The keys whose value changed.
+     * @param languageAdded   Whether the language was not loaded before.
+     * @param languageRemoved Whether the language is no longer loaded.
+     */
+    public TranslationDelta(String langName, Set<String> added, Set<String> removed, Set<String> changed,
+                            boolean languageAdded, boolean languageRemoved) {
+        this(langName, added, removed, changed, Map.of(), languageAdded, languageRemoved);
+    }
+
+    /**
+     * Creates a delta carrying the new values.
+     *
+     * @param langName        The language name.
+     * @param added           The keys that were added.
+     * @param removed         The keys that were removed.
+     * @param changed         The keys whose value changed.
+     * @param values          The values of the added and changed keys.
+     * @param languageAdded   Whether the language was not loaded before.
+     * @param languageRemoved Whether the language is no longer loaded.
+     */
+    public TranslationDelta(String langName, Set<String> added, Set<String> removed, Set<String> changed,
+                            Map<String, String> values, boolean languageAdded, boolean languageRemoved) {
+        this.langName = langName;
+        this.added = Collections.unmodifiableSet(added);
+        this.removed = Collections.unmodifiableSet(removed);
+        this.changed = Collections.unmodifiableSet(changed);
+        this.values = Collections.unmodifiableMap(values);
+        this.languageAdded = languageAdded;
+        this.languageRemoved = languageRemoved;
+    }
+
+    /**
+     * Gets the language name.
+     *
+     * @return The language name.
+     */
+    public String getLangName() {
+        return langName;
+    }
+
+    /**
+     * Gets the keys that were added.
+     *
+     * @return An unmodifiable set of keys.
+     */
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Gets the keys that were removed.
+     *
+     * @return An unmodifiable set of keys.
+     */
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Gets the keys whose value changed.
+     *
+     * @return An unmodifiable set of keys.
+     */
+    public Set<String> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Gets the values of the added and changed keys as of this delta. Unlike the
+     * handler's current state, they never reflect a later load.
+     *
+     * @return An unmodifiable map of keys to values.
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Check whether the language was not loaded before.
+     *
+     * @return True if the whole language was added.
+     */
+    public boolean isLanguageAdded() {
+        return languageAdded;
+    }
+
+    /**
+     * Check whether the language is no longer loaded.
+     *
+     * @return True if the whole language was removed.
+     */
+    public boolean isLanguageRemoved() {
+        return languageRemoved;
+    }
+
+    /**
+     * Check whether a key was added, removed or changed.
+     *
+     * @param key The translation key.
+     * @return True if cached renderings of the key have to be invalidated.
+     */
+    public boolean affects(String key) {
+        return changed.contains(key) || added.contains(key) || removed.contains(key);
+    }
+
+    /**
+     * Check whether nothing changed.
+     *
+     * @return True if no key was added, removed or changed.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !languageAdded && !languageRemoved;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationDelta{" + langName + ", added=" + added + ", removed=" + removed + ", changed=" + changed + "}";
+    }
+
+}
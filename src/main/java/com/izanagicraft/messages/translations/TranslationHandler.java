@@ -46,17 +46,36 @@
 
 package com.izanagicraft.messages.translations;
 
+import com.izanagicraft.messages.jfr.LoadEvent;
+import com.izanagicraft.messages.jfr.RenderEvent;
+import com.izanagicraft.messages.placeholders.EscapeMode;
+import com.izanagicraft.messages.placeholders.MessageArguments;
 import com.izanagicraft.messages.placeholders.MessagePlaceholderHandler;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
 import com.izanagicraft.messages.placeholders.StaticMessagePlaceholders;
 import com.izanagicraft.messages.strings.WrappedString;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * message-format; com.izanagicraft.messages.translations:TranslationHandler
@@ -66,6 +85,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * The {@code TranslationHandler} class provides methods to manage translations
  * for different locales with support for placeholders.
  * <p>
+ * All methods may be called concurrently. Changes to the loaded languages are
+ * serialized, while translations read the published state without locking:
+ * a translation into a loaded language sees its previous or its new text, never
+ * the fallback language or the bare key; a render sees the default replacements
+ * of a single snapshot; and once a change has returned, no cache serves a message
+ * resolved before it. The {@code jcstress} module verifies these guarantees.
+ * <p>
  * Example usage:
  * <pre>
  * {@code
@@ -86,17 +112,60 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class TranslationHandler {
 
-    private MessagePlaceholderHandler placeholderHandler = new MessagePlaceholderHandler();
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The scope holding the default replacements of this handler.
+     */
+    private final PlaceholderScope placeholderScope;
+
+    private final MessagePlaceholderHandler placeholderHandler;
 
     /**
      * A map that stores translations for different locales.
      * The keys are locale codes, and the values are Properties objects containing translations.
      */
-    private Map<String, Properties> translations = new ConcurrentHashMap<>();
+    private final Map<String, Properties> translations = new ConcurrentHashMap<>();
     /**
      * The fallback Properties object used when a translation is not available for a specific locale.
      */
-    private Properties fallback;
+    private volatile Properties fallback;
+    /**
+     * The optional store for languages other than the fallback, or null if all languages are kept as Properties.
+     */
+    private volatile TieredTranslationStore tieredStore;
+    /**
+     * The loader reading language sources, remembering their content hashes.
+     */
+    private final TranslationLoader loader = new TranslationLoader();
+    /**
+     * Delivers missing keys, failures and change listener errors to the reporter.
+     */
+    private final ReportQueue reports = new ReportQueue();
+    /**
+     * Computes key-level deltas for the registered change listeners.
+     */
+    private final TranslationChangeTracker changeTracker = new TranslationChangeTracker(reports);
+    /**
+     * The optional recorder of resolved keys, or null if usage is not recorded.
+     */
+    private volatile UsageProfile usageProfile;
+    /**
+     * The key indexes built so far by language name, dropped whenever a language changes.
+     */
+    private final Map<String, KeyIndex> keyIndexes = new ConcurrentHashMap<>();
+    /**
+     * Resolves client locale strings to the loaded languages.
+     */
+    private final LanguageNegotiator negotiator = new LanguageNegotiator(this);
+    /**
+     * The optional cache of rendered messages, or null if every message is rendered.
+     */
+    private volatile RenderCache renderCache;
+    /**
+     * Increased after every change of the loaded languages or the fallback, so message slots re-resolve their templates.
+     */
+    private volatile long generation;
 
     /**
      * Default constructor for the Translations class.
@@ -105,7 +174,22 @@ public class TranslationHandler {
      * To initialize translations, use the {@code init} method.
      */
     public TranslationHandler() {
-        // Empty constructor
+        this(new PlaceholderScope(StaticMessagePlaceholders.getScope()));
+    }
+
+    /**
+     * Constructor for the Translations class with its own placeholder scope.
+     * <p>
+     * Default replacements passed to {@code init} are stored in the given scope,
+     * so handlers with separate scopes never see or overwrite each other's replacements.
+     * Handlers created with the other constructors use a scope inheriting from
+     * {@link StaticMessagePlaceholders#getScope()}.
+     *
+     * @param placeholderScope The scope holding the default replacements.
+     */
+    public TranslationHandler(PlaceholderScope placeholderScope) {
+        this.placeholderScope = placeholderScope;
+        this.placeholderHandler = new MessagePlaceholderHandler(placeholderScope);
     }
 
     /**
@@ -117,6 +201,7 @@ public class TranslationHandler {
      * @param files Language properties files to load.
      */
     public TranslationHandler(File... files) {
+        this();
         init(null, files);
     }
 
@@ -131,12 +216,15 @@ public class TranslationHandler {
      * @param files               Language properties files to load.
      */
     public TranslationHandler(Map<String, Object> defaultReplacements, File... files) {
+        this();
         init(defaultReplacements, files);
     }
 
 
     /**
      * Gets the map of translations for different locales.
+     * <p>
+     * Languages held by the {@link #getTieredStore() tiered store} are not contained.
      *
      * @return The map of translations with locale codes as keys and Properties objects as values.
      */
@@ -153,14 +241,102 @@ public class TranslationHandler {
         return fallback;
     }
 
+    /**
+     * Gets the name of the fallback language.
+     *
+     * @return The fallback language name, or null if no language is loaded.
+     */
+    public synchronized String getFallbackLanguage() {
+        for (Map.Entry<String, Properties> entry : translations.entrySet()) {
+            if (entry.getValue() == fallback) return entry.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Make a loaded language the fallback language.
+     *
+     * @param langName The language name.
+     * @return True if the language is loaded and is now the fallback language.
+     */
+    public synchronized boolean setFallbackLanguage(String langName) {
+        Properties properties = translations.get(langName);
+        if (properties == null) {
+            TieredTranslationStore store = tieredStore;
+            if (store == null || !store.contains(langName)) return false;
+            // The fallback is always kept as Properties; added before it leaves the store, so it stays resolvable
+            properties = store.toProperties(langName);
+            translations.put(langName, properties);
+            store.remove(langName);
+        }
+        fallback = properties;
+        offloadToTieredStore();
+        generation++;
+        // Messages of unloaded languages and without a language were rendered in the previous fallback
+        clearRenderCache();
+        return true;
+    }
+
+    /**
+     * Gets the tiered store used for languages other than the fallback.
+     *
+     * @return The tiered store, or null if none is used.
+     */
+    public TieredTranslationStore getTieredStore() {
+        return tieredStore;
+    }
+
+    /**
+     * Sets the tiered store used for languages other than the fallback.
+     * <p>
+     * Loaded languages, except the fallback language, are moved from the
+     * translations map into the store and are no longer kept as Properties.
+     * Setting null moves all languages of the previous store back into the translations map.
+     *
+     * @param tieredStore The tiered store, or null to keep all languages as Properties.
+     */
+    public synchronized void setTieredStore(TieredTranslationStore tieredStore) {
+        TieredTranslationStore previous = this.tieredStore;
+        if (previous != null && previous != tieredStore) {
+            for (String langName : previous.getLanguages()) {
+                Properties properties = previous.toProperties(langName);
+                if (properties != null) translations.putIfAbsent(langName, properties);
+            }
+        }
+        this.tieredStore = tieredStore;
+        offloadToTieredStore();
+    }
+
+    /**
+     * Move all languages except the fallback language into the tiered store, if one is set.
+     */
+    private void offloadToTieredStore() {
+        TieredTranslationStore store = tieredStore;
+        if (store == null) return;
+        for (Map.Entry<String, Properties> entry : translations.entrySet()) {
+            if (entry.getValue() == fallback) continue;
+            store.put(entry.getKey(), entry.getValue());
+            translations.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Gets the default replacements used by the Formatter for placeholder substitution.
      *
-     * @return A map of default replacements with String keys and Object values.
-     * These replacements are used by the {@link StaticMessagePlaceholders} class during text formatting.
+     * @return An immutable snapshot of the default replacements with String keys and Object values,
+     * including the ones inherited from parent scopes.
      */
     public Map<String, Object> getDefaultReplacements() {
-        return StaticMessagePlaceholders.getDefaultReplacements();
+        return placeholderScope.getReplacements();
+    }
+
+    /**
+     * Gets the scope holding the default replacements of this handler.
+     *
+     * @return The placeholder scope.
+     */
+    public PlaceholderScope getPlaceholderScope() {
+        return placeholderScope;
     }
 
     /**
@@ -170,18 +346,10 @@ public class TranslationHandler {
      * @param file       The file to load properties from.
      */
     void loadLang(Properties properties, File file) {
-        try (FileInputStream fileInputStream = new FileInputStream(file)) {
-            properties.load(fileInputStream);
-            // Iterate through the loaded properties and modify the values as needed
-            for (String propName : properties.stringPropertyNames()) {
-                String propValue = properties.getProperty(propName);
-                if (!propValue.startsWith("'")) continue;
-                // Remove single quotes from the property value
-                propValue = propValue.replace("'", "");
-                properties.setProperty(propName, propValue);
-            }
+        try {
+            properties.putAll(loader.read(file.toPath()));
         } catch (Exception e) {
-            e.printStackTrace();
+            reports.loadFailed(file.getPath(), e);
         }
     }
 
@@ -201,38 +369,480 @@ public class TranslationHandler {
      * @param files               Language properties files to load.
      */
     public void init(Map<String, Object> defaultReplacements, File... files) {
-        StaticMessagePlaceholders.addDefaultReplacements(defaultReplacements);
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        placeholderScope.putAll(defaultReplacements);
 
-        // Load each language properties file
+        // Load each language properties file, skipping files whose content did not change
+        Map<String, Properties> languages = new LinkedHashMap<>();
         for (File file : files) {
             // Skip directories, only process individual files
             if (file.isDirectory()) continue;
 
-            // Get the name of the current file
-            String fileName = file.getName();
+            // Extract the language name from the file name
+            String langName = TranslationLoader.languageName(file.getName());
+            if (langName == null) continue;
 
-            if (fileName.contains("platform")) continue;
+            readChanged(languages, langName, file.toPath());
+        }
+        publishLoaded(event, "files", files.length, languages);
+    }
 
-            // Create a new properties object to store language data
-            Properties properties = new Properties();
+    /**
+     * Load language files from paths of any file system, e.g. a zip or JAR file system.
+     * Directories are searched (not recursively) for language files.
+     * Files whose content did not change since they were last loaded are skipped.
+     *
+     * @param paths Language files or directories containing them.
+     */
+    public void load(Path... paths) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (Path path : paths) {
+            try (Stream<Path> files = Files.isDirectory(path) ? Files.list(path) : Stream.of(path)) {
+                files.forEach(file -> {
+                    Path fileName = file.getFileName();
+                    String langName = fileName == null ? null : TranslationLoader.languageName(fileName.toString());
+                    if (langName != null) readChanged(languages, langName, file);
+                });
+            } catch (Exception e) {
+                reports.loadFailed(path.toString(), e);
+            }
+        }
+        publishLoaded(event, "paths", paths.length, languages);
+    }
 
-            // Extract the language name from the file name
-            String langName = fileName.substring(0, fileName.lastIndexOf('.'));
+    /**
+     * Load language files from paths of any file system in parallel, without blocking the caller.
+     * Directories are searched (not recursively) for language files; files whose content did not
+     * change since they were last loaded are skipped.
+     * <p>
+     * Files are read on platform threads on Java 17 and on virtual threads on Java 21 and later.
+     * All read languages are published together once every file has been read.
+     *
+     * @param paths Language files or directories containing them.
+     * @return A future completing once the languages are published.
+     */
+    public CompletableFuture<Void> loadAsync(Path... paths) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            try (Stream<Path> listed = Files.isDirectory(path) ? Files.list(path) : Stream.of(path)) {
+                listed.forEach(files::add);
+            } catch (Exception e) {
+                reports.loadFailed(path.toString(), e);
+            }
+        }
+
+        ExecutorService executor = LoaderThreads.newExecutor(files.size());
+        TranslationLoader.PendingRead[] read = new TranslationLoader.PendingRead[files.size()];
+        CompletableFuture<?>[] reads = new CompletableFuture<?>[files.size()];
+        for (int i = 0; i < reads.length; i++) {
+            int index = i;
+            reads[i] = CompletableFuture.runAsync(() -> {
+                Path fileName = files.get(index).getFileName();
+                String langName = fileName == null ? null : TranslationLoader.languageName(fileName.toString());
+                if (langName != null) read[index] = readPending(langName, files.get(index));
+            }, executor);
+        }
+        executor.shutdown();
+
+        return CompletableFuture.allOf(reads).thenRun(() -> {
+            // Publish in path order, like the synchronous load
+            Map<String, TranslationLoader.PendingRead> languages = new LinkedHashMap<>();
+            for (TranslationLoader.PendingRead pending : read) {
+                if (pending != null) languages.put(pending.getLangName(), pending);
+            }
+            publishPending(event, "async", paths.length, languages.values());
+        });
+    }
+
+    /**
+     * Prepare loading language files in small steps on the calling thread, e.g. spread across the ticks of a game server.
+     * Nothing is read until the returned loader is {@link IncrementalLoader#step stepped}, and the read
+     * languages are published together once all of them were read and compiled.
+     *
+     * @param paths Language files or directories containing them.
+     * @return The loader to step until it is done.
+     */
+    public IncrementalLoader loadIncrementally(Path... paths) {
+        return new IncrementalLoader(this, paths);
+    }
 
-            // Check if the file is a language properties file and not a platform-specific one
-            if (fileName.endsWith(".properties")) {
-                // Load language properties from the file
-                loadLang(properties, file);
+    /**
+     * Load language files from the classpath without extracting them.
+     * Resources whose content did not change since they were last loaded are skipped.
+     *
+     * @param classLoader   The class loader to load resources with.
+     * @param resourceNames The resource names, e.g. {@code lang/en.properties}.
+     */
+    public void loadResources(ClassLoader classLoader, String... resourceNames) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (String resourceName : resourceNames) {
+            String langName = TranslationLoader.languageName(resourceName.substring(resourceName.lastIndexOf('/') + 1));
+            if (langName == null) continue;
+            try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+                if (inputStream == null) throw new FileNotFoundException("Resource not found: " + resourceName);
+                // Languages that were removed in the meantime have to be read again
+                if (!hasLanguage(langName)) loader.forget(langName);
+                Properties properties = loader.readIfChanged(langName, inputStream);
+                if (properties != null) languages.put(langName, properties);
+            } catch (Exception e) {
+                reports.loadFailed(resourceName, e);
             }
-            // If the file is not a valid language properties file, continue to the next iteration
-            else continue;
+        }
+        publishLoaded(event, "resources", resourceNames.length, languages);
+    }
+
+    /**
+     * Load a language from a stream. The stream is not closed.
+     * The language is skipped if the content did not change since it was last loaded.
+     *
+     * @param langName    The language name.
+     * @param inputStream The stream to read from.
+     */
+    public void load(String langName, InputStream inputStream) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        try {
+            if (!hasLanguage(langName)) loader.forget(langName);
+            Properties properties = loader.readIfChanged(langName, inputStream);
+            publishLoaded(event, "stream", 1, properties == null ? Map.of() : Map.of(langName, properties));
+        } catch (Exception e) {
+            reports.loadFailed(langName, e);
+        }
+    }
+
+    /**
+     * Load a language from the remaining bytes of a buffer.
+     * The language is skipped if the content did not change since it was last loaded.
+     *
+     * @param langName The language name.
+     * @param data     The buffer to read from.
+     */
+    public void load(String langName, ByteBuffer data) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        try {
+            if (!hasLanguage(langName)) loader.forget(langName);
+            Properties properties = loader.readIfChanged(langName, data);
+            publishLoaded(event, "buffer", 1, properties == null ? Map.of() : Map.of(langName, properties));
+        } catch (Exception e) {
+            reports.loadFailed(langName, e);
+        }
+    }
+
+    /**
+     * Add loaded languages and record the load event.
+     */
+    private void publishLoaded(LoadEvent event, String source, int files, Map<String, Properties> languages) {
+        boolean reload = isReload(event, languages);
+        addLanguages(languages);
+        event.finish(source, files, languages, reload);
+        changeTracker.dispatch(this);
+    }
+
+    /**
+     * Check whether a load replaces a loaded language, only if the load event is recorded.
+     */
+    private boolean isReload(LoadEvent event, Map<String, Properties> languages) {
+        boolean reload = false;
+        if (event.isEnabled()) {
+            for (String langName : languages.keySet()) {
+                reload |= hasLanguage(langName);
+            }
+        }
+        return reload;
+    }
+
+    /**
+     * Report a load failure to the reporter.
+     *
+     * @param source The file, resource or language that failed to load.
+     * @param error  The error.
+     */
+    void reportLoadFailure(String source, Throwable error) {
+        reports.loadFailed(source, error);
+    }
+
+    /**
+     * Report a render failure to the reporter.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @param error    The error.
+     */
+    void reportRenderFailure(String langName, String key, Throwable error) {
+        reports.renderFailed(langName, key, error);
+    }
+
+    /**
+     * Publish the languages of an incremental load and the templates compiled for them.
+     *
+     * @param event     The load event begun when the incremental load started.
+     * @param files     The number of given files or directories.
+     * @param reads     The pending reads of the languages, in load order.
+     * @param templates The templates compiled from their translations, by format string.
+     */
+    void publishIncremental(LoadEvent event, int files, Collection<TranslationLoader.PendingRead> reads,
+                            Map<String, MessageTemplate> templates) {
+        publishPending(event, "incremental", files, reads);
+        // Added after publishing, which drops the templates of replaced translations
+        placeholderHandler.addTemplates(templates);
+    }
+
+    /**
+     * Gets the generation of the loaded languages, increased after every change of the languages or the fallback.
+     *
+     * @return The generation.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the loader used to read language sources.
+     *
+     * @return The translation loader.
+     */
+    public TranslationLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Gets the translations of a language, materializing them if the language is held by the tiered store.
+     *
+     * @param langName The language name.
+     * @return The translations, or null if the language is not loaded.
+     */
+    public Properties getLanguage(String langName) {
+        Properties properties = translations.get(langName);
+        if (properties != null) return properties;
+        TieredTranslationStore store = tieredStore;
+        return store == null ? null : store.toProperties(langName);
+    }
+
+    /**
+     * Gets the names of all loaded languages, including the ones held by the tiered store.
+     *
+     * @return The language names.
+     */
+    public Set<String> getLanguageNames() {
+        Set<String> names = new HashSet<>(translations.keySet());
+        TieredTranslationStore store = tieredStore;
+        if (store != null) names.addAll(store.getLanguages());
+        return names;
+    }
+
+    /**
+     * Gets the sorted key index of a language. The index is built on first use and
+     * kept until the language is reloaded or replaced.
+     *
+     * @param langName The language name.
+     * @return The key index, empty if the language is not loaded.
+     */
+    public KeyIndex getKeyIndex(String langName) {
+        // Languages are published before their index is dropped, so a racing build is dropped as well
+        KeyIndex index = keyIndexes.computeIfAbsent(langName, name -> {
+            Properties properties = getLanguage(name);
+            return properties == null ? null : KeyIndex.of(properties.stringPropertyNames());
+        });
+        return index == null ? KeyIndex.EMPTY : index;
+    }
+
+    /**
+     * Gets all keys of a language under a namespace, e.g. to build a menu of every {@code gui.shop} entry.
+     *
+     * @param langName  The language name.
+     * @param namespace The namespace, with or without trailing dot; the empty namespace matches every key.
+     * @return The matching keys in sort order, empty if the language is not loaded.
+     * @see KeyIndex#keysUnder(String)
+     */
+    public List<String> keysUnder(String langName, String namespace) {
+        return getKeyIndex(langName).keysUnder(namespace);
+    }
+
+    /**
+     * Gets the negotiator resolving client locale strings and Accept-Language headers to the loaded languages.
+     *
+     * @return The language negotiator.
+     */
+    public LanguageNegotiator getNegotiator() {
+        return negotiator;
+    }
+
+    /**
+     * Gets the cache of rendered messages.
+     *
+     * @return The render cache, or null if every message is rendered.
+     */
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Serve the messages of keys marked cacheable from a render cache.
+     * The cache is cleared whenever the languages change.
+     *
+     * @param renderCache The render cache, or null to render every message.
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        if (renderCache != null) renderCache.clear();
+        this.renderCache = renderCache;
+    }
+
+    /**
+     * Gets the reporter receiving missing keys and load failures.
+     *
+     * @return The reporter.
+     */
+    public TranslationReporter getReporter() {
+        return reports.getReporter();
+    }
+
+    /**
+     * Report missing keys, load failures and render failures to a reporter instead of printing failures.
+     * Reports are deduplicated, rate limited and delivered asynchronously.
+     *
+     * @param reporter The reporter, or null for {@link TranslationReporter#DEFAULT}.
+     */
+    public void setReporter(TranslationReporter reporter) {
+        reports.setReporter(reporter);
+    }
 
+    /**
+     * Gets the number of reports dropped because they exceeded the rate limit or the queue capacity.
+     *
+     * @return The number of dropped reports.
+     */
+    public long getDroppedReports() {
+        return reports.getDropped();
+    }
+
+    /**
+     * Gets the profile recording resolved keys.
+     *
+     * @return The usage profile, or null if usage is not recorded.
+     */
+    public UsageProfile getUsageProfile() {
+        return usageProfile;
+    }
+
+    /**
+     * Record every resolved key into a usage profile, e.g. to {@link UsageProfile#warmup warm up} the next start.
+     *
+     * @param usageProfile The usage profile, or null to stop recording.
+     */
+    public void setUsageProfile(UsageProfile usageProfile) {
+        this.usageProfile = usageProfile;
+    }
+
+    /**
+     * Register a listener notified with the added, removed and changed keys per language
+     * whenever languages are loaded, reloaded or replaced.
+     *
+     * @param listener The listener to register.
+     */
+    public synchronized void addChangeListener(TranslationChangeListener listener) {
+        Map<String, Properties> current = new HashMap<>();
+        for (String langName : getLanguageNames()) {
+            Properties properties = getLanguage(langName);
+            if (properties != null) current.put(langName, properties);
+        }
+        changeTracker.addListener(listener, current);
+    }
+
+    /**
+     * Unregister a change listener.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeChangeListener(TranslationChangeListener listener) {
+        changeTracker.removeListener(listener);
+    }
+
+    /**
+     * Check whether a language is loaded, either as Properties or in the tiered store.
+     *
+     * @param langName The language name.
+     * @return True if the language is loaded.
+     */
+    public boolean hasLanguage(String langName) {
+        if (translations.containsKey(langName)) return true;
+        TieredTranslationStore store = tieredStore;
+        return store != null && store.contains(langName);
+    }
+
+    /**
+     * Read and parse a language file if its content changed or the language is not loaded, without
+     * holding the loader's lock. The content hash is remembered when the read is published.
+     *
+     * @return The pending read, or null if the language did not change or could not be read.
+     */
+    TranslationLoader.PendingRead readPending(String langName, Path path) {
+        try {
+            byte[] data = Files.readAllBytes(path);
+            // Languages that were removed in the meantime have to be read again
+            if (!hasLanguage(langName)) loader.forget(langName);
+            return loader.readPending(langName, data);
+        } catch (Exception e) {
+            reports.loadFailed(path.toString(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Remember the content hashes of pending reads and publish them, skipping languages
+     * that a newer load read since, so a late publish never replaces newer translations.
+     */
+    private void publishPending(LoadEvent event, String source, int files,
+                                Collection<TranslationLoader.PendingRead> reads) {
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        // Committed and added under one lock, so a load reading in between publishes after this one
+        boolean reload;
+        synchronized (this) {
+            for (TranslationLoader.PendingRead read : reads) {
+                if (loader.commit(read)) languages.put(read.getLangName(), read.getProperties());
+            }
+            reload = isReload(event, languages);
+            addLanguages(languages);
+        }
+        event.finish(source, files, languages, reload);
+        changeTracker.dispatch(this);
+    }
+
+    /**
+     * Read a language file into the given map if its content changed or the language is not loaded.
+     */
+    private void readChanged(Map<String, Properties> languages, String langName, Path path) {
+        try {
+            // Languages that were removed in the meantime have to be read again
+            if (!hasLanguage(langName)) loader.forget(langName);
+            Properties properties = loader.readIfChanged(langName, path);
+            if (properties != null) languages.put(langName, properties);
+        } catch (Exception e) {
+            reports.loadFailed(path.toString(), e);
+        }
+    }
+
+    /**
+     * Add or replace languages and update the fallback.
+     *
+     * @param languages The languages to add, in load order.
+     */
+    private synchronized void addLanguages(Map<String, Properties> languages) {
+        if (languages.isEmpty()) return;
+        for (Map.Entry<String, Properties> entry : languages.entrySet()) {
             // Add the loaded language properties to the translations map
-            translations.put(langName, properties);
+            Properties previous = translations.put(entry.getKey(), entry.getValue());
+            keyIndexes.remove(entry.getKey());
 
-            if (fallback == null) {
-                fallback = new Properties();
-                fallback = properties;
+            if (fallback == null || fallback == previous) {
+                fallback = entry.getValue();
             }
         }
 
@@ -240,6 +850,254 @@ public class TranslationHandler {
         if (translations.containsKey(Locale.getDefault().getLanguage())) {
             fallback = translations.get(Locale.getDefault().getLanguage());
         }
+
+        // Drop the templates of replaced translations, so their generated renderers can be unloaded
+        placeholderHandler.clearTemplates();
+        negotiator.invalidate();
+        generation++;
+        clearRenderCache();
+        reports.forgetMissingKeys();
+        changeTracker.publish(languages, Set.of());
+        offloadToTieredStore();
+    }
+
+    /**
+     * Replace all loaded languages at once.
+     * <p>
+     * Languages that are not contained in the given map are removed. The fallback
+     * stays on the same language if it is still present; otherwise the language of
+     * the system's default locale, or the first given language, becomes the fallback.
+     * The sources of replaced and removed languages are read again on their next load,
+     * even if their content did not change.
+     *
+     * @param languages The new translations with language names as keys.
+     */
+    public void setTranslations(Map<String, Properties> languages) {
+        replaceTranslations(languages);
+        dispatchChanges();
+    }
+
+    /**
+     * Replace all loaded languages, queueing their deltas for the change listeners
+     * until {@link #dispatchChanges()} is called.
+     *
+     * @param languages The new translations with language names as keys.
+     */
+    synchronized void replaceTranslations(Map<String, Properties> languages) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        boolean reload = event.isEnabled() && !getLanguageNames().isEmpty();
+        Set<String> removed = new HashSet<>(getLanguageNames());
+        removed.removeAll(languages.keySet());
+
+        String fallbackName = getFallbackLanguage();
+
+        // Replaced and removed languages no longer match the content hashes of their sources
+        for (String langName : removed) {
+            loader.forget(langName);
+        }
+        for (Map.Entry<String, Properties> entry : languages.entrySet()) {
+            if (translations.get(entry.getKey()) != entry.getValue()) loader.forget(entry.getKey());
+        }
+
+        translations.putAll(languages);
+        translations.keySet().retainAll(languages.keySet());
+
+        TieredTranslationStore store = tieredStore;
+        if (store != null) {
+            for (String langName : store.getLanguages()) {
+                if (!languages.containsKey(langName)) store.remove(langName);
+            }
+        }
+        keyIndexes.clear();
+
+        if (fallbackName != null && languages.containsKey(fallbackName)) {
+            fallback = languages.get(fallbackName);
+        } else if (languages.containsKey(Locale.getDefault().getLanguage())) {
+            fallback = languages.get(Locale.getDefault().getLanguage());
+        } else if (!languages.isEmpty()) {
+            fallback = languages.values().iterator().next();
+        }
+
+        // Drop the templates of replaced translations, so their generated renderers can be unloaded
+        placeholderHandler.clearTemplates();
+        negotiator.invalidate();
+        generation++;
+        clearRenderCache();
+        reports.forgetMissingKeys();
+        changeTracker.publish(languages, removed);
+        offloadToTieredStore();
+        event.finish("translations", 0, languages, reload);
+    }
+
+    /**
+     * Deliver the queued deltas to the change listeners, on the reporter thread if the caller holds this handler's lock.
+     */
+    void dispatchChanges() {
+        changeTracker.dispatch(this);
+    }
+
+    /**
+     * Load language properties files into a map of language names to Properties.
+     * Directories, platform-specific and non-properties files are skipped.
+     *
+     * @param files Language properties files to load.
+     * @return The loaded languages, in file order.
+     */
+    Map<String, Properties> loadFiles(File... files) {
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (File file : files) {
+            // Skip directories, only process individual files
+            if (file.isDirectory()) continue;
+
+            // Extract the language name from the file name
+            String langName = TranslationLoader.languageName(file.getName());
+            if (langName == null) continue;
+
+            // Create a new properties object to store language data
+            Properties properties = new Properties();
+            // Load language properties from the file
+            loadLang(properties, file);
+            languages.put(langName, properties);
+        }
+        return languages;
+    }
+
+    /**
+     * Resolve the compiled template of a key in a language.
+     * <p>
+     * Like {@link Properties#getProperty(String, String)}, a key that is missing in
+     * a known language resolves to the key itself.
+     *
+     * @param langName The language name.
+     * @param key      The translation key.
+     * @return The compiled template, or null if the language is not loaded.
+     */
+    MessageTemplate resolve(String langName, String key) {
+        // Languages move between the translations and the tiered store, always added before they are removed,
+        // so a language found in neither was moved while it was looked up and is looked up again
+        while (true) {
+            Properties properties = translations.get(langName);
+            if (properties != null) {
+                record(langName, key);
+                String format = properties.getProperty(key);
+                if (format != null) return placeholderHandler.compile(format);
+                reports.missingKey(langName, key);
+                return placeholderHandler.compile(key);
+            }
+
+            TieredTranslationStore store = tieredStore;
+            if (store == null) return null;
+            MessageTemplate template = store.get(langName, key);
+            if (template != null) {
+                record(langName, key);
+                return template;
+            }
+            if (store.contains(langName)) {
+                record(langName, key);
+                reports.missingKey(langName, key);
+                return placeholderHandler.compile(key);
+            }
+            if (!translations.containsKey(langName)) return null;
+        }
+    }
+
+    private void record(String langName, String key) {
+        UsageProfile profile = usageProfile;
+        if (profile != null) profile.record(langName, key);
+    }
+
+    /**
+     * Resolve the compiled template of a key in the fallback language.
+     *
+     * @param key The translation key.
+     * @return The compiled template.
+     */
+    MessageTemplate resolveFallback(String key) {
+        record(null, key);
+        Properties fallback = this.fallback;
+        String format = fallback == null ? null : fallback.getProperty(key);
+        if (format != null) return placeholderHandler.compile(format);
+        // Nothing is missing while no language is loaded
+        if (fallback != null) reports.missingKey(null, key);
+        return placeholderHandler.compile(key);
+    }
+
+    /**
+     * Render a key in a language, falling back to the fallback language if the language is not loaded.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @param args     Arguments for placeholders.
+     * @return Translated and formatted text.
+     */
+    private String render(String langName, String key, Object[] args) {
+        return render(langName, key, args, EscapeMode.NONE);
+    }
+
+    /**
+     * Render a key in a language for an output context, falling back to the fallback language if the language is not loaded.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @param args     Arguments for placeholders.
+     * @param mode     The escape mode applied to the literal text and the values.
+     * @return Translated, formatted and escaped text.
+     */
+    private String render(String langName, String key, Object[] args, EscapeMode mode) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        RenderCache cache = mode == EscapeMode.NONE ? renderCache : null;
+        long version = 0;
+        long generation = 0;
+        if (cache != null && cache.isCacheable(key) && RenderCache.isCacheable(args)) {
+            version = placeholderScope.getVersion();
+            generation = cache.generation();
+            String cached = cache.get(langName, key, args, version);
+            if (cached != null) {
+                event.finish(langName, key, cached.length());
+                return cached;
+            }
+        } else {
+            cache = null;
+        }
+        MessageTemplate template = template(langName, key);
+        String text = template.render(args, getDefaultReplacements(), mode);
+        if (cache != null) cache.put(langName, key, args, version, generation, text);
+        event.finish(langName, key, text.length());
+        return text;
+    }
+
+    /**
+     * Drop the cached messages of replaced translations.
+     */
+    private void clearRenderCache() {
+        RenderCache cache = renderCache;
+        if (cache != null) cache.clear();
+    }
+
+    /**
+     * Render a key in a language with unboxed arguments into a builder.
+     *
+     * @param builder  The builder to append to.
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @param args     Arguments for placeholders.
+     */
+    private void renderTo(StringBuilder builder, String langName, String key, MessageArguments args) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        int start = builder.length();
+        template(langName, key).renderTo(builder, args, getDefaultReplacements());
+        event.finish(langName, key, builder.length() - start);
+    }
+
+    /**
+     * Resolve the template of a key in a language, falling back to the fallback language if the language is not loaded.
+     */
+    private MessageTemplate template(String langName, String key) {
+        MessageTemplate template = langName == null ? null : resolve(langName, key);
+        return template != null ? template : resolveFallback(key);
     }
 
     /**
@@ -250,11 +1108,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(String key, Object... args) {
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(fallback.getProperty(key, key), replace);
+        return render(null, key, args);
     }
 
     /**
@@ -265,11 +1119,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(String key, String... args) {
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(fallback.getProperty(key, key), replace);
+        return render(null, key, args);
     }
 
     /**
@@ -279,7 +1129,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(String key) {
-        return placeholderHandler.fastFormat(fallback.getProperty(key, key), getDefaultReplacements());
+        return render(null, key, NO_ARGS);
     }
 
     /**
@@ -291,12 +1141,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(Locale locale, String key, Object... args) {
-        if (!translations.containsKey(locale.getLanguage())) return translate(key, args);
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(translations.get(locale.getLanguage()).getProperty(key, key), replace);
+        return render(locale.getLanguage(), key, args);
     }
 
     /**
@@ -308,12 +1153,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(Locale locale, String key, String... args) {
-        if (!translations.containsKey(locale.getLanguage())) return translate(key, args);
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(translations.get(locale.getLanguage()).getProperty(key, key), replace);
+        return render(locale.getLanguage(), key, args);
     }
 
     /**
@@ -324,8 +1164,22 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(Locale locale, String key) {
-        if (!translations.containsKey(locale.getLanguage())) return translate(key);
-        return placeholderHandler.fastFormat(translations.get(locale.getLanguage()).getProperty(key, key), getDefaultReplacements());
+        return render(locale.getLanguage(), key, NO_ARGS);
+    }
+
+    /**
+     * Translate a key for an output context such as a JSON string or an HTML page.
+     * The literal text of the translation is escaped once per mode, the arguments and
+     * default replacements on every call.
+     *
+     * @param locale The locale to translate in.
+     * @param mode   The escape mode applied to the literal text and the values.
+     * @param key    The translation key.
+     * @param args   Arguments for placeholders.
+     * @return Translated, formatted and escaped text.
+     */
+    public String translate(Locale locale, EscapeMode mode, String key, Object... args) {
+        return render(locale.getLanguage(), key, args, mode);
     }
 
     /**
@@ -337,12 +1191,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(WrappedString langName, String key, Object... args) {
-        if (!translations.containsKey(langName)) return translate(key, args);
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(translations.get(langName).getProperty(key, key), replace);
+        return render(langName.getValue(), key, args);
     }
 
     /**
@@ -354,12 +1203,7 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(WrappedString langName, String key, String... args) {
-        if (!translations.containsKey(langName)) return translate(key, args);
-        Map<String, Object> replace = new HashMap<>(getDefaultReplacements());
-        for (int i = 0; i < args.length; i++) {
-            replace.put("" + i, args[i]);
-        }
-        return placeholderHandler.fastFormat(translations.get(langName).getProperty(key, key), replace);
+        return render(langName.getValue(), key, args);
     }
 
     /**
@@ -370,8 +1214,61 @@ public class TranslationHandler {
      * @return Translated and formatted text.
      */
     public String translate(WrappedString langName, String key) {
-        if (!translations.containsKey(langName)) return translate(key);
-        return placeholderHandler.fastFormat(translations.get(langName).getProperty(key, key), getDefaultReplacements());
+        return render(langName.getValue(), key, NO_ARGS);
+    }
+
+    /**
+     * Translate a key with unboxed arguments using default replacements and fallback properties.
+     *
+     * @param key  The translation key.
+     * @param args Arguments for placeholders, e.g. {@link MessageArguments#local()}.
+     * @return Translated and formatted text.
+     */
+    public String translate(String key, MessageArguments args) {
+        return renderText(null, key, args);
+    }
+
+    /**
+     * Translate a key with unboxed arguments using default replacements and fallback properties.
+     *
+     * @param locale The locale to translate in.
+     * @param key    The translation key.
+     * @param args   Arguments for placeholders, e.g. {@link MessageArguments#local()}.
+     * @return Translated and formatted text.
+     */
+    public String translate(Locale locale, String key, MessageArguments args) {
+        return renderText(locale.getLanguage(), key, args);
+    }
+
+    /**
+     * Translate a key with unboxed arguments using default replacements and fallback properties.
+     *
+     * @param langName The language name to translate in.
+     * @param key      The translation key.
+     * @param args     Arguments for placeholders, e.g. {@link MessageArguments#local()}.
+     * @return Translated and formatted text.
+     */
+    public String translate(WrappedString langName, String key, MessageArguments args) {
+        return renderText(langName.getValue(), key, args);
+    }
+
+    /**
+     * Translate a key with unboxed arguments into a builder, so a reused builder renders
+     * numeric messages without allocating anything for their arguments.
+     *
+     * @param builder  The builder to append to.
+     * @param langName The language name to translate in.
+     * @param key      The translation key.
+     * @param args     Arguments for placeholders, e.g. {@link MessageArguments#local()}.
+     */
+    public void translateTo(StringBuilder builder, WrappedString langName, String key, MessageArguments args) {
+        renderTo(builder, langName.getValue(), key, args);
+    }
+
+    private String renderText(String langName, String key, MessageArguments args) {
+        StringBuilder builder = new StringBuilder(64);
+        renderTo(builder, langName, key, args);
+        return builder.toString();
     }
 
     /**
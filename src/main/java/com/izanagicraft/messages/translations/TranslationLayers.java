@@ -0,0 +1,286 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationLayers
+ * <p>
+ * A stack of overlay layers for a {@link TranslationHandler}.
+ * <p>
+ * Each layer holds translations for any number of languages; keys of higher
+ * layers override the same keys of lower layers. Whenever a layer is added,
+ * replaced or removed, the stack is flattened into a single table per language
+ * and published to the handler, so a lookup costs the same no matter how many
+ * layers are stacked. The flattened tables are published after the stack's
+ * lock was released, in the order of the changes, so change listeners of the
+ * handler may use the stack.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * TranslationLayers layers = new TranslationLayers(translations);
+ * layers.addLayer("base", baseFiles);
+ * layers.addLayer("network", networkFiles);
+ * layers.addLayer("server", serverFiles);
+ * layers.addLayer("event", eventFiles);
+ * // ... once the event is over
+ * layers.removeLayer("event");
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationLayers {
+
+    private final TranslationHandler handler;
+
+    /**
+     * The layers from bottom to top. Guarded by {@code this}.
+     */
+    private final List<Layer> layers = new ArrayList<>();
+
+    /**
+     * The number of changes of the stack. Guarded by {@code this}.
+     */
+    private long version;
+
+    /**
+     * The version last published to the handler. Guarded by the handler's lock.
+     */
+    private long published;
+
+    /**
+     * Creates an empty layer stack publishing to the given handler.
+     *
+     * @param handler The handler receiving the flattened translations.
+     */
+    public TranslationLayers(TranslationHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Gets the handler receiving the flattened translations.
+     *
+     * @return The translation handler.
+     */
+    public TranslationHandler getHandler() {
+        return handler;
+    }
+
+    /**
+     * Add a layer loaded from language properties files on top of the stack.
+     * A layer with the same name is replaced in place.
+     *
+     * @param name  The layer name.
+     * @param files Language properties files to load.
+     */
+    public void addLayer(String name, File... files) {
+        addLayer(name, handler.loadFiles(files));
+    }
+
+    /**
+     * Add a layer on top of the stack. A layer with the same name is replaced in place.
+     *
+     * @param name      The layer name.
+     * @param languages The translations of the layer with language names as keys.
+     */
+    public void addLayer(String name, Map<String, Properties> languages) {
+        Layer layer = new Layer(name, copy(languages));
+        Flattened flattened;
+        synchronized (this) {
+            int index = indexOf(name);
+            if (index == -1) {
+                layers.add(layer);
+            } else {
+                layers.set(index, layer);
+            }
+            flattened = flatten();
+        }
+        publish(flattened);
+    }
+
+    /**
+     * Remove a layer from the stack.
+     *
+     * @param name The layer name.
+     * @return True if the layer was present.
+     */
+    public boolean removeLayer(String name) {
+        Flattened flattened;
+        synchronized (this) {
+            int index = indexOf(name);
+            if (index == -1) return false;
+            layers.remove(index);
+            flattened = flatten();
+        }
+        publish(flattened);
+        return true;
+    }
+
+    /**
+     * Check whether a layer is present.
+     *
+     * @param name The layer name.
+     * @return True if the layer is present.
+     */
+    public synchronized boolean hasLayer(String name) {
+        return indexOf(name) != -1;
+    }
+
+    /**
+     * Gets the names of all layers from bottom to top.
+     *
+     * @return The layer names.
+     */
+    public synchronized List<String> getLayerNames() {
+        List<String> names = new ArrayList<>(layers.size());
+        for (Layer layer : layers) {
+            names.add(layer.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Gets the name of the layer a key of a language is currently resolved from.
+     *
+     * @param langName The language name.
+     * @param key      The translation key.
+     * @return The name of the topmost layer defining the key, or null if no layer defines it.
+     */
+    public synchronized String getSourceLayer(String langName, String key) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            Properties properties = layers.get(i).languages.get(langName);
+            if (properties != null && properties.containsKey(key)) return layers.get(i).name;
+        }
+        return null;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).name.equals(name)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Merge all layers from bottom to top. Called while holding {@code this}.
+     */
+    private Flattened flatten() {
+        // Keep the load order of the layers, so the first loaded language stays the default fallback
+        Map<String, Properties> resolved = new LinkedHashMap<>();
+        for (Layer layer : layers) {
+            for (Map.Entry<String, Properties> entry : layer.languages.entrySet()) {
+                resolved.computeIfAbsent(entry.getKey(), langName -> new Properties()).putAll(entry.getValue());
+            }
+        }
+        return new Flattened(++version, resolved);
+    }
+
+    /**
+     * Publish a flattened stack to the handler unless a later change was published already.
+     */
+    private void publish(Flattened flattened) {
+        synchronized (handler) {
+            // Changes flattened concurrently may get here out of order; a later one contains this one
+            if (flattened.version <= published) return;
+            published = flattened.version;
+            handler.replaceTranslations(flattened.languages);
+        }
+        handler.dispatchChanges();
+    }
+
+    /**
+     * Copy the given languages, so later changes to them do not leak into the layer.
+     */
+    private static Map<String, Properties> copy(Map<String, Properties> languages) {
+        Map<String, Properties> copy = new LinkedHashMap<>();
+        languages.forEach((langName, properties) -> {
+            Properties layerProperties = new Properties();
+            layerProperties.putAll(properties);
+            copy.put(langName, layerProperties);
+        });
+        return copy;
+    }
+
+    /**
+     * The merged translations of a version of the stack.
+     */
+    private static final class Flattened {
+
+        private final long version;
+        private final Map<String, Properties> languages;
+
+        private Flattened(long version, Map<String, Properties> languages) {
+            this.version = version;
+            this.languages = languages;
+        }
+    }
+
+    /**
+     * A named layer of translations.
+     */
+    private static final class Layer {
+
+        private final String name;
+        private final Map<String, Properties> languages;
+
+        private Layer(String name, Map<String, Properties> languages) {
+            this.name = name;
+            this.languages = languages;
+        }
+    }
+
+}
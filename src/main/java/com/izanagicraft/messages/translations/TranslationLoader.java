@@ -0,0 +1,511 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationLoader
+ * <p>
+ * Reads language properties from files, paths of any {@link FileSystem}
+ * (including zip and JAR file systems), classpath resources, streams and buffers.
+ * <p>
+ * Sources are read into a reused buffer and parsed from there, so bundled
+ * language files can be loaded straight from the plugin JAR without extracting
+ * them to disk. The loader remembers a content hash per language; the
+ * {@code readIfChanged} methods return null for sources whose content did not
+ * change since they were last read, so unchanged files are not parsed again.
+ * <p>
+ * A loader can be restricted to the {@link #setNamespaces namespaces} a node
+ * actually serves; keys of all other namespaces are dropped while parsing, so
+ * they neither take heap nor get compiled, tracked or offloaded later on.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * TranslationLoader loader = new TranslationLoader();
+ * Map<String, Properties> languages = loader.readResources(MyPlugin.class.getClassLoader(), "lang/en.properties", "lang/de.properties");
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationLoader {
+
+    /**
+     * The file extension of language files.
+     */
+    public static final String EXTENSION = ".properties";
+
+    /**
+     * The buffer sources are read into. Guarded by {@code this}.
+     */
+    private byte[] buffer = new byte[8192];
+
+    /**
+     * The content hash of the last source read per language.
+     */
+    private final Map<String, Long> contentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * The namespaces to keep, or null to keep every key.
+     */
+    private volatile Set<String> namespaces;
+
+    /**
+     * Extract the language name from the name of a language file.
+     *
+     * @param fileName The file name.
+     * @return The language name, or null if the file is platform-specific or not a properties file.
+     */
+    public static String languageName(String fileName) {
+        // Check if the file is a language properties file and not a platform-specific one
+        if (fileName.contains("platform") || !fileName.endsWith(EXTENSION)) return null;
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+
+    /**
+     * Check whether a key belongs to one of the given namespaces. A key belongs to a
+     * namespace if it equals the namespace or starts with the namespace followed by a dot,
+     * so {@code gui.shop.title} belongs to {@code gui} and {@code gui.shop}.
+     *
+     * @param key        The translation key.
+     * @param namespaces The namespaces, without trailing dots.
+     * @return True if the key belongs to one of the namespaces.
+     */
+    public static boolean inNamespaces(String key, Set<String> namespaces) {
+        // Only the prefixes of the key ending before a dot can be its namespaces
+        int dot = key.indexOf('.');
+        while (dot != -1) {
+            if (namespaces.contains(key.substring(0, dot))) return true;
+            dot = key.indexOf('.', dot + 1);
+        }
+        return namespaces.contains(key);
+    }
+
+    /**
+     * Gets the namespaces this loader is restricted to.
+     *
+     * @return The namespaces, or null if every key is loaded.
+     */
+    public Set<String> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * Restrict this loader to the given namespaces, e.g. {@code gui.shop} and {@code quest}.
+     * Keys outside of them are dropped while parsing.
+     * <p>
+     * The content hashes are forgotten, so languages read before are read again in full
+     * on the next {@code readIfChanged}. Already loaded languages keep their keys until then.
+     *
+     * @param namespaces The namespaces to keep, with or without trailing dots, or null to keep every key.
+     */
+    public void setNamespaces(Collection<String> namespaces) {
+        if (namespaces == null) {
+            this.namespaces = null;
+        } else {
+            Set<String> normalized = new HashSet<>();
+            for (String namespace : namespaces) {
+                normalized.add(namespace.endsWith(".") ? namespace.substring(0, namespace.length() - 1) : namespace);
+            }
+            this.namespaces = Set.copyOf(normalized);
+        }
+        reset();
+    }
+
+    /**
+     * Read language properties from a stream. The stream is not closed.
+     *
+     * @param inputStream The stream to read from.
+     * @return The loaded properties.
+     * @throws IOException If the stream could not be read.
+     */
+    public synchronized Properties read(InputStream inputStream) throws IOException {
+        return parse(buffer, 0, fill(inputStream));
+    }
+
+    /**
+     * Read language properties from the remaining bytes of a buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param data The buffer to read from.
+     * @return The loaded properties.
+     * @throws IOException If the content could not be parsed.
+     */
+    public Properties read(ByteBuffer data) throws IOException {
+        // Heap buffers are parsed in place, so they can be read in parallel
+        if (data.hasArray()) {
+            return parse(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        synchronized (this) {
+            int length = copy(data);
+            return parse(buffer, 0, length);
+        }
+    }
+
+    /**
+     * Read language properties from a path of any file system.
+     *
+     * @param path The path to read from.
+     * @return The loaded properties.
+     * @throws IOException If the file could not be read.
+     */
+    public Properties read(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return read(inputStream);
+        }
+    }
+
+    /**
+     * Read language properties from a stream if its content changed since the language was last read.
+     * The stream is not closed.
+     *
+     * @param langName    The language name.
+     * @param inputStream The stream to read from.
+     * @return The loaded properties, or null if the content did not change.
+     * @throws IOException If the stream could not be read.
+     */
+    public synchronized Properties readIfChanged(String langName, InputStream inputStream) throws IOException {
+        int length = fill(inputStream);
+        if (!updateHash(langName, buffer, 0, length)) return null;
+        return parseHashed(langName, buffer, 0, length);
+    }
+
+    /**
+     * Read language properties from the remaining bytes of a buffer if its content
+     * changed since the language was last read. The position of the buffer is not changed.
+     *
+     * @param langName The language name.
+     * @param data     The buffer to read from.
+     * @return The loaded properties, or null if the content did not change.
+     * @throws IOException If the content could not be parsed.
+     */
+    public Properties readIfChanged(String langName, ByteBuffer data) throws IOException {
+        // Heap buffers are parsed in place, so they can be read in parallel
+        if (data.hasArray()) {
+            int offset = data.arrayOffset() + data.position();
+            if (!updateHash(langName, data.array(), offset, data.remaining())) return null;
+            return parseHashed(langName, data.array(), offset, data.remaining());
+        }
+        synchronized (this) {
+            int length = copy(data);
+            if (!updateHash(langName, buffer, 0, length)) return null;
+            return parseHashed(langName, buffer, 0, length);
+        }
+    }
+
+    /**
+     * Read language properties from a path if its content changed since the language was last read.
+     *
+     * @param langName The language name.
+     * @param path     The path to read from.
+     * @return The loaded properties, or null if the content did not change.
+     * @throws IOException If the file could not be read.
+     */
+    public Properties readIfChanged(String langName, Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return readIfChanged(langName, inputStream);
+        }
+    }
+
+    /**
+     * Read all language files from the given paths. Directories are searched
+     * (not recursively) for language files.
+     *
+     * @param paths Language files or directories containing them.
+     * @return The loaded languages, in path order.
+     * @throws IOException If a file could not be read.
+     */
+    public Map<String, Properties> readAll(Path... paths) throws IOException {
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> directory = Files.newDirectoryStream(path, "*" + EXTENSION)) {
+                    for (Path file : directory) {
+                        readInto(languages, file);
+                    }
+                }
+            } else {
+                readInto(languages, path);
+            }
+        }
+        return languages;
+    }
+
+    /**
+     * Read language files from the classpath.
+     *
+     * @param classLoader   The class loader to load resources with.
+     * @param resourceNames The resource names, e.g. {@code lang/en.properties}.
+     * @return The loaded languages, in resource order.
+     * @throws IOException If a resource is missing or could not be read.
+     */
+    public Map<String, Properties> readResources(ClassLoader classLoader, String... resourceNames) throws IOException {
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (String resourceName : resourceNames) {
+            String langName = languageName(resourceName.substring(resourceName.lastIndexOf('/') + 1));
+            if (langName == null) continue;
+            try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+                if (inputStream == null) throw new FileNotFoundException("Resource not found: " + resourceName);
+                languages.put(langName, read(inputStream));
+            }
+        }
+        return languages;
+    }
+
+    /**
+     * Read all language files of a directory inside a zip or JAR archive,
+     * without extracting them.
+     *
+     * @param archive   The archive file.
+     * @param directory The directory inside the archive, e.g. {@code /lang}.
+     * @return The loaded languages.
+     * @throws IOException If the archive or a file could not be read.
+     */
+    public Map<String, Properties> readArchive(Path archive, String directory) throws IOException {
+        URI uri = URI.create("jar:" + archive.toUri());
+        try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+            return readAll(fileSystem.getPath(directory));
+        }
+    }
+
+    /**
+     * Read language properties from a byte array if its content changed since the language
+     * was last read, without remembering the content hash yet. The hash is remembered by
+     * {@link #commit(PendingRead)} when the properties are published, so a read that is
+     * never published does not hide the content from later reads.
+     *
+     * @param langName The language name.
+     * @param data     The content to read.
+     * @return The pending read, or null if the content did not change.
+     * @throws IOException If the content could not be parsed.
+     */
+    PendingRead readPending(String langName, byte[] data) throws IOException {
+        Long previous = contentHashes.get(langName);
+        Long hash = ContentHash.hash(data, 0, data.length);
+        if (hash.equals(previous)) return null;
+        return new PendingRead(langName, parse(data, 0, data.length), hash, previous);
+    }
+
+    /**
+     * Remember the content hash of a pending read, unless another read of its language
+     * was remembered since it was read.
+     *
+     * @param read The pending read.
+     * @return True if the read is still the latest one of its language and should be published.
+     */
+    boolean commit(PendingRead read) {
+        if (read.previous == null) return contentHashes.putIfAbsent(read.langName, read.hash) == null;
+        return contentHashes.replace(read.langName, read.previous, read.hash);
+    }
+
+    /**
+     * Forget the content hash of a language, so it is read again on the next {@code readIfChanged}.
+     *
+     * @param langName The language name.
+     */
+    public void forget(String langName) {
+        contentHashes.remove(langName);
+    }
+
+    /**
+     * Forget the content hashes of all languages.
+     */
+    public void reset() {
+        contentHashes.clear();
+    }
+
+    /**
+     * Gets the content hashes of all languages read so far.
+     *
+     * @return A copy of the content hashes by language name.
+     */
+    Map<String, Long> getContentHashes() {
+        return new HashMap<>(contentHashes);
+    }
+
+    /**
+     * Replace the content hashes, e.g. with the ones of a restored snapshot, so
+     * sources whose content did not change since are skipped.
+     *
+     * @param hashes The content hashes by language name.
+     */
+    void setContentHashes(Map<String, Long> hashes) {
+        contentHashes.clear();
+        contentHashes.putAll(hashes);
+    }
+
+    private void readInto(Map<String, Properties> languages, Path file) throws IOException {
+        Path fileName = file.getFileName();
+        String langName = fileName == null ? null : languageName(fileName.toString());
+        if (langName != null) languages.put(langName, read(file));
+    }
+
+    /**
+     * Read a stream completely into the reusable buffer, growing it if necessary.
+     *
+     * @return The number of bytes read.
+     */
+    private int fill(InputStream inputStream) throws IOException {
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                byte[] grown = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, grown, 0, length);
+                buffer = grown;
+            }
+            int read = inputStream.read(buffer, length, buffer.length - length);
+            if (read == -1) return length;
+            length += read;
+        }
+    }
+
+    /**
+     * Copy the remaining bytes of a buffer into the reusable buffer.
+     *
+     * @return The number of bytes copied.
+     */
+    private int copy(ByteBuffer data) {
+        int length = data.remaining();
+        if (buffer.length < length) buffer = new byte[Math.max(length, buffer.length * 2)];
+        data.duplicate().get(buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * Store the content hash of a language.
+     *
+     * @return True if the hash differs from the previous one.
+     */
+    private boolean updateHash(String langName, byte[] data, int offset, int length) {
+        Long hash = ContentHash.hash(data, offset, length);
+        return !hash.equals(contentHashes.put(langName, hash));
+    }
+
+    /**
+     * Parse language properties whose hash was just stored, forgetting the hash if parsing fails.
+     */
+    private Properties parseHashed(String langName, byte[] data, int offset, int length) throws IOException {
+        try {
+            return parse(data, offset, length);
+        } catch (IOException | RuntimeException e) {
+            contentHashes.remove(langName);
+            throw e;
+        }
+    }
+
+    /**
+     * Parse language properties, removing the single quotes around quoted values
+     * and the keys outside of the configured namespaces.
+     */
+    private Properties parse(byte[] data, int offset, int length) throws IOException {
+        Set<String> kept = namespaces;
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(data, offset, length));
+        // Iterate through the loaded properties and modify the values as needed
+        for (String propName : properties.stringPropertyNames()) {
+            if (kept != null && !inNamespaces(propName, kept)) {
+                properties.remove(propName);
+                continue;
+            }
+            String propValue = properties.getProperty(propName);
+            if (!propValue.startsWith("'")) continue;
+            // Remove single quotes from the property value
+            propValue = propValue.replace("'", "");
+            properties.setProperty(propName, propValue);
+        }
+        return properties;
+    }
+
+    /**
+     * Language properties read by {@link #readPending(String, byte[])}, with the content hash
+     * to remember once they are published and the hash that was remembered when they were read.
+     */
+    static final class PendingRead {
+
+        private final String langName;
+        private final Properties properties;
+        private final Long hash;
+        private final Long previous;
+
+        private PendingRead(String langName, Properties properties, Long hash, Long previous) {
+            this.langName = langName;
+            this.properties = properties;
+            this.hash = hash;
+            this.previous = previous;
+        }
+
+        String getLangName() {
+            return langName;
+        }
+
+        Properties getProperties() {
+            return properties;
+        }
+    }
+
+}
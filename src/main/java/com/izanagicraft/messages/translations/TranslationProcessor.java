@@ -0,0 +1,336 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationProcessor
+ * <p>
+ * A {@link Flow.Processor} translating a stream of {@link TranslationRequest}s
+ * off the producer's thread.
+ * <p>
+ * Requests are rendered in micro-batches on the given executor. Within a batch,
+ * each distinct locale and key is resolved only once and the default replacements
+ * are read once; results are still published in request order. The processor
+ * requests at most its buffer size from upstream and renders only as many results
+ * as downstream requested, so a slow consumer slows the producer down through
+ * demand instead of blocking any thread.
+ * <p>
+ * The processor publishes to a single subscriber. If the executor rejects a batch,
+ * the subscriber receives the {@link RejectedExecutionException} and upstream is cancelled.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * ExecutorService executor = Executors.newFixedThreadPool(2);
+ * TranslationProcessor processor = new TranslationProcessor(translations, executor, 64, 1024);
+ * chatEvents.subscribe(processor);   // Flow.Publisher<TranslationRequest>
+ * processor.subscribe(chatRelay);    // Flow.Subscriber<TranslationResult>
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationProcessor implements Flow.Processor<TranslationRequest, TranslationResult> {
+
+    /**
+     * The default maximum number of requests rendered in one batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final TranslationHandler handler;
+    private final Executor executor;
+    private final int batchSize;
+    private final int bufferSize;
+
+    private final Queue<TranslationRequest> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of pending drain signals; a drain task is scheduled while it is above zero.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * Results requested by downstream but not yet published.
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super TranslationResult> downstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private boolean terminated;
+
+    /**
+     * Creates a processor rendering on the common pool with default batch and buffer sizes.
+     *
+     * @param handler The handler to translate with.
+     */
+    public TranslationProcessor(TranslationHandler handler) {
+        this(handler, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param handler    The handler to translate with.
+     * @param executor   The executor rendering the batches; a bounded executor is recommended.
+     * @param batchSize  The maximum number of requests rendered in one batch.
+     * @param bufferSize The maximum number of requests requested from upstream but not rendered yet.
+     */
+    public TranslationProcessor(TranslationHandler handler, Executor executor, int batchSize, int bufferSize) {
+        if (batchSize <= 0 || bufferSize <= 0) throw new IllegalArgumentException("batch and buffer size must be positive");
+        this.handler = handler;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            subscription.request(bufferSize);
+        }
+    }
+
+    @Override
+    public void onNext(TranslationRequest request) {
+        queue.offer(Objects.requireNonNull(request));
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TranslationResult> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("TranslationProcessor allows only one subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("non-positive request: " + n);
+                    done = true;
+                    cancelUpstream();
+                    queue.clear();
+                } else {
+                    demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                }
+                schedule();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                cancelUpstream();
+                schedule();
+            }
+        });
+        schedule();
+    }
+
+    /**
+     * Gets the number of requests received but not rendered yet.
+     *
+     * @return The number of queued requests.
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) subscription.cancel();
+    }
+
+    /**
+     * Schedule a drain task unless one is already scheduled or running.
+     */
+    private void schedule() {
+        if (wip.getAndIncrement() != 0) return;
+        submitDrain();
+    }
+
+    private void submitDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            error = e;
+            done = true;
+            cancelUpstream();
+            queue.clear();
+            // Deliver the error on this thread, as no drain task can run
+            wip.set(1);
+            drain();
+        }
+    }
+
+    /**
+     * Render and publish at most one batch. Only one drain runs at a time.
+     */
+    private void drain() {
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super TranslationResult> subscriber = downstream;
+            if (cancelled || terminated) {
+                queue.clear();
+            } else if (subscriber != null) {
+                int published = publishBatch(subscriber);
+                if (published > 0 && !cancelled) {
+                    Flow.Subscription subscription = upstream;
+                    if (subscription != null && !done) subscription.request(published);
+                    // Hand the executor to other tasks between batches if there is more to do
+                    if (!queue.isEmpty() && demand.get() > 0) {
+                        submitDrain();
+                        return;
+                    }
+                }
+                if (done && queue.isEmpty() && !terminated) {
+                    terminated = true;
+                    Throwable throwable = error;
+                    if (throwable != null) {
+                        subscriber.onError(throwable);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) return;
+        }
+    }
+
+    /**
+     * Render up to one batch, limited by the downstream demand, and publish the results.
+     *
+     * @return The number of published results.
+     */
+    private int publishBatch(Flow.Subscriber<? super TranslationResult> subscriber) {
+        int limit = (int) Math.min(batchSize, demand.get());
+        if (limit <= 0) return 0;
+
+        List<TranslationRequest> batch = new ArrayList<>(Math.min(limit, queue.size()));
+        TranslationRequest request;
+        while (batch.size() < limit && (request = queue.poll()) != null) {
+            batch.add(request);
+        }
+        if (batch.isEmpty()) return 0;
+
+        // Resolve each locale and key once per batch, but keep the request order
+        Map<String, Object> defaults = handler.getDefaultReplacements();
+        Map<List<String>, MessageTemplate> templates = new HashMap<>();
+        for (TranslationRequest item : batch) {
+            String text;
+            try {
+                String langName = item.getLocale() == null ? null : item.getLocale().getLanguage();
+                MessageTemplate template = templates.computeIfAbsent(List.of(langName == null ? "" : langName, item.getKey()), ignored -> {
+                    MessageTemplate resolved = langName == null ? null : handler.resolve(langName, item.getKey());
+                    return resolved != null ? resolved : handler.resolveFallback(item.getKey());
+                });
+                text = template.render(item.getArgs(), defaults);
+            } catch (RuntimeException e) {
+                handler.reportRenderFailure(item.getLocale() == null ? null : item.getLocale().getLanguage(), item.getKey(), e);
+                text = item.getKey();
+            }
+            if (cancelled) return 0;
+            subscriber.onNext(new TranslationResult(item, text));
+        }
+        if (demand.get() != Long.MAX_VALUE) demand.addAndGet(-batch.size());
+        return batch.size();
+    }
+
+}
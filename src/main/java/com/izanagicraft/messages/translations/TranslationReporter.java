@@ -0,0 +1,128 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.translations;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TranslationReporter
+ * <p>
+ * Receives the missing keys and the load, render and change listener failures
+ * of a {@link TranslationHandler}.
+ * <p>
+ * Reports are delivered asynchronously on a shared reporter thread, so a slow
+ * reporter never stalls translating threads. Each missing key is reported once
+ * per language until the languages change, each failure once per source and
+ * error, and reports beyond the rate limit of the handler are dropped.
+ * By default, failures are printed and missing keys are ignored.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * translations.setReporter(new TranslationReporter() {
+ *     public void missingKey(String langName, String key) {
+ *         logger.warning("Missing translation " + key + " in " + (langName == null ? "fallback" : langName));
+ *     }
+ *
+ *     public void loadFailed(String source, Throwable error) {
+ *         logger.log(Level.SEVERE, "Could not load " + source, error);
+ *     }
+ * });
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public interface TranslationReporter {
+
+    /**
+     * The default reporter, printing failures and ignoring missing keys.
+     */
+    TranslationReporter DEFAULT = new TranslationReporter() {
+    };
+
+    /**
+     * Called when a key is not translated in a language.
+     *
+     * @param langName The language name, or null if the key is missing in the fallback language.
+     * @param key      The translation key.
+     */
+    default void missingKey(String langName, String key) {
+    }
+
+    /**
+     * Called when a language source could not be loaded.
+     *
+     * @param source The file, resource or language that failed to load.
+     * @param error  The error.
+     */
+    default void loadFailed(String source, Throwable error) {
+        error.printStackTrace();
+    }
+
+    /**
+     * Called when a message could not be rendered, e.g. because an argument's {@code toString} failed.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @param error    The error.
+     */
+    default void renderFailed(String langName, String key, Throwable error) {
+        error.printStackTrace();
+    }
+
+    /**
+     * Called when a {@link TranslationChangeListener} threw while being notified.
+     *
+     * @param listener The failing listener.
+     * @param error    The error.
+     */
+    default void listenerFailed(TranslationChangeListener listener, Throwable error) {
+        error.printStackTrace();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.izanagicraft.messages.translations;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:TypedMessages
+ * <p>
+ * Creates the implementations generated for {@link Messages} interfaces.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * Shop shop = TypedMessages.create(Shop.class, translations);
+ * player.sendMessage(shop.bought(player.locale(), "Diamond", 3, 29.97));
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public final class TypedMessages {
+
+    /**
+     * The suffix of generated implementations.
+     */
+    public static final String SUFFIX = "_Messages";
+
+    // instantiation prevention
+    private TypedMessages() {
+    }
+
+    /**
+     * Create the generated implementation of a messages interface.
+     *
+     * @param type    The interface annotated with {@link Messages}.
+     * @param handler The handler translating the messages.
+     * @param <T>     The interface type.
+     * @return The implementation.
+     * @throws IllegalArgumentException If no implementation was generated for the interface.
+     */
+    public static <T> T create(Class<T> type, TranslationHandler handler) {
+        try {
+            Class<?> implementation = Class.forName(implementationName(type), true, type.getClassLoader());
+            return type.cast(implementation.getConstructor(TranslationHandler.class).newInstance(handler));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No messages implementation generated for " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Gets the binary name of the implementation generated for an interface,
+     * e.g. {@code shop.Shop_Messages} for {@code shop.Shop} and {@code shop.Outer_Shop_Messages} for a nested one.
+     *
+     * @param type The interface.
+     * @return The class name of the implementation.
+     */
+    static String implementationName(Class<?> type) {
+        String name = type.getName();
+        int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + SUFFIX;
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.izanagicraft.messages.translations;
+
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.placeholders.TemplateCompiler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * message-format; com.izanagicraft.messages.translations:UsageProfile
+ * <p>
+ * Records how often keys are resolved, so the hottest keys can be persisted
+ * and rendered ahead of time on the next start.
+ * <p>
+ * Warming up renders each hot key often enough to promote its template to a
+ * generated renderer (see {@link TemplateCompiler}) and to give the JIT a
+ * realistic profile before the first players connect.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@code
+ * UsageProfile profile = UsageProfile.load(dataFolder.resolve("usage.profile"));
+ * translations.setUsageProfile(profile);
+ * profile.warmup(translations, 200);
+ * // ... on shutdown
+ * profile.save(dataFolder.resolve("usage.profile"), 1000);
+ * }
+ * </pre>
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class UsageProfile {
+
+    /**
+     * The default maximum number of distinct keys recorded.
+     */
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    /**
+     * The language name recorded for keys resolved in the fallback language.
+     */
+    public static final String FALLBACK = "";
+
+    private final int capacity;
+
+    /**
+     * The counters by language name and key, so recording a known key allocates nothing.
+     */
+    private final Map<String, Map<String, LongAdder>> counts = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates an empty profile with the default capacity.
+     */
+    public UsageProfile() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty profile.
+     *
+     * @param capacity The maximum number of distinct keys recorded; further keys are ignored.
+     */
+    public UsageProfile(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Record a resolved key.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     */
+    public void record(String langName, String key) {
+        add(langName == null ? FALLBACK : langName, key, 1);
+    }
+
+    private void add(String langName, String key, long count) {
+        Map<String, LongAdder> keys = counts.get(langName);
+        LongAdder adder = keys == null ? null : keys.get(key);
+        if (adder == null) {
+            if (size.get() >= capacity) return;
+            if (keys == null) keys = counts.computeIfAbsent(langName, name -> new ConcurrentHashMap<>());
+            adder = keys.computeIfAbsent(key, ignored -> {
+                size.incrementAndGet();
+                return new LongAdder();
+            });
+        }
+        adder.add(count);
+    }
+
+    /**
+     * Gets the number of distinct keys recorded.
+     *
+     * @return The number of recorded keys.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets how often a key was resolved.
+     *
+     * @param langName The language name, or null for the fallback language.
+     * @param key      The translation key.
+     * @return The recorded count.
+     */
+    public long getCount(String langName, String key) {
+        Map<String, LongAdder> keys = counts.get(langName == null ? FALLBACK : langName);
+        LongAdder adder = keys == null ? null : keys.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Gets the most often resolved keys.
+     *
+     * @param limit The maximum number of keys.
+     * @return The hottest keys, most used first.
+     */
+    public List<Usage> getHottest(int limit) {
+        List<Usage> hottest = new ArrayList<>(size.get());
+        counts.forEach((langName, keys) -> keys.forEach((key, adder) -> hottest.add(new Usage(langName, key, adder.sum()))));
+        hottest.sort(Comparator.comparingLong(Usage::getCount).reversed());
+        return hottest.size() > limit ? new ArrayList<>(hottest.subList(0, limit)) : hottest;
+    }
+
+    /**
+     * Forget all recorded keys.
+     */
+    public void clear() {
+        counts.clear();
+        size.set(0);
+    }
+
+    /**
+     * Render the hottest keys ahead of time.
+     *
+     * @param handler The handler to render with.
+     * @param limit   The maximum number of keys to render.
+     * @return The number of keys rendered.
+     */
+    public int warmup(TranslationHandler handler, int limit) {
+        // Render once more than needed for a template to be compiled
+        if (handler.getFallback() == null) return 0;
+        int renders = Math.max(TemplateCompiler.getThreshold(), 1) + 1;
+        Object[] args = new Object[0];
+        int warmed = 0;
+        for (Usage usage : getHottest(limit)) {
+            MessageTemplate template = usage.getLangName().equals(FALLBACK) ? null : handler.resolve(usage.getLangName(), usage.getKey());
+            if (template == null) template = handler.resolveFallback(usage.getKey());
+            for (int i = 0; i < renders; i++) {
+                template.render(args, handler.getDefaultReplacements());
+            }
+            warmed++;
+        }
+        return warmed;
+    }
+
+    /**
+     * Save the hottest keys as text, one {@code count<TAB>language<TAB>key} line per key.
+     * Keys containing line breaks are skipped.
+     *
+     * @param file  The file to write.
+     * @param limit The maximum number of keys to save.
+     * @throws IOException If the file could not be written.
+     */
+    public void save(Path file, int limit) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Usage usage : getHottest(limit)) {
+                // Keys spanning lines cannot be saved in this format
+                if (usage.getKey().indexOf('\n') != -1 || usage.getKey().indexOf('\r') != -1) continue;
+                writer.write(Long.toString(usage.getCount()));
+                writer.write('\t');
+                writer.write(usage.getLangName());
+                writer.write('\t');
+                writer.write(usage.getKey());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Load a saved profile. Recording continues on top of the loaded counts.
+     *
+     * @param file The file to read.
+     * @return The loaded profile, or an empty profile if the file does not exist or cannot be read.
+     */
+    public static UsageProfile load(Path file) {
+        return load(file, null);
+    }
+
+    /**
+     * Load a saved profile, reporting read failures to the reporter of a handler.
+     *
+     * @param file    The file to read.
+     * @param handler The handler to report to, or null for {@link TranslationReporter#DEFAULT}.
+     * @return The loaded profile, or an empty profile if the file does not exist or cannot be read.
+     */
+    static UsageProfile load(Path file, TranslationHandler handler) {
+        UsageProfile profile = new UsageProfile();
+        if (!Files.isRegularFile(file)) return profile;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int first = line.indexOf('\t');
+                int second = first == -1 ? -1 : line.indexOf('\t', first + 1);
+                if (second == -1) continue;
+                try {
+                    long count = Long.parseLong(line.substring(0, first));
+                    profile.add(line.substring(first + 1, second), line.substring(second + 1), count);
+                } catch (NumberFormatException e) {
+                    // Skip malformed lines
+                }
+            }
+        } catch (IOException e) {
+            if (handler != null) {
+                handler.reportLoadFailure(file.toString(), e);
+            } else {
+                TranslationReporter.DEFAULT.loadFailed(file.toString(), e);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * A recorded key of a language.
+     */
+    public static final class Usage {
+
+        private final String langName;
+        private final String key;
+        private final long count;
+
+        private Usage(String langName, String key, long count) {
+            this.langName = langName;
+            this.key = key;
+            this.count = count;
+        }
+
+        /**
+         * Gets the language name.
+         *
+         * @return The language name, or {@link #FALLBACK} for the fallback language.
+         */
+        public String getLangName() {
+            return langName;
+        }
+
+        /**
+         * Gets the translation key.
+         *
+         * @return The key.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Gets how often the key was resolved.
+         *
+         * @return The count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Usage)) return false;
+            Usage usage = (Usage) o;
+            return langName.equals(usage.langName) && key.equals(usage.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * langName.hashCode() + key.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return langName + ':' + key + '=' + count;
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.client.ClientLanguageExporter;
+import com.izanagicraft.messages.client.ClientMessage;
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:ClientLanguageExporterTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class ClientLanguageExporterTest {
+
+    private TranslationHandler handler;
+    private ClientLanguageExporter exporter;
+    private Path resourcePack;
+
+    private static Properties properties(String... entries) {
+        Properties properties = new Properties();
+        for (int i = 0; i < entries.length; i += 2) {
+            properties.setProperty(entries[i], entries[i + 1]);
+        }
+        return properties;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        handler = new TranslationHandler(new PlaceholderScope());
+        handler.getPlaceholderScope().put("prefix", "[PREFIX]");
+        handler.setTranslations(Map.of(
+                "en", properties(
+                        "greeting", "${prefix} Hello, ${0}!",
+                        "discount", "${0}% off for ${1}",
+                        "balance", "Balance: ${balance}"),
+                "de", properties(
+                        "greeting", "${prefix} Hallo, ${0}!",
+                        "discount", "${0}% Rabatt für ${1}")
+        ));
+        exporter = new ClientLanguageExporter(handler, "test.");
+        exporter.mapLanguage("en", "en_us", "en_gb");
+        resourcePack = Files.createTempDirectory("resourcepack");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(resourcePack)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testConvertMapsPlaceholders() {
+        Map<String, String> converted = exporter.convert("en");
+
+        assertEquals("[PREFIX] Hello, %1$s!", converted.get("test.greeting"));
+        assertEquals("%1$s%% off for %2$s", converted.get("test.discount"));
+        // ${balance} has no default replacement and cannot be rendered by the client
+        assertFalse(converted.containsKey("test.balance"));
+    }
+
+    @Test
+    void testExportWritesLanguageFiles() throws IOException {
+        Set<Path> written = exporter.export(resourcePack, "test");
+        Path file = resourcePack.resolve("assets/test/lang/de.json");
+
+        assertEquals(3, written.size());
+        assertTrue(written.contains(file));
+        assertTrue(written.contains(resourcePack.resolve("assets/test/lang/en_us.json")));
+        assertTrue(written.contains(resourcePack.resolve("assets/test/lang/en_gb.json")));
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        assertEquals("{\n  \"test.discount\": \"%1$s%% Rabatt für %2$s\",\n  \"test.greeting\": \"[PREFIX] Hallo, %1$s!\"\n}\n", json);
+    }
+
+    @Test
+    void testWriteJsonEscapes() throws IOException {
+        Map<String, String> translations = new TreeMap<>();
+        translations.put("quote", "say \"hi\"\\\n");
+        StringWriter writer = new StringWriter();
+        ClientLanguageExporter.writeJson(writer, translations);
+
+        assertEquals("{\n  \"quote\": \"say \\\"hi\\\"\\\\\\n\"\n}\n", writer.toString());
+    }
+
+    @Test
+    void testMessageSendsKeyWhenExported() throws IOException {
+        // Nothing was exported yet
+        assertFalse(exporter.message(Locale.US, "greeting", "John").isTranslatable());
+
+        exporter.export(resourcePack, "test");
+        ClientMessage message = exporter.message(Locale.US, "greeting", "John");
+
+        assertTrue(message.isTranslatable());
+        assertEquals("test.greeting", message.getKey());
+        assertArrayEquals(new String[]{"John"}, message.getArgs());
+    }
+
+    @Test
+    void testMessageFallsBackToServerRendering() throws IOException {
+        exporter.export(resourcePack, "test");
+
+        ClientMessage balance = exporter.message(Locale.US, "balance");
+        assertFalse(balance.isTranslatable());
+        assertEquals("Balance: null", balance.getText());
+
+        // Missing arguments are filled from the default replacements on the server
+        ClientMessage discount = exporter.message(Locale.US, "discount", 10);
+        assertFalse(discount.isTranslatable());
+
+        // Changed default replacements invalidate the exported files
+        handler.getPlaceholderScope().put("prefix", "[NEW]");
+        ClientMessage greeting = exporter.message(Locale.US, "greeting", "John");
+        assertFalse(greeting.isTranslatable());
+        assertEquals("[NEW] Hello, John!", greeting.getText());
+    }
+
+    @Test
+    void testReloadedTranslationsInvalidateTheExport() throws IOException {
+        exporter.export(resourcePack, "test");
+        assertTrue(exporter.isClientRenderable("greeting"));
+
+        // The exported files no longer match the reloaded translations
+        handler.setTranslations(Map.of("en", properties(
+                "greeting", "Hi, ${0}!",
+                "balance", "Balance: ${0}")));
+        assertFalse(exporter.isClientRenderable("greeting"));
+        assertFalse(exporter.isClientRenderable("balance"));
+        assertEquals("Hi, John!", exporter.message(Locale.US, "greeting", "John").getText());
+
+        exporter.export(resourcePack, "test");
+        assertTrue(exporter.isClientRenderable("greeting"));
+        assertTrue(exporter.isClientRenderable("balance"));
+    }
+
+    @Test
+    void testClientLanguageName() {
+        assertEquals("en_us", ClientLanguageExporter.clientLanguageName("en_US"));
+        assertEquals("de_de", ClientLanguageExporter.clientLanguageName("de-DE"));
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.EscapeMode;
+import com.izanagicraft.messages.placeholders.MessagePlaceholderHandler;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:EscapeModeTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class EscapeModeTest {
+
+    @Test
+    void testEscape() {
+        assertEquals("say \\\"hi\\\"\\n\\\\ \\u0001", EscapeMode.JSON.escape("say \"hi\"\n\\ \u0001"));
+        assertEquals("&lt;b&gt;Tom &amp; &quot;Jerry&quot;&#39;s&lt;/b&gt;", EscapeMode.HTML.escape("<b>Tom & \"Jerry\"'s</b>"));
+        assertEquals("\\<red>hi\\\\", EscapeMode.MARKUP.escape("<red>hi\\"));
+        assertEquals("<b>\"x\"</b>", EscapeMode.NONE.escape("<b>\"x\"</b>"));
+
+        String clean = "nothing to escape";
+        assertSame(clean, EscapeMode.JSON.escape(clean));
+    }
+
+    @Test
+    void testRenderEqualsEscapingTheWholeText() {
+        MessageTemplate template = MessageTemplate.compile("<b>${prefix}</b> \"${0}\" bought ${1} & left\n");
+        Object[][] argSets = {{"Anna", 3}, {"</b><script>alert('x')</script>", "a\\b"}, {}, {null, "\"quoted\""}};
+        Map<String, Object> defaults = Map.of("prefix", "[Shop & Co]", "1", "<default>");
+
+        for (EscapeMode mode : EscapeMode.values()) {
+            for (Object[] args : argSets) {
+                assertEquals(mode.escape(template.render(args, defaults)), template.render(args, defaults, mode), mode.name());
+            }
+        }
+    }
+
+    @Test
+    void testValuesCannotBreakOut() {
+        MessageTemplate template = MessageTemplate.compile("{\"content\":\"${0}\"}");
+
+        assertEquals("{\\\"content\\\":\\\"\\\",\\\"admin\\\":true\\\"}",
+                template.render(new Object[]{"\",\"admin\":true"}, Map.of(), EscapeMode.JSON));
+        assertEquals("&lt;p&gt;&lt;img src=x onerror=alert(1)&gt;&lt;/p&gt;",
+                MessageTemplate.compile("<p>${0}</p>").render(new Object[]{"<img src=x onerror=alert(1)>"}, Map.of(), EscapeMode.HTML));
+    }
+
+    @Test
+    void testEscapedLiteralsAreCached() {
+        MessageTemplate constant = MessageTemplate.compile("Tom & Jerry");
+        String first = constant.render(Map.of(), EscapeMode.HTML);
+
+        assertEquals("Tom &amp; Jerry", first);
+        assertSame(first, constant.render(Map.of(), EscapeMode.HTML));
+        assertSame(constant.getSource(), constant.render(Map.of(), EscapeMode.NONE));
+    }
+
+    @Test
+    void testFastFormatAndTranslate() {
+        MessagePlaceholderHandler handler = new MessagePlaceholderHandler();
+        assertEquals("Hi \\\"Bob\\\"!", handler.fastFormat("Hi ${name}!", Map.of("name", "\"Bob\""), EscapeMode.JSON));
+        assertEquals("Hi \"Bob\"!", handler.fastFormat("Hi ${name}!", Map.of("name", "\"Bob\""), EscapeMode.NONE));
+
+        Properties en = new Properties();
+        en.setProperty("chat", "<gray>${0}: ${1}");
+        TranslationHandler translations = new TranslationHandler();
+        translations.setTranslations(Map.of("en", en));
+
+        assertEquals("\\<gray>Anna: \\<red>hacked", translations.translate(Locale.ENGLISH, EscapeMode.MARKUP, "chat", "Anna", "<red>hacked"));
+        assertEquals("<gray>Anna: hi", translations.translate(Locale.ENGLISH, "chat", "Anna", "hi"));
+    }
+
+    @Test
+    void testOneShotFormatMatchesCompiledTemplates() {
+        MessagePlaceholderHandler handler = new MessagePlaceholderHandler();
+        Map<String, Object> values = Map.of("name", "<b>Tom & Jerry</b>", "count", 3);
+        for (String format : new String[]{"<p>${name} & ${count}</p>", "${name}", "a & b", "$ & ${} & ${missing}", "<${name}>$"}) {
+            for (EscapeMode mode : EscapeMode.values()) {
+                assertEquals(MessageTemplate.compile(format).render(values, mode), handler.fastFormat(format, values, mode),
+                        format + " " + mode);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package tests;
+
+import com.izanagicraft.messages.translations.IncrementalLoader;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:IncrementalLoaderTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class IncrementalLoaderTest {
+
+    private static Path languages() throws IOException {
+        Path directory = Files.createTempDirectory("incremental");
+        Files.writeString(directory.resolve("en.properties"), "greeting=Hello ${0}\nfarewell=Bye ${0}\nshop.bought=${0} bought ${1}\n", StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("de.properties"), "greeting=Hallo ${0}\nfarewell=Tsch\\u00fcss ${0}\n", StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("notes.txt"), "not a language", StandardCharsets.UTF_8);
+        return directory;
+    }
+
+    @Test
+    void testStepsPublishOnceDone() throws IOException {
+        Properties previous = new Properties();
+        previous.setProperty("greeting", "Old ${0}");
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(Map.of("en", previous));
+
+        IncrementalLoader loader = handler.loadIncrementally(languages());
+        List<IncrementalLoader.Phase> phases = new ArrayList<>(List.of(loader.getPhase()));
+        int steps = 0;
+        // A zero budget runs a single unit per step
+        while (!loader.step(Duration.ZERO)) {
+            steps++;
+            if (!loader.isDone()) {
+                assertEquals("Old Steve", handler.translate(Locale.ENGLISH, "greeting", "Steve"));
+                assertFalse(handler.hasLanguage("de"));
+            }
+            if (!phases.contains(loader.getPhase())) phases.add(loader.getPhase());
+        }
+        phases.add(loader.getPhase());
+
+        assertEquals(List.of(IncrementalLoader.Phase.READ, IncrementalLoader.Phase.COMPILE,
+                IncrementalLoader.Phase.PUBLISH, IncrementalLoader.Phase.DONE), phases);
+        assertEquals(steps + 1, loader.getCompletedUnits());
+        assertTrue(steps > 5, "steps " + steps);
+        assertEquals("Hello Steve", handler.translate(Locale.ENGLISH, "greeting", "Steve"));
+        assertEquals("Tschüss Steve", handler.translate(Locale.GERMAN, "farewell", "Steve"));
+        assertTrue(loader.step(Duration.ZERO));
+    }
+
+    @Test
+    void testFinishAndUnchangedFiles() throws IOException {
+        Path directory = languages();
+        TranslationHandler handler = new TranslationHandler();
+        IncrementalLoader loader = handler.loadIncrementally(directory.resolve("en.properties"), directory.resolve("de.properties"));
+        assertEquals(IncrementalLoader.Phase.READ, loader.getPhase());
+        assertFalse(handler.hasLanguage("en"));
+
+        loader.finish();
+        assertTrue(loader.isDone());
+        assertEquals("x bought 2", handler.translate(Locale.ENGLISH, "shop.bought", "x", 2));
+
+        // Unchanged files are skipped, so nothing is compiled: listing, three files, two phase changes and publishing
+        IncrementalLoader reload = handler.loadIncrementally(directory);
+        reload.finish();
+        assertEquals(7, reload.getCompletedUnits());
+        assertEquals("Hallo Alex", handler.translate(Locale.GERMAN, "greeting", "Alex"));
+    }
+
+    @Test
+    void testUnpublishedReadsDoNotHideChanges() throws IOException {
+        Path file = Files.createTempDirectory("incremental").resolve("en.properties");
+        Files.writeString(file, "k=v1\n", StandardCharsets.UTF_8);
+        TranslationHandler handler = new TranslationHandler();
+        handler.load(file);
+
+        Files.writeString(file, "k=v2\n", StandardCharsets.UTF_8);
+        IncrementalLoader loader = handler.loadIncrementally(file);
+        loader.step(Duration.ZERO);
+        assertEquals("v1", handler.translate("k"));
+
+        // The file was read but not published, so a synchronous load still sees the change
+        handler.load(file);
+        assertEquals("v2", handler.translate("k"));
+
+        // Reads of the incremental load that are older than the published ones are not published
+        Files.writeString(file, "k=v3\n", StandardCharsets.UTF_8);
+        IncrementalLoader stale = handler.loadIncrementally(file);
+        stale.step(Duration.ZERO);
+        Files.writeString(file, "k=v4\n", StandardCharsets.UTF_8);
+        handler.load(file);
+        stale.finish();
+        loader.finish();
+        assertEquals("v4", handler.translate("k"));
+    }
+
+    @Test
+    void testDirectoriesAreNotSearchedRecursively() throws IOException {
+        Path directory = languages();
+        Path nested = Files.createDirectory(directory.resolve("nested"));
+        Files.writeString(nested.resolve("fr.properties"), "greeting=Bonjour ${0}\n", StandardCharsets.UTF_8);
+        TranslationHandler handler = new TranslationHandler();
+
+        handler.loadIncrementally(directory).finish();
+        assertTrue(handler.hasLanguage("en"));
+        assertFalse(handler.hasLanguage("fr"));
+    }
+
+}
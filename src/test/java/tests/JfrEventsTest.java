@@ -0,0 +1,121 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:JfrEventsTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class JfrEventsTest {
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Test
+    void testEventsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("message-format", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.izanagicraft.messages.Render").withThreshold(Duration.ZERO);
+            recording.enable("com.izanagicraft.messages.Load");
+            recording.enable("com.izanagicraft.messages.CacheEviction");
+            recording.start();
+
+            TranslationHandler handler = new TranslationHandler(new PlaceholderScope());
+            handler.init(new File("src/test/resources/lang.properties"));
+            handler.translate(Locale.forLanguageTag("lang"), "greeting", "John");
+            handler.getPlaceholderHandler().fastFormat("Hello ${name}", Map.of("name", "John"));
+            handler.getPlaceholderHandler().clearTemplates();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        List<RecordedEvent> renders = events(recorded, "com.izanagicraft.messages.Render");
+        assertEquals(2, renders.size());
+        assertEquals("lang", renders.get(0).getString("language"));
+        assertEquals("greeting", renders.get(0).getString("key"));
+        assertEquals("null Hello, John!".length(), renders.get(0).getInt("length"));
+        assertNull(renders.get(1).getString("key"));
+
+        List<RecordedEvent> loads = events(recorded, "com.izanagicraft.messages.Load");
+        assertEquals(1, loads.size());
+        assertEquals("files", loads.get(0).getString("source"));
+        assertEquals(1, loads.get(0).getInt("languages"));
+        assertEquals(2, loads.get(0).getInt("keys"));
+        assertFalse(loads.get(0).getBoolean("reload"));
+
+        List<RecordedEvent> evictions = events(recorded, "com.izanagicraft.messages.CacheEviction");
+        assertEquals(1, evictions.size());
+        assertEquals("templates", evictions.get(0).getString("cache"));
+        assertEquals(1, evictions.get(0).getInt("count"));
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.translations.KeyIndex;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationLoader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:KeyIndexTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class KeyIndexTest {
+
+    private static final String BUNDLE = String.join("\n",
+            "greeting=Hello",
+            "gui.shop=Shop",
+            "gui.shop.title=Shop",
+            "gui.shop.sword.name=Sword",
+            "gui.shop.sword.lore=Sharp",
+            "gui.shop.sword-x.name=Sword X",
+            "gui.shopkeeper.title=Shopkeeper",
+            "quest.start=Quest ${0} started",
+            "admin.ban=Banned ${0}");
+
+    private static KeyIndex index() {
+        return KeyIndex.of(List.of("greeting", "gui.shop", "gui.shop.title", "gui.shop.sword.name", "gui.shop.sword.lore",
+                "gui.shop.sword-x.name", "gui.shopkeeper.title", "quest.start", "admin.ban"));
+    }
+
+    @Test
+    void testKeysUnder() {
+        KeyIndex index = index();
+
+        assertEquals(List.of("gui.shop.sword-x.name", "gui.shop.sword.lore", "gui.shop.sword.name", "gui.shop.title"),
+                index.keysUnder("gui.shop"));
+        assertEquals(index.keysUnder("gui.shop"), index.keysUnder("gui.shop."));
+        assertEquals(List.of("gui.shop.sword.lore", "gui.shop.sword.name"), index.keysUnder("gui.shop.sword"));
+        assertEquals(6, index.countUnder("gui"));
+        assertEquals(List.of(), index.keysUnder("gui.shop.title"));
+        assertEquals(List.of(), index.keysUnder("missing"));
+        assertEquals(9, index.keysUnder("").size());
+        assertThrows(UnsupportedOperationException.class, () -> index.keysUnder("quest").clear());
+    }
+
+    @Test
+    void testChildrenOf() {
+        KeyIndex index = index();
+
+        assertEquals(List.of("sword", "sword-x", "title"), index.childrenOf("gui.shop"));
+        assertEquals(List.of("shop", "shopkeeper"), index.childrenOf("gui"));
+        assertEquals(List.of("admin", "greeting", "gui", "quest"), index.childrenOf(""));
+        assertEquals(List.of(), index.childrenOf("admin.ban"));
+        assertTrue(index.contains("gui.shop"));
+        assertFalse(index.contains("gui"));
+    }
+
+    @Test
+    void testHandlerIndexFollowsReloads() {
+        TranslationHandler handler = new TranslationHandler();
+        assertSame(KeyIndex.EMPTY, handler.getKeyIndex("en"));
+
+        handler.load("en", ByteBuffer.wrap(BUNDLE.getBytes(StandardCharsets.UTF_8)));
+        KeyIndex index = handler.getKeyIndex("en");
+        assertSame(index, handler.getKeyIndex("en"));
+        assertEquals(List.of("quest.start"), handler.keysUnder("en", "quest"));
+
+        handler.load("en", ByteBuffer.wrap((BUNDLE + "\nquest.end=Quest ended").getBytes(StandardCharsets.UTF_8)));
+        assertNotSame(index, handler.getKeyIndex("en"));
+        assertEquals(List.of("quest.end", "quest.start"), handler.keysUnder("en", "quest"));
+
+        Properties replaced = new Properties();
+        replaced.setProperty("quest.only", "Only");
+        handler.setTranslations(Map.of("en", replaced));
+        assertEquals(List.of("quest.only"), handler.keysUnder("en", "quest"));
+    }
+
+    @Test
+    void testNamespacePartitionedLoading() throws Exception {
+        assertTrue(TranslationLoader.inNamespaces("gui.shop.title", Set.of("gui.shop")));
+        assertTrue(TranslationLoader.inNamespaces("gui.shop", Set.of("gui.shop")));
+        assertFalse(TranslationLoader.inNamespaces("gui.shopkeeper.title", Set.of("gui.shop")));
+
+        TranslationHandler handler = new TranslationHandler();
+        handler.getLoader().setNamespaces(List.of("gui.shop.", "quest"));
+        handler.load("en", ByteBuffer.wrap(BUNDLE.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("gui.shop", "gui.shop.sword-x.name", "gui.shop.sword.lore", "gui.shop.sword.name",
+                "gui.shop.title", "quest.start"), handler.getKeyIndex("en").getKeys());
+        assertEquals("Quest 1 started", handler.translate("quest.start", 1));
+        assertEquals("admin.ban", handler.translate("admin.ban"));
+
+        // Widening the namespaces reads the unchanged source again
+        handler.getLoader().setNamespaces(null);
+        handler.load("en", ByteBuffer.wrap(BUNDLE.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(9, handler.getKeyIndex("en").size());
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.strings.WrappedString;
+import com.izanagicraft.messages.translations.LanguageNegotiator;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:LanguageNegotiatorTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class LanguageNegotiatorTest {
+
+    private static Properties greeting(String text) {
+        Properties properties = new Properties();
+        properties.setProperty("greeting", text);
+        return properties;
+    }
+
+    private static TranslationHandler handler(String... langNames) {
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (String langName : langNames) {
+            languages.put(langName, greeting("Hello from " + langName));
+        }
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(languages);
+        return handler;
+    }
+
+    @Test
+    void testMatchingRules() {
+        LanguageNegotiator negotiator = handler("en_US", "de", "pt_BR", "pt_PT").getNegotiator();
+
+        assertEquals("en_US", negotiator.match("en-us"));
+        assertEquals("en_US", negotiator.match("EN_us"));
+        assertEquals("de", negotiator.match("de_de"));
+        assertEquals("de", negotiator.match("de-AT"));
+        assertEquals("en_US", negotiator.match("en_GB"));
+        assertEquals("pt_BR", negotiator.match("pt"));
+        assertNull(negotiator.match("fr_FR"));
+
+        negotiator.setRules(LanguageNegotiator.Rule.EXACT);
+        assertNull(negotiator.match("de_de"));
+        assertEquals("en_US", negotiator.match("en_us"));
+
+        negotiator.addAlias("nb_NO", "de");
+        assertEquals("de", negotiator.match("nb-no"));
+    }
+
+    @Test
+    void testAcceptLanguage() {
+        LanguageNegotiator negotiator = handler("en", "de", "fr").getNegotiator();
+
+        assertEquals("de", negotiator.match("de-CH, fr;q=0.9, en;q=0.8"));
+        assertEquals("fr", negotiator.match("es, en;q=0.5, fr;q=0.7"));
+        assertEquals("en", negotiator.match("de;q=0, en"));
+        assertEquals("en", negotiator.match("de;q=abc, en;q=0.1"));
+        assertNull(negotiator.match("es, *;q=0.5, en;q=0.1"));
+    }
+
+    @Test
+    void testMemoizedHandles() {
+        TranslationHandler handler = handler("en", "de");
+        LanguageNegotiator negotiator = handler.getNegotiator();
+
+        WrappedString handle = negotiator.negotiate("de_de");
+        assertSame(handle, negotiator.negotiate("de_de"));
+        assertSame(handle, negotiator.negotiate("de-AT"));
+        assertEquals("Hello from de", handler.translate(handle, "greeting"));
+        assertEquals("de", negotiator.negotiate(Locale.GERMANY).getValue());
+
+        WrappedString fallback = negotiator.negotiate("ja_JP");
+        assertNull(fallback.getValue());
+        assertEquals(handler.getFallback().getProperty("greeting"), handler.translate(fallback, "greeting"));
+
+        // Loading a better matching language invalidates the memoized results
+        handler.setTranslations(Map.of("en", greeting("Hello"), "de", greeting("Hallo"), "ja", greeting("Konnichiwa")));
+        assertEquals("Konnichiwa", handler.translate(negotiator.negotiate("ja_JP"), "greeting"));
+    }
+
+    @Test
+    void testBoundedCache() {
+        LanguageNegotiator negotiator = new LanguageNegotiator(handler("en"), 8);
+        for (int i = 0; i < 100; i++) {
+            negotiator.negotiate("en-" + i);
+            assertTrue(negotiator.getCacheSize() <= 8);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new LanguageNegotiator(handler("en"), 0));
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.MessageArguments;
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.strings.WrappedString;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:MessageArgumentsTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class MessageArgumentsTest {
+
+    @Test
+    void testRenderMatchesBoxedArguments() {
+        MessageTemplate template = MessageTemplate.compile("${0}|${1}|${2}|${3}|${4}|${5}|${6}|${name}");
+        MessageArguments args = new MessageArguments(2)
+                .add(42).add(-9_000_000_000L).add(1.5).add(2.5f).add(true).add('x').add("text");
+        Map<String, Object> defaults = Map.of("name", "default", "6", "unused");
+
+        assertEquals(7, args.size());
+        assertEquals(template.render(args.toArray(), defaults), template.render(args, defaults));
+        assertEquals("42|-9000000000|1.5|2.5|true|x|text|default", template.render(args, defaults));
+    }
+
+    @Test
+    void testMissingAndUnsetArguments() {
+        MessageTemplate template = MessageTemplate.compile("${0} ${1} ${2}");
+        MessageArguments args = new MessageArguments().set(1, 7);
+
+        assertEquals("null 7 fallback", template.render(args, Map.of("2", "fallback")));
+        assertNull(args.get(0));
+        assertEquals(7L, args.get(1));
+
+        args.clear();
+        assertEquals(0, args.size());
+        assertEquals("a b c", template.render(args, Map.of("0", "a", "1", "b", "2", "c")));
+        assertThrows(IndexOutOfBoundsException.class, () -> args.set(-1, 1));
+    }
+
+    @Test
+    void testLocalArgumentsAreClearedAndReused() {
+        MessageArguments first = MessageArguments.local().add("leak");
+        assertEquals("leak", MessageTemplate.compile("${0}").render(first, Map.of()));
+        MessageArguments second = MessageArguments.local();
+
+        assertSame(first, second);
+        assertEquals(0, second.size());
+        second.clear();
+        assertSame(second, MessageArguments.local());
+    }
+
+    @Test
+    void testLocalArgumentsAreTakenUntilRendered() {
+        Properties en = new Properties();
+        en.setProperty("outer", "${0} [${1}]");
+        en.setProperty("inner", "${0}");
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(Map.of("en", en));
+
+        // The inner arguments are bound while the outer ones are, not while they are rendered
+        assertEquals("A [B]", handler.translate("outer",
+                MessageArguments.local().add("A").add(handler.translate("inner", MessageArguments.local().add("B")))));
+    }
+
+    @Test
+    void testFloatsRenderLikeBoxedFloats() {
+        MessageTemplate template = MessageTemplate.compile("${0}|${1}");
+        MessageArguments args = new MessageArguments().add(1.1f).add(0.1f);
+
+        assertEquals(1.1f, args.get(0));
+        assertEquals(template.render(new Object[]{1.1f, 0.1f}, Map.of()), template.render(args, Map.of()));
+        assertEquals("1.1|0.1", template.render(args, Map.of()));
+    }
+
+    @Test
+    void testTranslate() {
+        Properties en = new Properties();
+        en.setProperty("bank.balance", "Balance: ${0} coins (${1}%)");
+        en.setProperty("debug.position", "${0}, ${1}, ${2}");
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(Map.of("en", en));
+
+        assertEquals("Balance: 1250 coins (2.5%)",
+                handler.translate(Locale.ENGLISH, "bank.balance", MessageArguments.local().add(1250).add(2.5)));
+        assertEquals("Balance: 1250 coins (2.5%)", handler.translate(Locale.ENGLISH, "bank.balance", 1250, 2.5));
+        assertEquals("-12, 64, 300", handler.translate("debug.position", MessageArguments.local().add(-12).add(64).add(300)));
+
+        StringBuilder builder = new StringBuilder("> ");
+        handler.translateTo(builder, WrappedString.of("en"), "debug.position", MessageArguments.local().add(1).add(2).add(3));
+        assertEquals("> 1, 2, 3", builder.toString());
+    }
+
+    @Test
+    void testNoAllocationsForNumericArguments() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return;
+
+        MessageTemplate template = MessageTemplate.compile("Balance: ${0} coins at ${1}, ${2}, ${3}");
+        MessageArguments args = new MessageArguments();
+        StringBuilder builder = new StringBuilder(256);
+        Map<String, Object> defaults = Map.of();
+        for (int i = 0; i < 1000; i++) {
+            builder.setLength(0);
+            args.clear();
+            template.renderTo(builder, args.add(i).add(i * 3L).add(-i).add(Long.MAX_VALUE - i), defaults);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            builder.setLength(0);
+            args.clear();
+            template.renderTo(builder, args.add(i).add(i * 3L).add(-i).add(Long.MAX_VALUE - i), defaults);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Boxing four arguments alone would take more than 600 KB here
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+    }
+
+}
@@ -54,6 +54,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * message-format; tests:MessagePlaceholderHandlerTest
@@ -89,6 +90,25 @@ public class MessagePlaceholderHandlerTest {
         assertEquals("Hello John, your age is 25", result);
     }
 
+    @Test
+    void testFastFormatKeepsLiteralText() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("discount", 50);
+        values.put("name", "${discount}");
+
+        // Percent signs, invalid placeholders and inserted values are not interpreted
+        assertEquals("50% off, $5 for ${not valid} ${discount}", placeholderHandler.fastFormat("${discount}% off, $5 for ${not valid} ${name}", values));
+        assertEquals("$${50}$", placeholderHandler.fastFormat("$${${discount}}$", values));
+    }
+
+    @Test
+    void testFastFormatWithoutPlaceholdersReturnsInput() {
+        String format = "No placeholders here, 100% sure.";
+        assertSame(format, placeholderHandler.fastFormat(format, new HashMap<>()));
+        String dollars = "Costs $5 or ${}";
+        assertSame(dollars, placeholderHandler.fastFormat(dollars, new HashMap<>()));
+    }
+
     @Test
     void testAddDefaultReplacements() {
         // Perform a test by adding default replacements
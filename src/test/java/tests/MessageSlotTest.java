@@ -0,0 +1,144 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.MessageArguments;
+import com.izanagicraft.messages.strings.WrappedString;
+import com.izanagicraft.messages.translations.MessageSlot;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TypedMessages;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:MessageSlotTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class MessageSlotTest {
+
+    private static Map<String, Properties> languages(String english) {
+        Properties en = new Properties();
+        en.setProperty("shop.bought", english);
+        Properties de = new Properties();
+        de.setProperty("shop.bought", "${0} x${1} für ${2}");
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        languages.put("en", en);
+        languages.put("de", de);
+        return languages;
+    }
+
+    @Test
+    void testRenderInLanguages() {
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(languages("${0} x${1} for ${2}"));
+        handler.setFallbackLanguage("en");
+        MessageSlot slot = new MessageSlot(handler, "shop.bought");
+
+        assertEquals("shop.bought", slot.getKey());
+        assertEquals("Diamond x3 for 29.97", slot.render(MessageArguments.local().add("Diamond").add(3).add(29.97)));
+        assertEquals("Diamant x3 für 29.97", slot.render(Locale.GERMAN, MessageArguments.local().add("Diamant").add(3).add(29.97)));
+        assertEquals("Diamant x3 für 29.97", slot.render(WrappedString.of("de"), MessageArguments.local().add("Diamant").add(3).add(29.97)));
+        assertEquals("Diamond x1 for 2.5", slot.render(Locale.FRENCH, MessageArguments.local().add("Diamond").add(1).add(2.5)));
+    }
+
+    @Test
+    void testTemplatesFollowChanges() {
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(languages("${0} x${1} for ${2}"));
+        handler.setFallbackLanguage("en");
+        MessageSlot slot = new MessageSlot(handler, "shop.bought");
+        assertEquals("a x1 for 2", slot.render(Locale.FRENCH, MessageArguments.local().add("a").add(1).add(2)));
+
+        handler.setTranslations(languages("Bought ${1} ${0}"));
+        assertEquals("Bought 1 a", slot.render(MessageArguments.local().add("a").add(1).add(2)));
+
+        handler.setFallbackLanguage("de");
+        assertEquals("a x1 für 2", slot.render(Locale.FRENCH, MessageArguments.local().add("a").add(1).add(2)));
+    }
+
+    @Test
+    void testNestedLocalArguments() {
+        TranslationHandler handler = new TranslationHandler();
+        Properties en = new Properties();
+        en.setProperty("shop.bought", "${0} bought ${1} items");
+        en.setProperty("item.name", "Sword ${0}");
+        handler.setTranslations(Map.of("en", en));
+        handler.setFallbackLanguage("en");
+        MessageSlot bought = new MessageSlot(handler, "shop.bought");
+        MessageSlot name = new MessageSlot(handler, "item.name");
+        Object item = new Object() {
+            @Override
+            public String toString() {
+                return name.render(MessageArguments.local().add(7));
+            }
+        };
+
+        // Rendering an argument renders another message with the local arguments of the thread
+        assertEquals("Sword 7 bought 3 items", bought.render(MessageArguments.local().add(item).add(3)));
+        assertEquals("Sword 7 bought 3 items", handler.translate("shop.bought", MessageArguments.local().add(item).add(3)));
+
+        // The outer set is reused once it has been rendered
+        MessageArguments first = MessageArguments.local().add(item).add(3);
+        bought.render(first);
+        assertSame(first, MessageArguments.local());
+    }
+
+    @Test
+    void testCreateWithoutGeneratedImplementation() {
+        assertThrows(IllegalArgumentException.class, () -> TypedMessages.create(Runnable.class, new TranslationHandler()));
+    }
+
+}
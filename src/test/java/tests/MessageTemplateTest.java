@@ -0,0 +1,116 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:MessageTemplateTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class MessageTemplateTest {
+
+    @Test
+    void testCompileSplitsLiteralsAndSlots() {
+        MessageTemplate template = MessageTemplate.compile("${prefix} Hello, ${0}!");
+
+        assertEquals(2, template.getSlotCount());
+        assertEquals("prefix", template.getSlot(0));
+        assertEquals("0", template.getSlot(1));
+        assertEquals(-1, template.getArgIndex(0));
+        assertEquals(0, template.getArgIndex(1));
+        assertEquals("", template.getLiteral(0));
+        assertEquals(" Hello, ", template.getLiteral(1));
+        assertEquals("!", template.getLiteral(2));
+    }
+
+    @Test
+    void testRenderWithValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "John");
+        values.put("age", 25);
+
+        String result = MessageTemplate.compile("Hello ${name}, your age is ${age}").render(values);
+        assertEquals("Hello John, your age is 25", result);
+    }
+
+    @Test
+    void testRenderWithArgsAndDefaults() {
+        // Arguments take precedence over defaults with the same numeric name
+        MessageTemplate template = MessageTemplate.compile("${prefix} ${0} and ${1}");
+        String result = template.render(new Object[]{"first"}, Map.of("prefix", "[PREFIX]", "0", "default", "1", "second"));
+        assertEquals("[PREFIX] first and second", result);
+    }
+
+    @Test
+    void testRenderMissingValues() {
+        assertEquals("Hello null", MessageTemplate.compile("Hello ${name}").render(Map.of()));
+    }
+
+    @Test
+    void testInvalidPlaceholdersStayLiteral() {
+        MessageTemplate template = MessageTemplate.compile("100% ${} ${a-b} ${open $${x}");
+        assertEquals(1, template.getSlotCount());
+        assertEquals("100% ${} ${a-b} ${open $1", template.render(Map.of("x", 1)));
+    }
+
+    @Test
+    void testConstantTemplate() {
+        MessageTemplate template = MessageTemplate.compile("No placeholders here.");
+        assertTrue(template.isConstant());
+        assertSame(template.getSource(), template.render(new Object[]{"unused"}, Map.of()));
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:MultiReleaseTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class MultiReleaseTest {
+
+    @Test
+    void testImplementationMatchesRuntime() throws Exception {
+        Class<?> loaderThreads = Class.forName("com.izanagicraft.messages.translations.LoaderThreads");
+        Method isVirtual = loaderThreads.getDeclaredMethod("isVirtual");
+        isVirtual.setAccessible(true);
+
+        // The Java 21 class is only picked from the multi-release JAR on Java 21 and later
+        URL location = loaderThreads.getResource("LoaderThreads.class");
+        boolean versioned = location != null && location.toString().contains("/META-INF/versions/21/");
+        assertEquals(versioned, isVirtual.invoke(null));
+        if (versioned) assertTrue(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    void testLoadAsync() throws Exception {
+        Path directory = Files.createTempDirectory("message-format-async");
+        try {
+            String[] langNames = {"en", "de", "fr", "es", "it", "nl", "pl", "sv"};
+            for (String langName : langNames) {
+                Files.writeString(directory.resolve(langName + ".properties"), "greeting=Hello from " + langName + ", ${0}!\n");
+            }
+            Files.writeString(directory.resolve("en_platform.properties"), "greeting=ignored\n");
+
+            TranslationHandler handler = new TranslationHandler();
+            handler.loadAsync(directory).get(30, TimeUnit.SECONDS);
+
+            assertEquals(langNames.length, handler.getLanguageNames().size());
+            for (String langName : langNames) {
+                assertEquals("Hello from " + langName + ", Anna!", handler.translate(Locale.forLanguageTag(langName), "greeting", "Anna"));
+            }
+
+            // Unchanged files are skipped, changed ones are published
+            Files.writeString(directory.resolve("de.properties"), "greeting=Hallo, ${0}!\n");
+            handler.loadAsync(directory).get(30, TimeUnit.SECONDS);
+            assertEquals("Hallo, Anna!", handler.translate(Locale.GERMAN, "greeting", "Anna"));
+            assertEquals("Hello from fr, Anna!", handler.translate(Locale.FRENCH, "greeting", "Anna"));
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+}
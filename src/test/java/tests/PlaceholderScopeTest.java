@@ -0,0 +1,124 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:PlaceholderScopeTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class PlaceholderScopeTest {
+
+    @Test
+    void testSnapshotsAreImmutableAndVersioned() {
+        PlaceholderScope scope = new PlaceholderScope();
+        PlaceholderScope.Snapshot before = scope.snapshot();
+
+        scope.put("prefix", "[PREFIX]");
+        PlaceholderScope.Snapshot after = scope.snapshot();
+
+        // Published snapshots are never modified
+        assertTrue(before.getValues().isEmpty());
+        assertEquals(Map.of("prefix", "[PREFIX]"), after.getValues());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> after.getValues().put("x", "y"));
+    }
+
+    @Test
+    void testChildInheritsAndOverridesParent() {
+        PlaceholderScope parent = new PlaceholderScope();
+        parent.put("network", "IzanagiCraft");
+        parent.put("server", "unknown");
+
+        PlaceholderScope child = parent.createChild();
+        child.put("server", "Lobby-1");
+        assertEquals(Map.of("network", "IzanagiCraft", "server", "Lobby-1"), child.getReplacements());
+        assertEquals(Map.of("server", "Lobby-1"), child.getOwnReplacements());
+
+        // Parent changes are propagated to the child snapshot
+        parent.put("network", "Other");
+        assertEquals("Other", child.getReplacements().get("network"));
+        assertEquals("Lobby-1", child.getReplacements().get("server"));
+
+        child.remove("server");
+        assertEquals("unknown", child.getReplacements().get("server"));
+    }
+
+    @Test
+    void testSetAndClear() {
+        PlaceholderScope scope = new PlaceholderScope();
+        scope.set(Map.of("a", 1, "b", 2));
+        assertEquals(Map.of("a", 1, "b", 2), scope.getReplacements());
+
+        scope.clear();
+        assertTrue(scope.getReplacements().isEmpty());
+    }
+
+    @Test
+    void testHandlersDoNotShareReplacements() {
+        File testFile = new File("src/test/resources/lang.properties");
+        TranslationHandler first = new TranslationHandler(new PlaceholderScope());
+        TranslationHandler second = new TranslationHandler(new PlaceholderScope());
+
+        first.init(Map.of("prefix", "[FIRST]"), testFile);
+        second.init(Map.of("prefix", "[SECOND]"), testFile);
+
+        assertEquals("[FIRST] Hello, John!", first.translate("greeting", "John"));
+        assertEquals("[SECOND] Hello, John!", second.translate("greeting", "John"));
+    }
+
+}
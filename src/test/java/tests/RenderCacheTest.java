@@ -0,0 +1,188 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.RenderCache;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:RenderCacheTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class RenderCacheTest {
+
+    private static TranslationHandler handler(RenderCache cache, String join) {
+        Properties en = new Properties();
+        en.setProperty("player.join", join);
+        en.setProperty("player.quit", "${0} left");
+        TranslationHandler handler = new TranslationHandler(new PlaceholderScope());
+        handler.setTranslations(Map.of("en", en));
+        handler.setRenderCache(cache);
+        return handler;
+    }
+
+    @Test
+    void testHitsAndMissesPerKey() {
+        RenderCache cache = new RenderCache(100, Duration.ofMinutes(5));
+        cache.markCacheable("player.join");
+        TranslationHandler handler = handler(cache, "${0} joined ${server}");
+        handler.getPlaceholderScope().put("server", "lobby");
+
+        String first = handler.translate(Locale.ENGLISH, "player.join", "Steve");
+        String second = handler.translate(Locale.ENGLISH, "player.join", "Steve");
+        assertEquals("Steve joined lobby", first);
+        assertSame(first, second);
+        assertEquals("Alex joined lobby", handler.translate(Locale.ENGLISH, "player.join", "Alex"));
+        assertEquals("Steve left", handler.translate(Locale.ENGLISH, "player.quit", "Steve"));
+
+        RenderCache.Statistics stats = cache.getStatistics("player.join");
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1 / 3.0, cache.getHitRates().get("player.join"), 1e-9);
+        assertNull(cache.getStatistics("player.quit"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testArgumentsAreCompared() {
+        RenderCache cache = new RenderCache(100, Duration.ofMinutes(5));
+        cache.markCacheable("player.join");
+        TranslationHandler handler = handler(cache, "${0} joined");
+
+        Object[] args = {"Steve"};
+        assertEquals("Steve joined", handler.translate(Locale.ENGLISH, "player.join", args));
+        args[0] = "Alex";
+        assertEquals("Alex joined", handler.translate(Locale.ENGLISH, "player.join", args));
+        assertEquals("1 joined", handler.translate(Locale.ENGLISH, "player.join", 1));
+        assertEquals("1 joined", handler.translate(Locale.ENGLISH, "player.join", 1L));
+        assertEquals(0, cache.getStatistics("player.join").getHits());
+
+        // Mutable arguments are always rendered
+        StringBuilder name = new StringBuilder("Steve");
+        assertEquals("Steve joined", handler.translate(Locale.ENGLISH, "player.join", name));
+        name.append('2');
+        assertEquals("Steve2 joined", handler.translate(Locale.ENGLISH, "player.join", name));
+    }
+
+    @Test
+    void testInvalidation() {
+        RenderCache cache = new RenderCache(100, Duration.ofMinutes(5));
+        cache.markCacheable("player.join");
+        TranslationHandler handler = handler(cache, "${0} joined ${server}");
+        handler.getPlaceholderScope().put("server", "lobby");
+        assertEquals("Steve joined lobby", handler.translate(Locale.ENGLISH, "player.join", "Steve"));
+
+        handler.getPlaceholderScope().put("server", "survival");
+        assertEquals("Steve joined survival", handler.translate(Locale.ENGLISH, "player.join", "Steve"));
+
+        Properties en = new Properties();
+        en.setProperty("player.join", "Welcome ${0}");
+        handler.setTranslations(Map.of("en", en));
+        assertEquals(0, cache.size());
+        assertEquals("Welcome Steve", handler.translate(Locale.ENGLISH, "player.join", "Steve"));
+        assertEquals(0, cache.getStatistics("player.join").getHits());
+
+        cache.unmarkCacheable("player.join");
+        assertEquals(0, cache.size());
+        assertFalse(cache.isCacheable("player.join"));
+    }
+
+    @Test
+    void testFallbackSwitchInvalidates() {
+        RenderCache cache = new RenderCache(100, Duration.ofMinutes(5));
+        cache.markCacheable("player.join");
+        TranslationHandler handler = handler(cache, "${0} joined");
+        Properties de = new Properties();
+        de.setProperty("player.join", "${0} ist beigetreten");
+        Map<String, Properties> languages = new LinkedHashMap<>(handler.getTranslations());
+        languages.put("de", de);
+        handler.setTranslations(languages);
+        assertEquals("Steve joined", handler.translate("player.join", "Steve"));
+        assertEquals("Steve joined", handler.translate(Locale.FRENCH, "player.join", "Steve"));
+
+        handler.setFallbackLanguage("de");
+        assertEquals("Steve ist beigetreten", handler.translate("player.join", "Steve"));
+        assertEquals("Steve ist beigetreten", handler.translate(Locale.FRENCH, "player.join", "Steve"));
+    }
+
+    @Test
+    void testBoundedBySizeAndTtl() throws InterruptedException {
+        RenderCache cache = new RenderCache(16, Duration.ofMinutes(5));
+        cache.markCacheable("player.join");
+        TranslationHandler handler = handler(cache, "${0} joined");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + " joined", handler.translate(Locale.ENGLISH, "player.join", i));
+        }
+        assertTrue(cache.size() <= 16);
+
+        RenderCache shortLived = new RenderCache(16, Duration.ofMillis(20));
+        shortLived.markCacheable("player.join");
+        handler.setRenderCache(shortLived);
+        handler.translate(Locale.ENGLISH, "player.join", "Steve");
+        Thread.sleep(40);
+        handler.translate(Locale.ENGLISH, "player.join", "Steve");
+        assertEquals(0, shortLived.getStatistics("player.join").getHits());
+        assertEquals(2, shortLived.getStatistics("player.join").getMisses());
+
+        assertThrows(IllegalArgumentException.class, () -> new RenderCache(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new RenderCache(1, Duration.ZERO));
+    }
+
+}
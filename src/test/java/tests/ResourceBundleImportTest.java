@@ -0,0 +1,187 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.MessageFormatConverter;
+import com.izanagicraft.messages.translations.ResourceBundleImporter;
+import com.izanagicraft.messages.translations.TemplateBundle;
+import com.izanagicraft.messages.translations.TemplateBundleControl;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:ResourceBundleImportTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class ResourceBundleImportTest {
+
+    @Test
+    void testConvertPatterns() {
+        assertEquals("Hello, ${0}!", MessageFormatConverter.convert("Hello, {0}!"));
+        assertEquals("${1} before ${0}", MessageFormatConverter.convert("{1} before {0}"));
+        assertEquals("doesn't {quoted} it's", MessageFormatConverter.convert("doesn''t '{quoted}' it''s"));
+        assertEquals("'{0}'", MessageFormatConverter.convert("'''{0}'''"));
+        assertEquals("' ${0} '", MessageFormatConverter.convert("'' {0} ''"));
+        assertEquals("costs $${0}", MessageFormatConverter.convert("costs ${0}"));
+        assertEquals("closing } brace", MessageFormatConverter.convert("closing } brace"));
+
+        assertNull(MessageFormatConverter.convert("{0,number,integer}"));
+        assertNull(MessageFormatConverter.convert("{name}"));
+        assertNull(MessageFormatConverter.convert("unclosed {0"));
+        assertNull(MessageFormatConverter.convert("$'{'0'}'"));
+        assertFalse(MessageFormatConverter.isConvertible("{0,choice,0#none|1#one}"));
+    }
+
+    @Test
+    void testTemplateBundleMatchesMessageFormat() {
+        ResourceBundle bundle = TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, getClass().getClassLoader());
+        assertTrue(bundle instanceof TemplateBundle);
+
+        Date date = new Date(0);
+        Object[][] argSets = {{"John", 1234567.5}, {null, date}, {"Anna"}, {3, 42L, "x"}, {}};
+        for (String key : new String[]{"greeting", "shop.bought", "shop.quote", "shop.count", "shop.missing"}) {
+            for (Object[] args : argSets) {
+                if (key.equals("shop.count") && (args.length == 0 || !(args[0] instanceof Number))) continue;
+                assertEquals(MessageFormat.format(bundle.getString(key), args), TemplateBundle.format(bundle, key, args), key);
+            }
+        }
+
+        // The original patterns are still available to unchanged call sites
+        assertEquals("Hello, {0}!", bundle.getString("greeting"));
+        assertNotNull(((TemplateBundle) bundle).getTemplate("greeting"));
+        assertNull(((TemplateBundle) bundle).getTemplate("shop.count"));
+        assertThrows(MissingResourceException.class, () -> TemplateBundle.format(bundle, "missing"));
+    }
+
+    @Test
+    void testTemplateBundleParentChain() {
+        ResourceBundle bundle = TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.GERMAN, getClass().getClassLoader());
+
+        assertEquals(Locale.GERMAN, bundle.getLocale());
+        assertEquals("Hallo, Anna!", TemplateBundle.format(bundle, "greeting", "Anna"));
+        assertEquals("You bought Sword for x coins.", TemplateBundle.format(bundle, "shop.bought", "Sword", "x"));
+        assertTrue(bundle.keySet().contains("shop.quote"));
+    }
+
+    @Test
+    void testTemplateBundleIgnoresPlainCache() {
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle.Control noFallback = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+        ResourceBundle plain = ResourceBundle.getBundle("legacy.messages", Locale.ROOT, loader, noFallback);
+        assertFalse(plain instanceof TemplateBundle);
+
+        assertTrue(TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, loader) instanceof TemplateBundle);
+        assertSame(TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, loader),
+                TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, loader));
+
+        // Loading through ResourceBundle.getBundle does not leak template bundles to plain callers
+        assertTrue(ResourceBundle.getBundle("legacy.messages", Locale.ITALIAN, loader, TemplateBundleControl.INSTANCE) instanceof TemplateBundle);
+        assertFalse(ResourceBundle.getBundle("legacy.messages", Locale.ITALIAN, loader) instanceof TemplateBundle);
+
+        assertThrows(MissingResourceException.class, () -> TemplateBundleControl.INSTANCE.getBundle("legacy.none", Locale.ROOT, loader));
+    }
+
+    @Test
+    void testCacheIsPerClassLoader() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        ResourceBundle bundle = TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, loader);
+
+        URLClassLoader plugin = new URLClassLoader(new URL[0], loader);
+        ResourceBundle pluginBundle = TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, plugin);
+        assertNotSame(bundle, pluginBundle);
+
+        // Clearing a plugin's bundles keeps the bundles of other loaders
+        TemplateBundleControl.INSTANCE.clearCache(plugin);
+        assertSame(bundle, TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, loader));
+        assertNotSame(pluginBundle, TemplateBundleControl.INSTANCE.getBundle("legacy.messages", Locale.ROOT, plugin));
+
+        // The cache does not keep an unloaded plugin's class loader alive
+        WeakReference<ClassLoader> unloaded = new WeakReference<>(plugin);
+        plugin.close();
+        plugin = null;
+        pluginBundle = null;
+        for (int i = 0; i < 50 && unloaded.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(unloaded.get());
+    }
+
+    @Test
+    void testImportIntoHandler() {
+        ResourceBundleImporter importer = new ResourceBundleImporter();
+        Map<String, Properties> languages = importer.importBundles("legacy.messages", getClass().getClassLoader(),
+                Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH);
+
+        // There is no French bundle, the base bundle is not imported as French
+        assertEquals(Set.of("en", "de"), languages.keySet());
+        assertEquals(Set.of("shop.count"), importer.getSkippedKeys());
+
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(languages);
+        assertEquals("Hallo, Anna!", handler.translate(Locale.GERMAN, "greeting", "Anna"));
+        assertEquals("Player Anna doesn't own {items}", handler.translate(Locale.GERMAN, "shop.quote", "Anna"));
+        assertEquals("You bought Sword for 5 coins.", handler.translate(Locale.ENGLISH, "shop.bought", "Sword", "5"));
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.placeholders.TemplateCompiler;
+import com.izanagicraft.messages.translations.StartupSnapshot;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.UsageProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:StartupSnapshotTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class StartupSnapshotTest {
+
+    private static final File LANG_FILE = new File("src/test/resources/lang.properties");
+
+    private TranslationHandler handler;
+    private Path directory;
+
+    private static TranslationHandler newHandler() {
+        TranslationHandler handler = new TranslationHandler(new PlaceholderScope());
+        handler.getPlaceholderScope().put("prefix", "[PREFIX]");
+        return handler;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        handler = newHandler();
+        handler.init(LANG_FILE);
+        // Values longer than 64 KiB must survive the snapshot as well
+        handler.load("de", new ByteArrayInputStream(("greeting=Hallo, ${0}!\nlong=" + "x".repeat(70000)).getBytes()));
+        directory = Files.createTempDirectory("snapshot");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        TemplateCompiler.setThreshold(TemplateCompiler.DEFAULT_THRESHOLD);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StartupSnapshot.write(handler, bytes);
+
+        TranslationHandler restored = newHandler();
+        StartupSnapshot.read(restored, new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(handler.getLanguageNames(), restored.getLanguageNames());
+        assertEquals("lang", restored.getFallbackLanguage());
+        assertEquals("[PREFIX] Hello, John!", restored.translate("greeting", "John"));
+        assertEquals("Hallo, John!", restored.translate(Locale.GERMAN, "greeting", "John"));
+        assertEquals(70000, restored.translate(Locale.GERMAN, "long").length());
+        // Unchanged sources are skipped after a restore
+        assertNull(restored.getLoader().readIfChanged("lang", LANG_FILE.toPath()));
+    }
+
+    @Test
+    void testReadRejectsInvalidData() {
+        TranslationHandler restored = newHandler();
+        assertThrows(IOException.class, () -> StartupSnapshot.read(restored, new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})));
+        assertTrue(restored.getLanguageNames().isEmpty());
+    }
+
+    @Test
+    void testReadRejectsCorruptedLengths() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StartupSnapshot.write(handler, bytes);
+        byte[] valid = bytes.toByteArray();
+        TranslationHandler restored = newHandler();
+
+        // The fallback name follows the magic and the format version
+        for (int length : new int[]{Integer.MAX_VALUE, 1 << 20}) {
+            byte[] corrupted = valid.clone();
+            ByteBuffer.wrap(corrupted).putInt(8, length);
+            assertThrows(IOException.class, () -> StartupSnapshot.read(restored, new ByteArrayInputStream(corrupted)));
+        }
+        assertTrue(restored.getLanguageNames().isEmpty());
+    }
+
+    @Test
+    void testSaveAndRestoreWarmsUpHotKeys() throws IOException {
+        TemplateCompiler.setThreshold(10);
+        UsageProfile profile = new UsageProfile();
+        handler.setUsageProfile(profile);
+        for (int i = 0; i < 3; i++) {
+            handler.translate(Locale.GERMAN, "greeting", "John");
+        }
+        handler.translate("iterator", 1);
+        new StartupSnapshot(handler, directory).save();
+
+        TranslationHandler restored = newHandler();
+        StartupSnapshot snapshot = new StartupSnapshot(restored, directory);
+        assertTrue(snapshot.restore());
+
+        assertEquals(3, restored.getUsageProfile().getCount("de", "greeting"));
+        assertTrue(restored.getPlaceholderHandler().compile("Hallo, ${0}!").isCompiled());
+        assertTrue(restored.getPlaceholderHandler().compile("${prefix} Current Iteration Index ${0}.").isCompiled());
+    }
+
+    @Test
+    void testRestoreWithoutSnapshot() {
+        TranslationHandler restored = newHandler();
+        assertFalse(new StartupSnapshot(restored, directory).restore());
+        assertNotNull(restored.getUsageProfile());
+    }
+
+    @Test
+    void testAfterRestoreReloadsReplacedArchive() throws IOException {
+        TranslationHandler restored = newHandler();
+        StartupSnapshot snapshot = new StartupSnapshot(restored, directory);
+        snapshot.beforeCheckpoint();
+
+        // Another instance replaces the archive while this one is checkpointed
+        new StartupSnapshot(handler, directory).save();
+        Files.setLastModifiedTime(directory.resolve(StartupSnapshot.ARCHIVE_NAME), FileTime.fromMillis(0));
+        snapshot.afterRestore();
+
+        assertEquals(handler.getLanguageNames(), restored.getLanguageNames());
+    }
+
+    @Test
+    void testUsageProfileSaveAndLoad() throws IOException {
+        UsageProfile profile = new UsageProfile();
+        profile.record("de", "greeting");
+        profile.record("de", "greeting");
+        profile.record(null, "iterator");
+        profile.record("de", "multi\nline");
+        Path file = directory.resolve("usage.profile");
+        profile.save(file, 10);
+
+        UsageProfile loaded = UsageProfile.load(file);
+        List<UsageProfile.Usage> hottest = loaded.getHottest(1);
+
+        assertEquals(2, loaded.size());
+        assertEquals("greeting", hottest.get(0).getKey());
+        assertEquals(2, hottest.get(0).getCount());
+        assertEquals(1, loaded.getCount(null, "iterator"));
+    }
+
+    @Test
+    void testUsageProfileCapacity() {
+        UsageProfile profile = new UsageProfile(2);
+        profile.record("de", "a");
+        profile.record("de", "b");
+        profile.record("de", "c");
+        profile.record("de", "a");
+
+        assertEquals(2, profile.size());
+        assertEquals(0, profile.getCount("de", "c"));
+        assertEquals(2, profile.getCount("de", "a"));
+    }
+
+}
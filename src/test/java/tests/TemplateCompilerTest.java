@@ -0,0 +1,161 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.MessageTemplate;
+import com.izanagicraft.messages.placeholders.TemplateCompiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TemplateCompilerTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TemplateCompilerTest {
+
+    private static final Map<String, Object> DEFAULTS = Map.of("prefix", "[PREFIX]", "1", "default");
+
+    @BeforeEach
+    void setUp() {
+        TemplateCompiler.setThreshold(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TemplateCompiler.setThreshold(TemplateCompiler.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Render until the template is compiled, checking every render against the first one.
+     */
+    private static String renderHot(MessageTemplate template, Object... args) {
+        String expected = template.render(args, DEFAULTS);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, template.render(args, DEFAULTS));
+        }
+        assertTrue(template.isCompiled());
+        return template.render(args, DEFAULTS);
+    }
+
+    @Test
+    void testHotTemplateIsCompiled() {
+        MessageTemplate template = MessageTemplate.compile("${prefix} Hello, ${0}!");
+        long generated = TemplateCompiler.getGeneratedCount();
+
+        template.render(new Object[]{"John"}, DEFAULTS);
+        assertFalse(template.isCompiled());
+
+        assertEquals("[PREFIX] Hello, John!", renderHot(template, "John"));
+        assertEquals(generated + 1, TemplateCompiler.getGeneratedCount());
+    }
+
+    @Test
+    void testCompiledTemplateUsesDefaultsForMissingArguments() {
+        MessageTemplate template = MessageTemplate.compile("${0} and ${1}");
+
+        assertEquals("a and default", renderHot(template, "a"));
+        assertEquals("a and b", template.render(new Object[]{"a", "b"}, DEFAULTS));
+        assertEquals("null and x", template.render(Map.of("1", "x")));
+    }
+
+    @Test
+    void testCompiledTemplateWithUnicodeAndLargeIndices() {
+        MessageTemplate template = MessageTemplate.compile("Tschüss ${200} ✔ ${40000}");
+        Object[] args = new Object[40001];
+        args[200] = "a";
+        args[40000] = "b";
+
+        assertEquals("Tschüss a ✔ b", renderHot(template, args));
+    }
+
+    @Test
+    void testCompiledTemplateWithManyConstants() {
+        StringBuilder format = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            format.append("literal").append(i).append(" ${name").append(i).append("} ");
+            expected.append("literal").append(i).append(" value").append(i).append(' ');
+            values.put("name" + i, "value" + i);
+        }
+        MessageTemplate template = MessageTemplate.compile(format.toString());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected.toString(), template.render(values));
+        }
+        assertTrue(template.isCompiled());
+    }
+
+    @Test
+    void testConstantTemplatesAreNotCompiled() {
+        MessageTemplate template = MessageTemplate.compile("No placeholders here.");
+        for (int i = 0; i < 5; i++) {
+            template.render(DEFAULTS);
+        }
+        assertFalse(template.isCompiled());
+    }
+
+    @Test
+    void testDisabledCompilation() {
+        TemplateCompiler.setThreshold(0);
+        MessageTemplate template = MessageTemplate.compile("${0}");
+        for (int i = 0; i < 5; i++) {
+            template.render(new Object[]{i}, DEFAULTS);
+        }
+        assertFalse(template.isCompiled());
+        assertThrows(IllegalArgumentException.class, () -> TemplateCompiler.setThreshold(-1));
+    }
+
+}
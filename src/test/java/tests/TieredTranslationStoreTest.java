@@ -0,0 +1,200 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.translations.TieredTranslationStore;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TieredTranslationStoreTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TieredTranslationStoreTest {
+
+    private static Properties createProperties(String greeting) {
+        Properties properties = new Properties();
+        properties.setProperty("greeting", greeting);
+        properties.setProperty("gui.shop.title", "Shop");
+        properties.setProperty("gui.shop.buy", "Buy ${0}");
+        properties.setProperty("quest.start", "Quest ${0} started");
+        return properties;
+    }
+
+    @Test
+    void testColdLookup() {
+        TieredTranslationStore store = new TieredTranslationStore(1, 100);
+        store.put("de", createProperties("Hallo, ${0}!"));
+
+        assertTrue(store.contains("de"));
+        assertFalse(store.isHot("de"));
+        assertEquals(4, store.getKeyCount("de"));
+        assertTrue(store.getCompressedSize("de") > 0);
+
+        assertEquals("Buy 3", store.get("de", "gui.shop.buy").render(new Object[]{3}, Map.of()));
+        assertEquals("Hallo, Anna!", store.get("de", "greeting").render(new Object[]{"Anna"}, Map.of()));
+        assertNull(store.get("de", "gui.missing"));
+        assertNull(store.get("fr", "greeting"));
+    }
+
+    @Test
+    void testPromotionByAccessFrequency() {
+        TieredTranslationStore store = new TieredTranslationStore(1, 3);
+        store.put("de", createProperties("Hallo"));
+        store.put("fr", createProperties("Bonjour"));
+
+        for (int i = 0; i < 3; i++) {
+            store.get("de", "greeting");
+        }
+        assertTrue(store.isHot("de"));
+
+        // The hot tier is full, a less frequently used language is not promoted
+        store.get("fr", "greeting");
+        store.get("fr", "greeting");
+        store.get("fr", "greeting");
+        assertFalse(store.isHot("fr"));
+
+        // Once "fr" is used more often it displaces "de"
+        store.get("fr", "greeting");
+        assertTrue(store.isHot("fr"));
+        assertFalse(store.isHot("de"));
+    }
+
+    @Test
+    void testFailedPromotionsAreNotRetriedOnEveryLookup() throws Exception {
+        TieredTranslationStore store = new TieredTranslationStore(1, 2);
+        store.put("de", createProperties("Hallo"));
+        store.put("fr", createProperties("Bonjour"));
+        for (int i = 0; i < 10; i++) {
+            store.get("de", "greeting");
+        }
+        store.get("fr", "greeting");
+        store.get("fr", "greeting");
+        assertFalse(store.isHot("fr"));
+
+        // Lookups in cached blocks of the cold language do not wait for the store's lock
+        Thread lookup = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                store.get("fr", "greeting");
+            }
+        });
+        synchronized (store) {
+            lookup.start();
+            lookup.join(5000);
+            assertFalse(lookup.isAlive());
+        }
+        assertFalse(store.isHot("fr"));
+
+        // Used more often than the hot language, it is tried again and displaces it
+        for (int i = 0; i < 4; i++) {
+            store.get("fr", "greeting");
+        }
+        assertTrue(store.isHot("fr"));
+        assertFalse(store.isHot("de"));
+    }
+
+    @Test
+    void testRebalanceDemotesIdleLanguages() {
+        TieredTranslationStore store = new TieredTranslationStore(2, 4);
+        store.put("de", createProperties("Hallo"));
+        for (int i = 0; i < 4; i++) {
+            store.get("de", "greeting");
+        }
+        assertTrue(store.isHot("de"));
+
+        // Without further accesses the decayed count drops below the threshold
+        store.rebalance();
+        store.rebalance();
+        store.rebalance();
+        assertFalse(store.isHot("de"));
+        assertEquals("Hallo", store.get("de", "greeting").getSource());
+    }
+
+    @Test
+    void testPinnedLanguagesStayHot() {
+        TieredTranslationStore store = new TieredTranslationStore(0, 1);
+        store.put("en", createProperties("Hello"));
+        store.setPinned("en", true);
+        assertTrue(store.isHot("en"));
+
+        store.rebalance();
+        assertTrue(store.isHot("en"));
+    }
+
+    @Test
+    void testToProperties() {
+        TieredTranslationStore store = new TieredTranslationStore(1, 100);
+        store.put("de", createProperties("Hallo"));
+        assertEquals(createProperties("Hallo"), store.toProperties("de"));
+    }
+
+    @Test
+    void testTranslationHandlerWithTieredStore() {
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTieredStore(new TieredTranslationStore(1, 100));
+        handler.init(Map.of("prefix", "[PREFIX]"), new File("src/test/resources/lang.properties"));
+
+        // The fallback language stays resident, the store still resolves it by name
+        assertNotNull(handler.getFallback());
+        assertEquals("[PREFIX] Hello, John!", handler.translate(Locale.US, "greeting", "John"));
+
+        Properties german = createProperties("${prefix} Hallo, ${0}!");
+        handler.getTieredStore().put("de", german);
+        assertEquals("[PREFIX] Hallo, Anna!", handler.translate(Locale.GERMAN, "greeting", "Anna"));
+        assertEquals("missing.key", handler.translate(Locale.GERMAN, "missing.key"));
+    }
+
+}
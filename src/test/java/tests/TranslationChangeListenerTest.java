@@ -0,0 +1,176 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationDelta;
+import com.izanagicraft.messages.translations.TranslationChangeListener;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationChangeListenerTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationChangeListenerTest {
+
+    private TranslationHandler handler;
+    private List<TranslationDelta> deltas;
+
+    private static ByteBuffer source(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        handler = new TranslationHandler(new PlaceholderScope());
+        handler.load("en", source("greeting=Hello\nfarewell=Bye\nshop.title=Shop\n"));
+
+        deltas = new ArrayList<>();
+        handler.addChangeListener(deltas::addAll);
+    }
+
+    @Test
+    void testReloadPublishesKeyDelta() {
+        handler.load("en", source("greeting=Hello!\nshop.title=Shop\nshop.buy=Buy\n"));
+
+        assertEquals(1, deltas.size());
+        TranslationDelta delta = deltas.get(0);
+        assertEquals("en", delta.getLangName());
+        assertEquals(Set.of("shop.buy"), delta.getAdded());
+        assertEquals(Set.of("farewell"), delta.getRemoved());
+        assertEquals(Set.of("greeting"), delta.getChanged());
+        assertTrue(delta.affects("greeting"));
+        assertFalse(delta.affects("shop.title"));
+    }
+
+    @Test
+    void testUnchangedReloadPublishesNothing() {
+        handler.load("en", source("greeting=Hello\nfarewell=Bye\nshop.title=Shop\n"));
+        Properties same = new Properties();
+        same.putAll(handler.getTranslations().get("en"));
+        handler.setTranslations(Map.of("en", same));
+
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    void testLanguagesAddedAndRemoved() {
+        handler.load("de", source("greeting=Hallo\n"));
+        assertTrue(deltas.get(0).isLanguageAdded());
+        assertEquals(Set.of("greeting"), deltas.get(0).getAdded());
+
+        deltas.clear();
+        handler.setTranslations(Map.of("de", handler.getTranslations().get("de")));
+        assertEquals(1, deltas.size());
+        assertTrue(deltas.get(0).isLanguageRemoved());
+        assertEquals("en", deltas.get(0).getLangName());
+        assertEquals(Set.of("greeting", "farewell", "shop.title"), deltas.get(0).getRemoved());
+    }
+
+    @Test
+    void testListenersRunOutsideTheHandlerLock() throws Exception {
+        BlockingQueue<Set<String>> languages = new LinkedBlockingQueue<>();
+        // Needs the handler lock on another thread, which deadlocked while listeners ran under it
+        handler.addChangeListener(published -> languages.add(CompletableFuture
+                .supplyAsync(() -> Set.copyOf(handler.getTranslations().keySet()))
+                .join()));
+
+        handler.load("de", source("greeting=Hallo\n"));
+        assertEquals(Set.of("en", "de"), languages.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testDeltasPublishedUnderTheLockAreDeliveredLater() throws InterruptedException {
+        BlockingQueue<Thread> threads = new LinkedBlockingQueue<>();
+        handler.addChangeListener(published -> threads.add(Thread.currentThread()));
+
+        synchronized (handler) {
+            handler.load("de", source("greeting=Hallo\n"));
+        }
+        Thread thread = threads.poll(5, TimeUnit.SECONDS);
+        assertNotNull(thread);
+        assertNotSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    void testFailingListenersAreReported() throws InterruptedException {
+        BlockingQueue<Throwable> failures = new LinkedBlockingQueue<>();
+        handler.setReporter(new TranslationReporter() {
+            @Override
+            public void listenerFailed(TranslationChangeListener listener, Throwable error) {
+                failures.add(error);
+            }
+        });
+        handler.addChangeListener(published -> {
+            throw new IllegalStateException("broken");
+        });
+
+        handler.load("de", source("greeting=Hallo\n"));
+        assertEquals(1, deltas.size());
+        assertEquals("broken", failures.poll(5, TimeUnit.SECONDS).getMessage());
+    }
+
+}
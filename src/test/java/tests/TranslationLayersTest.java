@@ -0,0 +1,166 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationLayers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationLayersTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationLayersTest {
+
+    private TranslationHandler handler;
+    private TranslationLayers layers;
+
+    private static Properties properties(String... entries) {
+        Properties properties = new Properties();
+        for (int i = 0; i < entries.length; i += 2) {
+            properties.setProperty(entries[i], entries[i + 1]);
+        }
+        return properties;
+    }
+
+    @BeforeEach
+    void setUp() {
+        handler = new TranslationHandler(new PlaceholderScope());
+        handler.getPlaceholderScope().put("prefix", "[PREFIX]");
+        layers = new TranslationLayers(handler);
+        layers.addLayer("base", new File("src/test/resources/lang.properties"));
+    }
+
+    @Test
+    void testBaseLayer() {
+        assertEquals(List.of("base"), layers.getLayerNames());
+        assertEquals("[PREFIX] Hello, John!", handler.translate("greeting", "John"));
+    }
+
+    @Test
+    void testHigherLayersOverrideLowerLayers() {
+        layers.addLayer("server", Map.of("lang", properties("greeting", "Welcome to the lobby, ${0}!")));
+        layers.addLayer("event", Map.of("lang", properties("greeting", "Happy Halloween, ${0}!")));
+
+        assertEquals("Happy Halloween, John!", handler.translate(Locale.forLanguageTag("lang"), "greeting", "John"));
+        assertEquals("event", layers.getSourceLayer("lang", "greeting"));
+        // Keys not overridden still resolve from the base layer
+        assertEquals("[PREFIX] Current Iteration Index 1.", handler.translate("iterator", 1));
+
+        layers.removeLayer("event");
+        assertEquals("Welcome to the lobby, John!", handler.translate("greeting", "John"));
+        assertEquals("server", layers.getSourceLayer("lang", "greeting"));
+    }
+
+    @Test
+    void testReplaceLayerKeepsPosition() {
+        layers.addLayer("server", Map.of("lang", properties("greeting", "Server ${0}")));
+        layers.addLayer("event", Map.of("lang", properties("iterator", "Event ${0}")));
+        layers.addLayer("server", Map.of("lang", properties("greeting", "Replaced ${0}")));
+
+        assertEquals(List.of("base", "server", "event"), layers.getLayerNames());
+        assertEquals("Replaced John", handler.translate("greeting", "John"));
+        assertEquals("Event 2", handler.translate("iterator", 2));
+    }
+
+    @Test
+    void testLanguagesOnlyInUpperLayers() {
+        layers.addLayer("network", Map.of("de", properties("greeting", "Hallo, ${0}!")));
+        assertTrue(handler.getTranslations().containsKey("de"));
+        assertEquals("Hallo, Anna!", handler.translate(Locale.GERMAN, "greeting", "Anna"));
+
+        layers.removeLayer("network");
+        assertFalse(handler.getTranslations().containsKey("de"));
+        assertEquals("[PREFIX] Hello, Anna!", handler.translate(Locale.GERMAN, "greeting", "Anna"));
+    }
+
+    @Test
+    void testFirstLoadedLanguageIsFallback() {
+        TranslationHandler ordered = new TranslationHandler(new PlaceholderScope());
+        TranslationLayers orderedLayers = new TranslationLayers(ordered);
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        for (String langName : new String[]{"xz", "xm", "xa", "xq"}) {
+            languages.put(langName, properties("greeting", "Hello from " + langName));
+        }
+
+        orderedLayers.addLayer("base", languages);
+        assertEquals("xz", ordered.getFallbackLanguage());
+        assertEquals("Hello from xz", ordered.translate("greeting"));
+
+        // Flattening again after a change keeps the order
+        orderedLayers.addLayer("event", Map.of("xa", properties("greeting", "Event")));
+        assertEquals("xz", ordered.getFallbackLanguage());
+    }
+
+    @Test
+    void testListenersMayUseTheLayersFromOtherThreads() throws InterruptedException {
+        BlockingQueue<List<String>> names = new LinkedBlockingQueue<>();
+        handler.addChangeListener(deltas -> names.add(CompletableFuture.supplyAsync(layers::getLayerNames).join()));
+
+        layers.addLayer("event", Map.of("lang", properties("greeting", "Event ${0}")));
+        assertEquals(List.of("base", "event"), names.poll(5, TimeUnit.SECONDS));
+        assertEquals("Event John", handler.translate("greeting", "John"));
+    }
+
+}
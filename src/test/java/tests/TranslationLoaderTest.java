@@ -0,0 +1,175 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationLoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationLoaderTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationLoaderTest {
+
+    private static final byte[] ENGLISH = "greeting='Hello, ${0}!'\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    @Test
+    void testLanguageName() {
+        assertEquals("en_US", TranslationLoader.languageName("en_US.properties"));
+        assertNull(TranslationLoader.languageName("platform_en.properties"));
+        assertNull(TranslationLoader.languageName("README"));
+    }
+
+    @Test
+    void testReadStreamStripsQuotes() throws IOException {
+        Properties properties = new TranslationLoader().read(new ByteArrayInputStream(ENGLISH));
+        assertEquals("Hello, ${0}!", properties.getProperty("greeting"));
+    }
+
+    @Test
+    void testReadHeapAndDirectBuffers() throws IOException {
+        TranslationLoader loader = new TranslationLoader();
+        ByteBuffer direct = ByteBuffer.allocateDirect(ENGLISH.length).put(ENGLISH).flip();
+
+        assertEquals("Hello, ${0}!", loader.read(ByteBuffer.wrap(ENGLISH)).getProperty("greeting"));
+        assertEquals("Hello, ${0}!", loader.read(direct).getProperty("greeting"));
+        // The buffer position is not changed
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void testReadIfChangedSkipsUnchangedContent() throws IOException {
+        TranslationLoader loader = new TranslationLoader();
+        assertNotNull(loader.readIfChanged("en", ByteBuffer.wrap(ENGLISH)));
+        assertNull(loader.readIfChanged("en", new ByteArrayInputStream(ENGLISH)));
+
+        byte[] changed = "greeting=Hi!".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals("Hi!", loader.readIfChanged("en", ByteBuffer.wrap(changed)).getProperty("greeting"));
+
+        loader.forget("en");
+        assertNotNull(loader.readIfChanged("en", ByteBuffer.wrap(changed)));
+    }
+
+    @Test
+    void testReadResources() throws IOException {
+        Map<String, Properties> languages = new TranslationLoader().readResources(getClass().getClassLoader(), "translations/de.properties");
+        assertEquals("Tschüss!", languages.get("de").getProperty("farewell"));
+
+        assertThrows(IOException.class, () -> new TranslationLoader().readResources(getClass().getClassLoader(), "translations/missing.properties"));
+    }
+
+    @Test
+    void testReadArchiveWithoutExtraction() throws IOException {
+        Path archive = Files.createTempFile("translations", ".jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.putNextEntry(new ZipEntry("lang/en.properties"));
+                zip.write(ENGLISH);
+                zip.closeEntry();
+                zip.putNextEntry(new ZipEntry("lang/platform.properties"));
+                zip.write(ENGLISH);
+                zip.closeEntry();
+            }
+
+            Map<String, Properties> languages = new TranslationLoader().readArchive(archive, "/lang");
+            assertEquals(1, languages.size());
+            assertEquals("Hello, ${0}!", languages.get("en").getProperty("greeting"));
+        } finally {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    @Test
+    void testHandlerLoadsFromSources() {
+        TranslationHandler handler = new TranslationHandler();
+        handler.load("en", ByteBuffer.wrap(ENGLISH));
+        handler.loadResources(getClass().getClassLoader(), "translations/de.properties");
+
+        assertTrue(handler.hasLanguage("en"));
+        assertEquals("Hello, John!", handler.translate(Locale.ENGLISH, "greeting", "John"));
+        assertEquals("Hallo!", handler.translate(Locale.GERMAN, "greeting"));
+    }
+
+    @Test
+    void testReplacedLanguagesAreReadAgain() throws IOException {
+        TranslationHandler handler = new TranslationHandler();
+        handler.load("en", ByteBuffer.wrap(ENGLISH));
+
+        Properties replaced = new Properties();
+        replaced.setProperty("greeting", "Replaced");
+        handler.setTranslations(Map.of("en", replaced));
+        assertEquals("Replaced", handler.translate(Locale.ENGLISH, "greeting"));
+
+        // The unchanged source is loaded again, as it no longer matches the language
+        handler.load("en", ByteBuffer.wrap(ENGLISH));
+        assertEquals("Hello, John!", handler.translate(Locale.ENGLISH, "greeting", "John"));
+
+        // Setting the loaded languages again keeps skipping unchanged sources
+        handler.setTranslations(new LinkedHashMap<>(handler.getTranslations()));
+        assertNull(handler.getLoader().readIfChanged("en", ByteBuffer.wrap(ENGLISH)));
+    }
+
+}
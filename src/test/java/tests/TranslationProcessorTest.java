@@ -0,0 +1,215 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationProcessor;
+import com.izanagicraft.messages.translations.TranslationRequest;
+import com.izanagicraft.messages.translations.TranslationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationProcessorTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationProcessorTest {
+
+    private TranslationHandler handler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TranslationHandler(new PlaceholderScope());
+        handler.getPlaceholderScope().put("prefix", "[PREFIX]");
+        handler.init(new File("src/test/resources/lang.properties"));
+        Properties german = new Properties();
+        german.setProperty("greeting", "Hallo, ${0}!");
+        handler.setTranslations(Map.of("lang", handler.getLanguage("lang"), "de", german));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A subscriber collecting results, requesting only when told to.
+     */
+    private static final class Collector implements Flow.Subscriber<TranslationResult> {
+
+        private final List<String> texts = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TranslationResult item) {
+            texts.add(item.getText());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void awaitSize(int size) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (texts.size() < size && System.currentTimeMillis() < deadline) Thread.sleep(5);
+            assertEquals(size, texts.size());
+        }
+    }
+
+    @Test
+    void testTranslatesInRequestOrder() throws InterruptedException {
+        TranslationProcessor processor = new TranslationProcessor(handler, executor, 4, 16);
+        Collector collector = new Collector();
+        processor.subscribe(collector);
+        collector.subscription.request(Long.MAX_VALUE);
+
+        try (SubmissionPublisher<TranslationRequest> publisher = new SubmissionPublisher<>(executor, 16)) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 10; i++) {
+                publisher.submit(TranslationRequest.of(i % 2 == 0 ? Locale.GERMAN : null, "greeting", "#" + i));
+            }
+        }
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertNull(collector.error);
+        assertEquals(10, collector.texts.size());
+        for (int i = 0; i < 10; i++) {
+            String expected = i % 2 == 0 ? "Hallo, #" + i + "!" : "[PREFIX] Hello, #" + i + "!";
+            assertEquals(expected, collector.texts.get(i));
+        }
+    }
+
+    @Test
+    void testRendersOnlyRequestedResults() throws InterruptedException {
+        TranslationProcessor processor = new TranslationProcessor(handler, executor, 4, 8);
+        Collector collector = new Collector();
+        processor.subscribe(collector);
+
+        SubmissionPublisher<TranslationRequest> publisher = new SubmissionPublisher<>(executor, 32);
+        publisher.subscribe(processor);
+        for (int i = 0; i < 20; i++) {
+            publisher.submit(TranslationRequest.of(Locale.GERMAN, "greeting", i));
+        }
+
+        collector.subscription.request(3);
+        collector.awaitSize(3);
+        Thread.sleep(50);
+        assertEquals(3, collector.texts.size());
+        // The processor never holds more than its buffer size
+        assertTrue(processor.getQueuedCount() <= 8);
+
+        collector.subscription.request(17);
+        collector.awaitSize(20);
+        publisher.close();
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("Hallo, 19!", collector.texts.get(19));
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() {
+        TranslationProcessor processor = new TranslationProcessor(handler, executor, 4, 8);
+        processor.subscribe(new Collector());
+        Collector second = new Collector();
+        processor.subscribe(second);
+
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void testUpstreamErrorIsForwarded() throws InterruptedException {
+        TranslationProcessor processor = new TranslationProcessor(handler, executor, 4, 8);
+        Collector collector = new Collector();
+        processor.subscribe(collector);
+        collector.subscription.request(1);
+
+        try (SubmissionPublisher<TranslationRequest> publisher = new SubmissionPublisher<>(executor, 8)) {
+            publisher.subscribe(processor);
+            publisher.submit(TranslationRequest.of(Locale.GERMAN, "greeting", "John"));
+            collector.awaitSize(1);
+            publisher.closeExceptionally(new IllegalStateException("source failed"));
+        }
+
+        assertTrue(collector.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("source failed", collector.error.getMessage());
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package tests;
+
+import com.izanagicraft.messages.translations.StartupSnapshot;
+import com.izanagicraft.messages.translations.TieredTranslationStore;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationReporter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationReporterTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationReporterTest {
+
+    /**
+     * Collects the reports as strings.
+     */
+    private static final class Recorder implements TranslationReporter {
+
+        private final BlockingQueue<String> reports = new LinkedBlockingQueue<>();
+
+        @Override
+        public void missingKey(String langName, String key) {
+            reports.add("missing " + langName + " " + key);
+        }
+
+        @Override
+        public void loadFailed(String source, Throwable error) {
+            reports.add("failed " + source);
+        }
+
+        String next() throws InterruptedException {
+            return reports.poll(5, TimeUnit.SECONDS);
+        }
+
+        String none() throws InterruptedException {
+            return reports.poll(100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static TranslationHandler handler(Recorder recorder) {
+        Properties en = new Properties();
+        en.setProperty("greeting", "Hello");
+        Properties de = new Properties();
+        de.setProperty("greeting", "Hallo");
+        Map<String, Properties> languages = new LinkedHashMap<>();
+        languages.put("en", en);
+        languages.put("de", de);
+        TranslationHandler handler = new TranslationHandler();
+        handler.setTranslations(languages);
+        handler.setFallbackLanguage("en");
+        handler.setReporter(recorder);
+        return handler;
+    }
+
+    @Test
+    void testMissingKeysAreReportedOnce() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        TranslationHandler handler = handler(recorder);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("quest.unknown", handler.translate(Locale.GERMAN, "quest.unknown"));
+        }
+        assertEquals("missing de quest.unknown", recorder.next());
+        assertEquals("quest.unknown", handler.translate("quest.unknown"));
+        assertEquals("missing null quest.unknown", recorder.next());
+        assertEquals("Hallo", handler.translate(Locale.GERMAN, "greeting"));
+        assertNull(recorder.none());
+
+        // Keys still missing after a reload are reported again
+        handler.setTranslations(new LinkedHashMap<>(handler.getTranslations()));
+        handler.translate(Locale.GERMAN, "quest.unknown");
+        assertEquals("missing de quest.unknown", recorder.next());
+        assertEquals(0, handler.getDroppedReports());
+    }
+
+    @Test
+    void testMissingKeysInTieredStore() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        TranslationHandler handler = handler(recorder);
+        handler.setTieredStore(new TieredTranslationStore(1, Integer.MAX_VALUE));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("greeting.unknown", handler.translate(Locale.GERMAN, "greeting.unknown"));
+            assertEquals("Hallo", handler.translate(Locale.GERMAN, "greeting"));
+        }
+        assertEquals("missing de greeting.unknown", recorder.next());
+        assertNull(recorder.none());
+    }
+
+    @Test
+    void testLoadFailures() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        TranslationHandler handler = handler(recorder);
+        Path missing = Path.of("does-not-exist", "fr.properties");
+
+        handler.load(missing);
+        handler.load(missing);
+        assertEquals("failed " + missing, recorder.next());
+        assertNull(recorder.none());
+        assertFalse(handler.hasLanguage("fr"));
+    }
+
+    @Test
+    void testSnapshotFailures() throws Exception {
+        Recorder recorder = new Recorder();
+        TranslationHandler handler = handler(recorder);
+        Path directory = Files.createTempDirectory("snapshot");
+        Path archive = directory.resolve(StartupSnapshot.ARCHIVE_NAME);
+        Files.writeString(archive, "not a snapshot", StandardCharsets.UTF_8);
+
+        assertFalse(new StartupSnapshot(handler, directory, 16).restore());
+        assertEquals("failed " + archive, recorder.next());
+        assertEquals("Hallo", handler.translate(Locale.GERMAN, "greeting"));
+    }
+
+    @Test
+    void testRateLimit() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        TranslationHandler handler = handler(recorder);
+
+        for (int i = 0; i < 1000; i++) {
+            handler.translate(Locale.GERMAN, "unknown." + i);
+        }
+        int delivered = 0;
+        while (recorder.none() != null) delivered++;
+
+        assertTrue(delivered > 0 && delivered < 100, "delivered " + delivered);
+        assertEquals(1000 - delivered, handler.getDroppedReports());
+
+        handler.setReporter(null);
+        assertSame(TranslationReporter.DEFAULT, handler.getReporter());
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * ▪  ·▄▄▄▄• ▄▄▄·  ▐ ▄  ▄▄▄·  ▄▄ • ▪   ▄▄· ▄▄▄   ▄▄▄· ·▄▄▄▄▄▄▄▄
+ * ██ ▪▀·.█▌▐█ ▀█ •█▌▐█▐█ ▀█ ▐█ ▀ ▪██ ▐█ ▌▪▀▄ █·▐█ ▀█ ▐▄▄·•██
+ * ▐█·▄█▀▀▀•▄█▀▀█ ▐█▐▐▌▄█▀▀█ ▄█ ▀█▄▐█·██ ▄▄▐▀▀▄ ▄█▀▀█ ██▪  ▐█.▪
+ * ▐█▌█▌▪▄█▀▐█ ▪▐▌██▐█▌▐█ ▪▐▌▐█▄▪▐█▐█▌▐███▌▐█•█▌▐█ ▪▐▌██▌. ▐█▌·
+ * ▀▀▀·▀▀▀ • ▀  ▀ ▀▀ █▪ ▀  ▀ ·▀▀▀▀ ▀▀▀·▀▀▀ .▀  ▀ ▀  ▀ ▀▀▀  ▀▀▀
+ *
+ *
+ *    @@@@@
+ *    @@* *@@
+ *      @@@  @@@
+ *         @@@  @@ @@@       @@@@@@@@@@@
+ *           @@@@@@@@   @@@@@@@@@@@@@@@@@@@@@
+ *            @@@    @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *               #@@@   @@                 @@  @@@@  @@@@
+ *                @@@@      @@@      @@@@      @@@@   @@@
+ *                @@@@@@                     @@@@@@    @@
+ *                 @@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                  @@@@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                   @@@@@@@@@@@@@@@@@@@@@@@@@@@
+ *                     @@@@@@@@@@@@@@@@@@@@@@@
+ *                       @@@@@@@@@@@@@@@@@@@
+ *                           @@@@@@@@@@@
+ *
+ * Copyright (c) 2023 - present | sanguine6660 <sanguine6660@gmail.com>
+ * Copyright (c) 2023 - present | izanagicraft.com <contact@izanagicraft.com>
+ * Copyright (c) 2023 - present | izanagicraft.com team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package tests;
+
+import com.izanagicraft.messages.placeholders.PlaceholderScope;
+import com.izanagicraft.messages.sync.LoopbackTransport;
+import com.izanagicraft.messages.sync.SyncTransport;
+import com.izanagicraft.messages.sync.TranslationSync;
+import com.izanagicraft.messages.sync.TranslationUpdate;
+import com.izanagicraft.messages.translations.TranslationChangeListener;
+import com.izanagicraft.messages.translations.TranslationHandler;
+import com.izanagicraft.messages.translations.TranslationReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * message-format; tests:TranslationSyncTest
+ *
+ * @author <a href="https://github.com/sanguine6660">@sanguine6660</a>
+ * @since 19.10.2026
+ */
+public class TranslationSyncTest {
+
+    private TranslationHandler origin;
+
+    private static ByteBuffer source(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        origin = new TranslationHandler(new PlaceholderScope());
+        origin.load("en", source("greeting=Hello, ${0}!\nfarewell=Bye\n"));
+    }
+
+    @Test
+    void testReplicaReceivesSnapshotAndDeltas() {
+        LoopbackTransport transport = new LoopbackTransport();
+        new TranslationSync(origin, transport).startPublishing();
+
+        TranslationHandler replica = new TranslationHandler(new PlaceholderScope());
+        TranslationSync replicaSync = new TranslationSync(replica, transport);
+        replicaSync.startReplica();
+        assertEquals("Hello, John!", replica.translate(Locale.ENGLISH, "greeting", "John"));
+
+        origin.load("en", source("greeting=Hi, ${0}!\n"));
+        origin.load("de", source("greeting=Hallo, ${0}!\n"));
+
+        assertEquals(3, replicaSync.getVersion());
+        assertEquals("Hi, John!", replica.translate(Locale.ENGLISH, "greeting", "John"));
+        assertEquals("farewell", replica.translate(Locale.ENGLISH, "farewell"));
+        assertEquals("Hallo, Anna!", replica.translate(Locale.GERMAN, "greeting", "Anna"));
+    }
+
+    @Test
+    void testCatchUpOnlyFetchesMissingDeltas() {
+        LoopbackTransport transport = new LoopbackTransport();
+        new TranslationSync(origin, transport).startPublishing();
+        origin.load("en", source("greeting=Hi\nfarewell=Bye\n"));
+
+        List<TranslationUpdate> updates = transport.fetchSince(1);
+        assertEquals(1, updates.size());
+        assertFalse(updates.get(0).isSnapshot());
+        assertEquals(Map.of("en", Map.of("greeting", "Hi")), updates.get(0).getValues());
+    }
+
+    @Test
+    void testTruncatedHistoryFallsBackToSnapshot() {
+        LoopbackTransport transport = new LoopbackTransport(1);
+        new TranslationSync(origin, transport).startPublishing();
+        origin.load("en", source("greeting=One\n"));
+        origin.load("en", source("greeting=Two\n"));
+        origin.load("en", source("greeting=Three\n"));
+
+        List<TranslationUpdate> updates = transport.fetchSince(1);
+        assertTrue(updates.get(0).isSnapshot());
+        assertEquals("Two", updates.get(0).getValues().get("en").get("greeting"));
+
+        TranslationHandler replica = new TranslationHandler(new PlaceholderScope());
+        TranslationSync replicaSync = new TranslationSync(replica, transport);
+        replicaSync.startReplica();
+        assertEquals(4, replicaSync.getVersion());
+        assertEquals("Three", replica.translate(Locale.ENGLISH, "greeting"));
+    }
+
+    @Test
+    void testUpdateSerialization() {
+        TranslationUpdate update = TranslationUpdate.delta(7, 5, 4, Map.of("en", Map.of("greeting", "Hällo")),
+                Map.of("en", Set.of("farewell")), Set.of("de"));
+        TranslationUpdate copy = TranslationUpdate.fromBytes(update.toBytes());
+
+        assertEquals(7, copy.getEpoch());
+        assertEquals(5, copy.getVersion());
+        assertEquals(4, copy.getBaseVersion());
+        assertEquals(update.getValues(), copy.getValues());
+        assertEquals(update.getRemovedKeys(), copy.getRemovedKeys());
+        assertEquals(update.getRemovedLanguages(), copy.getRemovedLanguages());
+    }
+
+    @Test
+    void testDeltasCarryTheValuesOfTheirPublication() throws InterruptedException {
+        LoopbackTransport transport = new LoopbackTransport();
+        new TranslationSync(origin, transport).startPublishing();
+        TranslationHandler replica = new TranslationHandler(new PlaceholderScope());
+        TranslationSync replicaSync = new TranslationSync(replica, transport);
+        replicaSync.startReplica();
+
+        // Both deltas are delivered after the second load removed the key added by the first
+        synchronized (origin) {
+            origin.load("en", source("greeting=Hello, ${0}!\nfarewell=Bye\nshop=Shop\n"));
+            origin.load("en", source("greeting=Hi, ${0}!\n"));
+        }
+        for (int i = 0; i < 500 && replicaSync.getVersion() < 3; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(3, replicaSync.getVersion());
+        assertEquals("Hi, John!", replica.translate(Locale.ENGLISH, "greeting", "John"));
+        assertEquals("shop", replica.translate(Locale.ENGLISH, "shop"));
+    }
+
+    @Test
+    void testReplicaFollowsRestartedPublisher() {
+        LoopbackTransport transport = new LoopbackTransport();
+        TranslationSync publisher = new TranslationSync(origin, transport);
+        publisher.startPublishing();
+        origin.load("en", source("greeting=One\n"));
+        origin.load("en", source("greeting=Two\n"));
+
+        TranslationHandler replica = new TranslationHandler(new PlaceholderScope());
+        TranslationSync replicaSync = new TranslationSync(replica, transport);
+        replicaSync.startReplica();
+        assertEquals(3, replicaSync.getVersion());
+
+        publisher.stop();
+        TranslationSync restarted = new TranslationSync(origin, transport);
+        restarted.startPublishing();
+        origin.load("en", source("greeting=Three\n"));
+
+        assertEquals(restarted.getEpoch(), replicaSync.getEpoch());
+        assertEquals(2, replicaSync.getVersion());
+        assertEquals("Three", replica.translate(Locale.ENGLISH, "greeting"));
+    }
+
+    @Test
+    void testReplicaKeepsLocalLanguages() {
+        LoopbackTransport transport = new LoopbackTransport();
+        new TranslationSync(origin, transport).startPublishing();
+
+        TranslationHandler replica = new TranslationHandler(new PlaceholderScope());
+        replica.load("fr", source("greeting=Bonjour\n"));
+        new TranslationSync(replica, transport).startReplica();
+        origin.load("en", source("greeting=Hi\n"));
+
+        assertEquals("Bonjour", replica.translate(Locale.FRENCH, "greeting"));
+        assertEquals("Hi", replica.translate(Locale.ENGLISH, "greeting"));
+    }
+
+    @Test
+    void testFailedPublishDoesNotAdvanceTheVersion() {
+        List<TranslationUpdate> published = new ArrayList<>();
+        boolean[] failing = {false};
+        SyncTransport transport = new LoopbackTransport() {
+            @Override
+            public void publish(TranslationUpdate update) {
+                if (failing[0]) throw new IllegalStateException("offline");
+                published.add(update);
+                super.publish(update);
+            }
+        };
+        origin.setReporter(new TranslationReporter() {
+            @Override
+            public void listenerFailed(TranslationChangeListener listener, Throwable error) {
+                // The failed publish is expected
+            }
+        });
+        TranslationSync publisher = new TranslationSync(origin, transport);
+        publisher.startPublishing();
+
+        failing[0] = true;
+        origin.load("en", source("greeting=Lost\n"));
+        assertEquals(1, publisher.getVersion());
+
+        failing[0] = false;
+        origin.load("en", source("greeting=Back\n"));
+        assertEquals(2, publisher.getVersion());
+        TranslationUpdate update = published.get(published.size() - 1);
+        assertTrue(update.isSnapshot());
+        assertEquals(Map.of("en", Map.of("greeting", "Back")), update.getValues());
+    }
+
+}